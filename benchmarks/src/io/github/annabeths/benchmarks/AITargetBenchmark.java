@@ -0,0 +1,83 @@
+package io.github.annabeths.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.AIBoat;
+import io.github.annabeths.Boats.Boat;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * How long the AI takes to pick somewhere to sail to, with
+ * {@link AIBoat#getNewRandomValidTarget()}, and something to attack, with
+ * {@link EnemyBoat#getNearestTarget()}, as the world grows.
+ *
+ * @since Assessment 2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AITargetBenchmark {
+
+	@Param({ "50", "1000", "5000" })
+	public int entities;
+
+	private GameController gc;
+	private TargetingBoat wanderer;
+	private EnemyBoat hunter;
+
+	@Setup
+	public void setup() {
+		gc = BenchmarkWorld.create(entities);
+		wanderer = new TargetingBoat(gc, gc.bossCollege.getCenter().add(300, 0));
+		// far enough from the player that the world is searched
+		hunter = new EnemyBoat(gc, gc.bossCollege.getCenter().add(0, 300));
+		gc.world.prepare();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkWorld.stop();
+	}
+
+	@Benchmark
+	public Vector2 getNewRandomValidTarget() {
+		return wanderer.newTarget();
+	}
+
+	@Benchmark
+	public Boat getNearestTarget() {
+		return hunter.getNearestTarget();
+	}
+
+	/** Lets the benchmark ask for a new destination */
+	static class TargetingBoat extends NeutralBoat {
+		TargetingBoat(GameController controller, Vector2 position) {
+			super(controller, position);
+		}
+
+		Vector2 newTarget() {
+			return getNewRandomValidTarget();
+		}
+	}
+
+}
@@ -0,0 +1,100 @@
+package io.github.annabeths.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GameScreens.Screens;
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
+
+/**
+ * Creates the worlds the benchmarks run against. The headless backend is
+ * started so that {@code Gdx.app}, {@code Gdx.files} and the preferences work,
+ * but nothing is drawn and no textures are loaded.
+ * <p>
+ * Every world is made from the same seed, so each run of a benchmark measures
+ * the same world.
+ *
+ * @since Assessment 2
+ */
+public final class BenchmarkWorld {
+
+	/** The seed of every world */
+	public static final long SEED = 29;
+
+	private static HeadlessApplication app;
+
+	private BenchmarkWorld() {}
+
+	/** Start the headless backend, if it is not already running */
+	public static synchronized void start() {
+		if (app != null) return;
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		// the benchmarks are run on their own threads, the app never needs to render
+		config.updatesPerSecond = -1;
+		app = new HeadlessApplication(new ApplicationAdapter() {}, config);
+	}
+
+	/** Stop the headless backend, so its thread does not keep the JVM alive */
+	public static synchronized void stop() {
+		if (app == null) return;
+		app.exit();
+		app = null;
+	}
+
+	/**
+	 * Create a game, then add boats and mines spread over the map until it holds
+	 * a number of objects. One update is run, so the broadphase grids are full.
+	 * @param count the number of objects. Worlds are never smaller than the one
+	 *        the game generates.
+	 * @return the game
+	 */
+	public static GameController create(int count) {
+		start();
+		GameController gc = new GameController(new Game(), Difficulty.MEDIUM, SEED);
+		RandomStream random = RandomSource.of(gc, Stream.WORLD);
+		for (int i = 0; gc.physicsObjects.size() < count; i++) {
+			Vector2 pos = GameMap.getRandomPointInBounds(random);
+			PhysicsObject obj;
+			switch (i % 4) {
+			case 0:
+				obj = new NeutralBoat(gc, pos);
+				break;
+			case 1:
+				obj = new EnemyBoat(gc, pos);
+				break;
+			case 2:
+				obj = new FriendlyBoat(gc, pos);
+				break;
+			default:
+				obj = new Mine(gc, pos);
+			}
+			gc.NewPhysicsObject(obj);
+		}
+		gc.UpdateObjects(gc.timestep.getStep());
+		gc.ClearKilledObjects();
+		return gc;
+	}
+
+	/**
+	 * The game the worlds belong to. There are no screens, so the game can't end
+	 * part way through a benchmark.
+	 */
+	public static class Game extends eng1game {
+		@Override
+		public void gotoScreen(Screens s) {
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package io.github.annabeths.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * How long {@link PhysicsObject#CheckCollisionWith(PhysicsObject)} takes for a
+ * pair of boats that are touching, and a pair that are apart. The moving
+ * benchmarks turn one boat first, so its polygon must be transformed again, as
+ * it would be after an update.
+ *
+ * @since Assessment 2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+	@Param({ "true", "false" })
+	public boolean overlapping;
+
+	private PhysicsObject a;
+	private PhysicsObject b;
+
+	@Setup
+	public void setup() {
+		GameController gc = BenchmarkWorld.create(0);
+		a = new NeutralBoat(gc, new Vector2(500, 500));
+		b = new EnemyBoat(gc, overlapping ? new Vector2(520, 510) : new Vector2(900, 900));
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkWorld.stop();
+	}
+
+	@Benchmark
+	public boolean checkCollisionWith() {
+		return a.CheckCollisionWith(b);
+	}
+
+	@Benchmark
+	public boolean checkCollisionWithMoving() {
+		a.collisionPolygon.rotate(1);
+		return a.CheckCollisionWith(b);
+	}
+
+}
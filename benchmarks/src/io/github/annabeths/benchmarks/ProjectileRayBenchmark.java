@@ -0,0 +1,77 @@
+package io.github.annabeths.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectileRay;
+
+/**
+ * How long it takes to fire a ray, as the player does, through the broadphase
+ * grids, and through every object in the world for comparison. Each ray is
+ * fired at a new angle from the middle of the map. The rays deal no damage, so
+ * the world stays the same.
+ *
+ * @since Assessment 2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectileRayBenchmark {
+
+	@Param({ "50", "1000", "5000" })
+	public int entities;
+
+	private GameController gc;
+	private Vector2 origin;
+	private float angle = 0;
+
+	@Setup
+	public void setup() {
+		gc = BenchmarkWorld.create(entities);
+		origin = gc.bossCollege.getCenter();
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkWorld.stop();
+	}
+
+	private ProjectileRay nextRay() {
+		angle = (angle + 7) % 360;
+		return new ProjectileRay(origin, angle, ProjectileData.RAY, true, 1000f, 0);
+	}
+
+	@Benchmark
+	public ProjectileRay fireRay() {
+		ProjectileRay ray = nextRay();
+		ray.fireRay(1, gc.collisionGrid, gc.staticGrid);
+		return ray;
+	}
+
+	@Benchmark
+	public ProjectileRay fireRayBruteForce() {
+		ProjectileRay ray = nextRay();
+		ray.fireRay(gc.physicsObjects, 1);
+		return ray;
+	}
+
+}
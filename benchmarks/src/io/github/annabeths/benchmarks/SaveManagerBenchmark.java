@@ -0,0 +1,73 @@
+package io.github.annabeths.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.SaveManager;
+
+/**
+ * How long it takes to save a game with {@link SaveManager}, load it again, and
+ * do both. The saves are written to the libGDX preferences, like the game's
+ * own, under their own name.
+ *
+ * @since Assessment 2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveManagerBenchmark {
+
+	private static final String SAVE_NAME = "benchmark";
+
+	@Param({ "50", "1000" })
+	public int entities;
+
+	private GameController gc;
+	private BenchmarkWorld.Game game;
+
+	@Setup
+	public void setup() {
+		gc = BenchmarkWorld.create(entities);
+		game = new BenchmarkWorld.Game();
+		// there must be a save to load before the first load
+		SaveManager.save(SAVE_NAME, gc);
+	}
+
+	@TearDown
+	public void tearDown() {
+		BenchmarkWorld.stop();
+	}
+
+	@Benchmark
+	public void save() {
+		SaveManager.save(SAVE_NAME, gc);
+	}
+
+	@Benchmark
+	public GameController load() {
+		return new GameController(game, SAVE_NAME);
+	}
+
+	@Benchmark
+	public GameController roundTrip() {
+		SaveManager.save(SAVE_NAME, gc);
+		return new GameController(game, SAVE_NAME);
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.github.annabeths.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * How long one tick of {@link GameController#UpdateObjects(float)} takes as the
+ * world grows. Killed objects are cleared after each tick, as the game does.
+ * The world is made again for each iteration, so boats sinking and the player
+ * dying over time do not make later iterations cheaper.
+ *
+ * @since Assessment 2
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateObjectsBenchmark {
+
+	@Param({ "50", "200", "1000", "5000" })
+	public int entities;
+
+	private GameController gc;
+	private float step;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		gc = BenchmarkWorld.create(entities);
+		step = gc.timestep.getStep();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkWorld.stop();
+	}
+
+	@Benchmark
+	public void updateObjects() {
+		gc.UpdateObjects(step);
+		gc.ClearKilledObjects();
+	}
+
+}
@@ -1,11 +1,17 @@
 package io.github.annabeths.Boats;
 
-import com.badlogic.gdx.math.Intersector;
+import java.io.IOException;
+
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
-import io.github.annabeths.Colleges.College;
 import io.github.annabeths.GameScreens.GameController;
-import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
+import io.github.annabeths.Level.NavigationGrid;
 
 /**
  * @since Assessment 2
@@ -24,6 +30,11 @@ public abstract class AIBoat extends Boat {
 
 	/** How close should the boat be to its destination before setting a new one */
 	float destinationThreshold = 50f;
+	/**
+	 * Reused to hold the boat's center. Only the boat itself uses it, so boats
+	 * thinking at the same time don't share it.
+	 */
+	private final Vector2 center = new Vector2();
 
 	/**
 	 * Constructor for AIBoat
@@ -82,9 +93,11 @@ public abstract class AIBoat extends Boat {
 	/**
 	 * Figure out the angle between the boat and the destination
 	 * @return The angle to the destination
+	 * @tt.updated Assessment 2
 	 */
 	public float getAngleToDest() {
-		return destination == null ? -1 : destination.cpy().sub(getCenter()).angleDeg();
+		return destination == null ? -1
+				: MathHelper.angleDeg(destination.x - getCenterX(), destination.y - getCenterY());
 	}
 
 
@@ -100,31 +113,55 @@ public abstract class AIBoat extends Boat {
 		updateDestination();
 	}
 
+	/** @since Assessment 2 */
+	@Override
+	public boolean canUpdateCoarsely() {
+		return true;
+	}
+
+	/**
+	 * Sail straight at the destination, turning to face it at once, and choose a
+	 * new one when it is reached. Only used far from the player, where the turn
+	 * can't be seen.
+	 * @param delta the time since the boat was last updated
+	 * @since Assessment 2
+	 */
+	@Override
+	public void UpdateCoarse(float delta) {
+		if (HP <= 0) Destroy();
+		updateDestination();
+		rotation = getAngleToDest();
+		sprite.setRotation(rotation);
+		collisionPolygon.setRotation(rotation - 90);
+		Move(delta, 1);
+	}
+
 	/**
 	 * If the AIBoat has reached its target, choose a new random destination.
+	 * @tt.updated Assessment 2
 	 */
 	public void updateDestination() {
-		if (destination == null || getCenter().dst(destination) <= destinationThreshold) {
+		if (destination == null
+				|| destination.dst(getCenterX(), getCenterY()) <= destinationThreshold) {
 			Vector2 target = getNewRandomValidTarget();
 			SetDestination(target);
 		}
 	}
 
 	/**
-	 * Continually generates a random target until a valid one is found.
+	 * Picks a random target the boat can sail straight to, using the game's
+	 * {@link NavigationGrid}. The number of points tried is bounded, so a boat
+	 * hemmed in by colleges settles for a point short of one rather than trying
+	 * forever.
 	 * 
 	 * @return The new target destination
 	 * @author James Burnell
+	 * @tt.updated Assessment 2
 	 * @see #isDestValid(Vector2)
 	 */
 	protected Vector2 getNewRandomValidTarget() {
-		Vector2 target = GameMap.getRandomPointInBounds();
-
-		// Keep going until we find a valid destination
-		while (!isDestValid(target)) { // TODO: Write more efficient algorithm
-			target = GameMap.getRandomPointInBounds();
-		}
-		return target;
+		RandomStream random = RandomSource.of(controller, Stream.AI);
+		return controller.getNavigation().getRandomReachablePoint(getCenter(center), random);
 	}
 
 	/**
@@ -133,16 +170,11 @@ public abstract class AIBoat extends Boat {
 	 * @param target the target destination
 	 * @return {@code true} if the destination was valid, {@code false} otherwise
 	 * @author James Burnell
+	 * @tt.updated Assessment 2
 	 */
 	public boolean isDestValid(Vector2 target) {
 		// We want to check if there is any college between the boat and its destination
-		for (College college : controller.colleges) {
-			if (Intersector.intersectSegmentPolygon(getCenter(), target,
-					college.collisionPolygon)) {
-				return false;
-			}
-		}
-		return true;
+		return controller.getNavigation().isVisible(getCenter(center), target);
 	}
 
 	/**
@@ -170,6 +202,35 @@ public abstract class AIBoat extends Boat {
 		return destinationThreshold;
 	}
 
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeByte(state.ordinal());
+		out.writeFloat(initialPosition.x);
+		out.writeFloat(initialPosition.y);
+		out.writeBoolean(destination != null);
+		if (destination != null) {
+			out.writeFloat(destination.x);
+			out.writeFloat(destination.y);
+		}
+		out.writeFloat(plunderValue);
+		out.writeFloat(xpValue);
+		out.writeFloat(destinationThreshold);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		state = AIState.values()[in.readByte()];
+		initialPosition = new Vector2(in.readFloat(), in.readFloat());
+		destination = in.readBoolean() ? new Vector2(in.readFloat(), in.readFloat()) : null;
+		plunderValue = in.readFloat();
+		xpValue = in.readFloat();
+		destinationThreshold = in.readFloat();
+	}
+
 	/**
 	 * abstract method for when the AIBoat shoots a projectile.
 	 */
@@ -0,0 +1,71 @@
+package io.github.annabeths.Boats;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Runs the {@link AttackBoat#think() think} step of many boats at once, spread
+ * over the cores of the common {@link ForkJoinPool}. Thinking only reads the
+ * world and writes to the boat doing it, so the boats can think in any order
+ * and the result is the same as thinking one at a time.
+ *
+ * @since Assessment 2
+ */
+public final class AIPlanner {
+
+	/** Whether boats may think on several threads, turn off to debug the AI */
+	public static boolean PARALLEL = true;
+	/** The fewest boats worth splitting across threads */
+	public static int PARALLEL_THRESHOLD = 32;
+	/** The most boats each task thinks for without splitting further */
+	private static final int BATCH_SIZE = 8;
+
+	private AIPlanner() {}
+
+	/**
+	 * Let every boat decide what to do this tick. The world must not change until
+	 * this returns.
+	 *
+	 * @param boats the boats to think for
+	 */
+	public static void think(Array<? extends AttackBoat> boats) {
+		if (!PARALLEL || boats.size < PARALLEL_THRESHOLD) {
+			think(boats, 0, boats.size);
+		} else {
+			ForkJoinPool.commonPool().invoke(new ThinkTask(boats, 0, boats.size));
+		}
+	}
+
+	private static void think(Array<? extends AttackBoat> boats, int from, int to) {
+		for (int i = from; i < to; i++) {
+			boats.get(i).think();
+		}
+	}
+
+	/** Thinks for a range of boats, splitting it in half until it is small */
+	private static class ThinkTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Array<? extends AttackBoat> boats;
+		private final int from, to;
+
+		ThinkTask(Array<? extends AttackBoat> boats, int from, int to) {
+			this.boats = boats;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= BATCH_SIZE) {
+				think(boats, from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new ThinkTask(boats, from, mid), new ThinkTask(boats, mid, to));
+		}
+	}
+
+}
@@ -1,9 +1,14 @@
 package io.github.annabeths.Boats;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.Level.FlowField;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
 
@@ -25,6 +30,17 @@ public abstract class AttackBoat extends AIBoat {
 	 * The Boat that is being currently targeted. null if there is no target.
 	 */
 	public Boat target;
+	/** Set by {@link #think()}, so the next update does not think again */
+	private boolean thought = false;
+	/**
+	 * Set by {@link #think()} when approaching, so {@link #approach(float)} knows
+	 * the path to the target has already been checked
+	 */
+	private boolean approachChecked = false;
+	/** Whether the path to the target was clear when it was checked */
+	private boolean approachValid = false;
+	/** Reused to hold the target's center while thinking */
+	private final Vector2 targetCenter = new Vector2();
 
 	/**
 	 * Constructor for AttackBoat.
@@ -69,17 +85,18 @@ public abstract class AttackBoat extends AIBoat {
 
 	/**
 	 * Update the AttackBoat's AI-state based on its distance from its target.
+	 * @tt.updated Assessment 2
 	 */
 	public void updateAIState() {
 		target = getNearestTarget();
 		if (target == null) {
 			state = AIState.IDLE;
 		} else {
-			float dstToTarget = target.getCenter().dst(getCenter());
+			float dst2ToTarget = dst2To(target);
 
-			if (dstToTarget < attackRange) {
+			if (dst2ToTarget < attackRange * attackRange) {
 				state = AIState.ATTACK;
-			} else if (dstToTarget < approachRange) {
+			} else if (dst2ToTarget < approachRange * approachRange) {
 				// move towards player if possible
 				state = AIState.APPROACH;
 			} else {
@@ -89,15 +106,33 @@ public abstract class AttackBoat extends AIBoat {
 	}
 
 	/**
-	 * Called once per-frame, updates state of the boat.
+	 * Decide what to do this tick, by choosing a target and a state, and checking
+	 * if the target can be reached. This only reads the rest of the world, so
+	 * many boats can think at the same time. Anything that changes the world or
+	 * uses random numbers is left to {@link #Update(float)}.
+	 * @see AIPlanner
+	 * @since Assessment 2
+	 */
+	public void think() {
+		updateAIState();
+		approachChecked = state == AIState.APPROACH && target != null;
+		if (approachChecked) approachValid = isDestValid(target.getCenter(targetCenter));
+		thought = true;
+	}
+
+	/**
+	 * Called once per-frame, updates state of the boat. If the boat has not
+	 * already {@link #think() thought} this tick, it does so first.
 	 * @param delta time since last frame
+	 * @tt.updated Assessment 2
 	 */
 	@Override
 	public void Update(float delta) {
 		if (isDead()) Destroy();
 		timeSinceLastShot += delta;
 
-		updateAIState();
+		if (!thought) think();
+		thought = false;
 
 		switch (state) {
 		case APPROACH:
@@ -117,23 +152,81 @@ public abstract class AttackBoat extends AIBoat {
 	}
 
 	/**
-	 * Approach the Boat's target. Called when the Boat's AIState is {@link AIState#APPROACH approach}
+	 * Far from the player there is nothing worth attacking, so the boat forgets
+	 * its target without looking for a new one, and sails like any other boat.
+	 * @param delta the time since the boat was last updated
+	 * @since Assessment 2
+	 */
+	@Override
+	public void UpdateCoarse(float delta) {
+		if (isDead()) Destroy();
+		timeSinceLastShot += delta;
+		thought = false;
+		target = null;
+		state = AIState.IDLE;
+		super.UpdateCoarse(delta);
+	}
+
+	/**
+	 * Approach the Boat's target. Called when the Boat's AIState is {@link AIState#APPROACH approach}.
+	 * If a college is in the way, the boat follows its {@link #getPursuitField()
+	 * pursuit field} around it, or wanders if it has none.
 	 * @param delta the time since last update
+	 * @tt.updated Assessment 2
 	 */
 	public void approach(float delta) {
-		if (isDestValid(target.getCenter())) {
-			destination = target.getCenter();
-		} else {
+		boolean valid = approachChecked ? approachValid
+				: isDestValid(target.getCenter(targetCenter));
+		approachChecked = false;
+		if (valid) {
+			destination = target.getCenter(destinationVector());
+		} else if (!followPursuitField()) {
 			idle();
 		}
 	}
 
+	/**
+	 * Head for the next cell of the {@link #getPursuitField() pursuit field}
+	 * @return {@code true} if the destination was set, {@code false} if there is
+	 *         no field or it does not lead anywhere from here
+	 * @since Assessment 2
+	 */
+	private boolean followPursuitField() {
+		FlowField field = getPursuitField();
+		if (field == null) return false;
+		Vector2 point = destinationVector();
+		if (!field.getNextPoint(getCenterX(), getCenterY(), point)) return false;
+		destination = point;
+		return true;
+	}
+
+	/**
+	 * @return the {@link #destination} to set to a new point, or a new vector if
+	 *         there is none, so following a target does not make a vector each
+	 *         tick
+	 * @since Assessment 2
+	 */
+	private Vector2 destinationVector() {
+		return destination == null ? new Vector2() : destination;
+	}
+
+	/**
+	 * @return the field leading to the {@link #target} around the colleges, or
+	 *         {@code null} if there isn't one
+	 * @since Assessment 2
+	 */
+	protected FlowField getPursuitField() {
+		return null;
+	}
+
 	/**
 	 * Attack the Boat's target. Called when the Boat's AIState is {@link AIState#ATTACK attack}
 	 * @param delta the time since last update
+	 * @tt.updated Assessment 2
 	 */
 	public void attack(float delta) {
-		float angToTarget = getCenter().sub(target.getCenter()).angleDeg();
+		float angToTarget = MathHelper.angleDeg(getCenterX() - target.getCenterX(),
+				getCenterY() - target.getCenterY());
 
 		// Move at a 90-degree angle to the play to align the boat to shoot
 		destination = null;
@@ -158,6 +251,33 @@ public abstract class AttackBoat extends AIBoat {
 		}
 	}
 
+	/**
+	 * The {@link #target} is not written, as it is an object rather than a value.
+	 * @since Assessment 2
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(attackRange);
+		out.writeFloat(approachRange);
+		out.writeByte(projectileType.ordinal());
+		out.writeBoolean(thought);
+		out.writeBoolean(approachChecked);
+		out.writeBoolean(approachValid);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		attackRange = in.readFloat();
+		approachRange = in.readFloat();
+		projectileType = ProjectileData.values()[in.readByte()];
+		thought = in.readBoolean();
+		approachChecked = in.readBoolean();
+		approachValid = in.readBoolean();
+	}
+
 	/**
 	 * Locates the nearest target the boat should follow/attack
 	 * @return The boat to target
@@ -1,17 +1,24 @@
 package io.github.annabeths.Boats;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.GameGenerics.IHealth;
 import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
 import io.github.annabeths.Level.GameMap;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
 
 public abstract class Boat extends PhysicsObject implements IHealth {
 	GameController controller;
@@ -53,11 +60,12 @@ public abstract class Boat extends PhysicsObject implements IHealth {
 	 * @param delta time since last frame
 	 * @param multiplier multiplier to set forward or reverse motion (1 or -1)
 	 * @since Assessment 1
+	 * @tt.updated Assessment 2
 	 */
 	void Move(float delta, int multiplier) {
 		// Convention: 0 degrees means the object is pointing right, positive angles are
 		// counterclockwise
-		Vector2 oldPos = position.cpy();
+		float oldX = position.x, oldY = position.y;
 		position.x += Math.cos(Math.toRadians(rotation)) * speed * delta * multiplier;
 		position.y += Math.sin(Math.toRadians(rotation)) * speed * delta * multiplier;
 
@@ -66,8 +74,8 @@ public abstract class Boat extends PhysicsObject implements IHealth {
 				position.y - getLocalCenterY() / 2 - 10);
 		collisionPolygon.setOrigin(25, 50);
 
-		if (!GameMap.isPointInBounds(getCenter())) {
-			position = oldPos.cpy();
+		if (!GameMap.isPointInBounds(getCenterX(), getCenterY())) {
+			position.set(oldX, oldY);
 		}
 	}
 
@@ -157,8 +165,33 @@ public abstract class Boat extends PhysicsObject implements IHealth {
 			float spdMul) {
 		boolean isPlayer = this instanceof PlayerBoat;
 		boolean isFriendly = this instanceof FriendlyBoat || this instanceof PlayerBoat;
-		return new Projectile(getCenter(), rotation + rotationOffset, type, isPlayer, isFriendly, dmgMul,
-				spdMul);
+		return ProjectilePool.obtain(getCenterX(), getCenterY(), rotation + rotationOffset, type,
+				isPlayer, isFriendly, dmgMul, spdMul,
+				RandomSource.of(controller, Stream.PROJECTILES));
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(HP);
+		out.writeFloat(maxHP);
+		out.writeFloat(speed);
+		out.writeFloat(turnSpeed);
+		out.writeFloat(shotDelay);
+		out.writeFloat(timeSinceLastShot);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		HP = in.readFloat();
+		maxHP = in.readFloat();
+		speed = in.readFloat();
+		turnSpeed = in.readFloat();
+		shotDelay = in.readFloat();
+		timeSinceLastShot = in.readFloat();
 	}
 
 	/**
@@ -1,12 +1,14 @@
 package io.github.annabeths.Boats;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.Collectables.Powerup;
 import io.github.annabeths.Collectables.PowerupType;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
+import io.github.annabeths.Level.FlowField;
 import io.github.annabeths.Projectiles.Projectile;
 
 /**
@@ -41,24 +43,26 @@ public class EnemyBoat extends AttackBoat {
 	/**
 	 * Get the nearest PlayerBoat or FriendlyBoat in range.
 	 * @return an instance of Boat (either a PlayerBoat or FriendlyBoat)
+	 * @tt.updated Assessment 2
 	 */
 	public Boat getNearestTarget() {
-		if (controller.playerBoat.getCenter().dst(getCenter()) < approachRange) {
+		if (dst2To(controller.playerBoat) < approachRange * approachRange) {
 			return controller.playerBoat;
 		}
 
-		FriendlyBoat nearestTarget = null;
-		float shortestDistance = 1000;
-		for (PhysicsObject obj : controller.physicsObjects) {
-			if (obj instanceof FriendlyBoat) {
-				float dst = obj.getCenter().dst(getCenter());
-				if (dst < shortestDistance) {
-					nearestTarget = (FriendlyBoat) obj;
-					shortestDistance = dst;
-				}
-			}
-		}
-		return nearestTarget;
+		return controller.world.nearest(getCenterX(), getCenterY(), 1000, FriendlyBoat.class);
+	}
+
+	/**
+	 * Every enemy boat chasing the player, or a friendly boat, follows the same
+	 * field, kept up to date by the {@link GameController}.
+	 * @since Assessment 2
+	 */
+	@Override
+	protected FlowField getPursuitField() {
+		if (target == controller.playerBoat) return controller.playerFlow;
+		if (target instanceof FriendlyBoat) return controller.friendlyFlow;
+		return null;
 	}
 
 	/**
@@ -68,43 +72,41 @@ public class EnemyBoat extends AttackBoat {
 	@Override
 	public void Destroy() {
 		killOnNextTick = true;
-		if (MathUtils.randomBoolean(0.2f)) {
-			controller.NewPhysicsObject(new Powerup(PowerupType.randomPower(), getCenter()));
+		RandomStream random = RandomSource.of(controller, Stream.LOOT);
+		if (random.randomBoolean(0.2f)) {
+			controller.NewPhysicsObject(new Powerup(PowerupType.randomPower(random), getCenter()));
 		}
 
 	}
 
 	/**
-	 * Called when the boat collides with another PhysicsObject.
-	 * @param other the object collided with
+	 * Called when the boat is hit by a projectile. Only projectiles fired by the
+	 * player or friendly boats deal damage.
+	 * @param p the projectile
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
+	public void onProjectileHit(Projectile p) {
 		float dmgToInflict = 0;
-		// whether the object belongs to the player
-		boolean objWasPlayer = false;
-
-		if (other instanceof Projectile) {
-			Projectile p = (Projectile) other;
-			if (p.isPlayerProjectile()) {
-				objWasPlayer = true;
-			}
-			if(p.isFriendlyProjectile()){
-				other.kill();
-				dmgToInflict = p.getDamage();
-			}
-		} else if (other instanceof PlayerBoat) {
-			((PlayerBoat) other).damage(50);
-			Destroy();
-			controller.addXp((getHealth() / getMaxHealth()) * xpValue);
-			controller.addPlunder(plunderValue);
+		if (p.isFriendlyProjectile()) {
+			p.kill();
+			dmgToInflict = p.getDamage();
 		}
 
-		if (objWasPlayer && getHealth() - dmgToInflict <= 0){
+		if (p.isPlayerProjectile() && getHealth() - dmgToInflict <= 0) {
 			controller.addXp(xpValue);
 			controller.addPlunder(plunderValue);
 		}
 		damage(dmgToInflict);
 	}
 
+	/**
+	 * Called when the player rams the boat, which destroys it
+	 * @param player the player boat
+	 */
+	public void onPlayerRam(PlayerBoat player) {
+		player.damage(50);
+		Destroy();
+		controller.addXp((getHealth() / getMaxHealth()) * xpValue);
+		controller.addPlunder(plunderValue);
+	}
+
 }
@@ -2,7 +2,6 @@ package io.github.annabeths.Boats;
 
 import com.badlogic.gdx.math.Vector2;
 
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.Projectiles.Projectile;
 
@@ -36,35 +35,17 @@ public class FriendlyBoat extends AttackBoat {
 	 * @return an instance of EnemyBoat
 	 */
 	public EnemyBoat getNearestTarget() {
-		EnemyBoat nearestTarget = null;
-		float shortestDistance = 1000;
-		for (PhysicsObject obj : controller.physicsObjects) {
-			if (obj instanceof EnemyBoat) {
-				float dst = obj.getCenter().dst(getCenter());
-				if (dst < shortestDistance) {
-					nearestTarget = (EnemyBoat) obj;
-					shortestDistance = dst;
-				}
-			}
-		}
-		return nearestTarget;
+		return controller.world.nearest(getCenterX(), getCenterY(), 1000, EnemyBoat.class);
 	}
 
 	/**
-	 * Called when the boat collides with another PhysicsObject.
-	 * @param other the object collided with
+	 * Called when the boat is hit by a projectile. Projectiles fired by the player
+	 * or friendly boats are ignored.
+	 * @param p the projectile
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
-		float dmgToInflict = 0;
-
-		if (other instanceof Projectile) {
-			Projectile p = (Projectile) other;
-			if (!p.isFriendlyProjectile()) {
-				other.kill();
-				dmgToInflict = p.getDamage();
-			}
-		}
-		damage(dmgToInflict);
+	public void onProjectileHit(Projectile p) {
+		if (p.isFriendlyProjectile()) return;
+		p.kill();
+		damage(p.getDamage());
 	}
 }
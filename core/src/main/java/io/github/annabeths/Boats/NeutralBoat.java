@@ -1,12 +1,13 @@
 package io.github.annabeths.Boats;
 
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.Collectables.Powerup;
 import io.github.annabeths.Collectables.PowerupType;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
 import io.github.annabeths.Projectiles.Projectile;
 
 public class NeutralBoat extends AIBoat {
@@ -38,8 +39,9 @@ public class NeutralBoat extends AIBoat {
 	 */
 	public void Destroy() {
 		killOnNextTick = true;
-		if (MathUtils.randomBoolean(0.2f)) {
-			controller.NewPhysicsObject(new Powerup(PowerupType.randomPower(), getCenter()));
+		RandomStream random = RandomSource.of(controller, Stream.LOOT);
+		if (random.randomBoolean(0.2f)) {
+			controller.NewPhysicsObject(new Powerup(PowerupType.randomPower(random), getCenter()));
 		}
 	}
 
@@ -51,28 +53,29 @@ public class NeutralBoat extends AIBoat {
 	}
 
 	/**
+	 * Called when the player rams the boat, which destroys it
+	 * @param player the player boat
 	 * @author James Burnell
 	 * @tt.updated Assessment 2
 	 */
-	public void OnCollision(PhysicsObject object) {
-		float dmgToInflict = 0;
-		// whether the object belongs to the player
-		boolean objWasPlayer = false;
+	public void onPlayerRam(PlayerBoat player) {
+		player.damage(50);
+		Destroy();
+		controller.addXp((getHealth() / getMaxHealth()) * xpValue);
+		controller.addPlunder(plunderValue);
+	}
 
-		if (object instanceof PlayerBoat) {
-			// Hit by player, destroy
-			((PlayerBoat) object).damage(50);
-			Destroy();
-			controller.addXp((getHealth() / getMaxHealth()) * xpValue);
-			controller.addPlunder(plunderValue);
-		} else if (object instanceof Projectile) {
-			object.kill();
-			Projectile p = (Projectile) object;
-			objWasPlayer = p.isPlayerProjectile();
-			dmgToInflict = p.getDamage();
-		}
+	/**
+	 * Called when the boat is hit by a projectile
+	 * @param p the projectile
+	 * @author James Burnell
+	 * @tt.updated Assessment 2
+	 */
+	public void onProjectileHit(Projectile p) {
+		p.kill();
+		float dmgToInflict = p.getDamage();
 
-		if (objWasPlayer && getHealth() - dmgToInflict <= 0){
+		if (p.isPlayerProjectile() && getHealth() - dmgToInflict <= 0) {
 			controller.addXp(xpValue);
 			controller.addPlunder(plunderValue);
 		}
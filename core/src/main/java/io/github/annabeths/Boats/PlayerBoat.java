@@ -2,6 +2,7 @@ package io.github.annabeths.Boats;
 
 import static com.badlogic.gdx.Gdx.input;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,17 +13,21 @@ import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Collectables.PowerupType;
 import io.github.annabeths.Colleges.EnemyCollege;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameGenerics.Upgrades;
 import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.DebugUtils;
 import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
 import io.github.annabeths.Projectiles.ProjectileRay;
+import io.github.annabeths.Replay.InputFrame;
 
 /**
  * @author Leif Kemp
@@ -62,6 +67,25 @@ public class PlayerBoat extends Boat {
 	/** The type of projectile currently in use */
 	public ProjectileData activeProjectileType;
 
+	/** If a shot was pressed since the last update */
+	private boolean shotQueued = false;
+	/** A bit for each powerup whose key was pressed since the last update */
+	private int powerupsQueued = 0;
+	/**
+	 * If presses are queued once per frame by {@link #queueInput()}, rather than
+	 * read by each update
+	 */
+	private boolean inputQueuedPerFrame = false;
+	/** The input used by the last update */
+	private final InputFrame lastInput = new InputFrame();
+	/** Reused to find where the mouse is in the world */
+	private final Vector3 mousePosition = new Vector3();
+	/**
+	 * The input to use for the next update instead of the keyboard and mouse, or
+	 * {@code null} to read them
+	 */
+	private InputFrame replayInput = null;
+
 	/**
 	 * Constructor for PlayerBoat.
 	 * @author James Burnell
@@ -112,18 +136,25 @@ public class PlayerBoat extends Boat {
 	}
 
 	/**
-	 * Processes keyboard and mouse inputs
+	 * Processes keyboard and mouse inputs, or the input given to
+	 * {@link #replayInput(InputFrame)} if there is one
 	 * @param delta the time since the last update in seconds
 	 * @since Assessment 2
 	 * @author James Burnell
 	 * @author Hector Woods
 	 * @author Ben Faulkner
+	 * @tt.updated Assessment 2
 	 */
 	public void processInput(float delta) {
-		boolean up = input.isKeyPressed(Keys.W);
-		boolean down = input.isKeyPressed(Keys.S);
-		boolean left = input.isKeyPressed(Keys.A);
-		boolean right = input.isKeyPressed(Keys.D);
+		InputFrame replay = replayInput;
+		boolean up = replay != null ? replay.up : input.isKeyPressed(Keys.W);
+		boolean down = replay != null ? replay.down : input.isKeyPressed(Keys.S);
+		boolean left = replay != null ? replay.left : input.isKeyPressed(Keys.A);
+		boolean right = replay != null ? replay.right : input.isKeyPressed(Keys.D);
+		lastInput.up = up;
+		lastInput.down = down;
+		lastInput.left = left;
+		lastInput.right = right;
 
 		int movMul = activePowerups.containsKey(PowerupType.SPEED) ? 2 : 1;
 
@@ -132,16 +163,17 @@ public class PlayerBoat extends Boat {
 		if (up) Move(delta, movMul);
 		if (down) Move(delta, -movMul);
 
-		// make sure we don't fire when hovering over a button and clicking
-		// doesn't matter if we're over a button or not when pressing space
-		boolean click = input.isButtonJustPressed(Buttons.LEFT)
-				&& !controller.hud.hoveringOverButton;
-		if ((click || input.isKeyJustPressed(Keys.SPACE)) && shotDelay <= timeSinceLastShot) {
+		if (replay != null) shotQueued = replay.fire;
+		else if (!inputQueuedPerFrame) queueShot();
+		lastInput.fire = shotQueued;
+		if (shotQueued && shotDelay <= timeSinceLastShot) {
 			Shoot();
 			timeSinceLastShot = 0;
 		}
+		shotQueued = false;
 
 		processPowerupInput(delta);
+		replayInput = null;
 	}
 
 	/**
@@ -151,44 +183,92 @@ public class PlayerBoat extends Boat {
 	 * @param delta the time since the last update
 	 */
 	public void processPowerupInput(float delta) {
+		if (replayInput != null) powerupsQueued = replayInput.powerups;
+		else if (!inputQueuedPerFrame) queuePowerups();
+		lastInput.powerups = powerupsQueued;
 		PowerupType[] powerups = PowerupType.values();
-		if (input.isKeyJustPressed(Keys.NUM_1) || input.isKeyJustPressed(Keys.NUMPAD_1))
-			activatePowerup(powerups[0]);
-		if (input.isKeyJustPressed(Keys.NUM_2) || input.isKeyJustPressed(Keys.NUMPAD_2))
-			activatePowerup(powerups[1]);
-		if (input.isKeyJustPressed(Keys.NUM_3) || input.isKeyJustPressed(Keys.NUMPAD_3))
-			activatePowerup(powerups[2]);
-		if (input.isKeyJustPressed(Keys.NUM_4) || input.isKeyJustPressed(Keys.NUMPAD_4))
-			activatePowerup(powerups[3]);
-		if (input.isKeyJustPressed(Keys.NUM_5) || input.isKeyJustPressed(Keys.NUMPAD_5))
-			activatePowerup(powerups[4]);
+		for (int i = 0; i < powerups.length; i++) {
+			if ((powerupsQueued & (1 << i)) != 0) activatePowerup(powerups[i]);
+		}
+		powerupsQueued = 0;
 	}
 
 	/**
-	 * Method that executes when a collision is detected
-	 * @param other the other object, as a PhysicsObject to be generic
-	 * @author Annabeth
-	 * @author James Burnell
-	 * @tt.updated Assessment 2
+	 * Read the presses made this frame, to be handled by the next update. Once
+	 * this has been called, updates stop reading presses themselves, so it must
+	 * then be called every frame. This means a press is handled exactly once, even
+	 * if a frame runs no updates or several.
+	 * @since Assessment 2
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
-		// how much damage to deal to the player
-		float dmgToInflict = 0;
-
-		if (other instanceof Projectile) { // check the type of object passed
-			Projectile p = (Projectile) other;
-			if (!p.isFriendlyProjectile()) {
-				p.kill();
-				dmgToInflict = p.getDamage();
+	public void queueInput() {
+		inputQueuedPerFrame = true;
+		queueShot();
+		queuePowerups();
+	}
+
+	/**
+	 * Use recorded input for the next update, instead of reading the keyboard and
+	 * mouse. Only the next update uses it, so this must be called before every
+	 * update that should be replayed.
+	 * @param frame the input to use
+	 * @since Assessment 2
+	 */
+	public void replayInput(InputFrame frame) {
+		replayInput = frame;
+	}
+
+	/**
+	 * Get the input used by the last update, whether it was read from the
+	 * keyboard and mouse or replayed
+	 * @return the input, this should not be modified
+	 * @since Assessment 2
+	 */
+	public InputFrame getLastInput() {
+		return lastInput;
+	}
+
+	private void queueShot() {
+		// make sure we don't fire when hovering over a button and clicking
+		// doesn't matter if we're over a button or not when pressing space
+		boolean click = input.isButtonJustPressed(Buttons.LEFT)
+				&& !controller.hud.hoveringOverButton;
+		if (click || input.isKeyJustPressed(Keys.SPACE)) shotQueued = true;
+	}
+
+	private void queuePowerups() {
+		int count = PowerupType.values().length;
+		for (int i = 0; i < count; i++) {
+			if (input.isKeyJustPressed(Keys.NUM_1 + i)
+					|| input.isKeyJustPressed(Keys.NUMPAD_1 + i)) {
+				powerupsQueued |= 1 << i;
 			}
-		} else if (other instanceof EnemyCollege) {
-			// End game if player crashes into college
-			controller.gameOver();
 		}
+	}
 
+	/**
+	 * Called when the boat is hit by a projectile. Projectiles fired by the player
+	 * or friendly boats are ignored.
+	 * @param p the projectile
+	 * @author Annabeth
+	 * @author James Burnell
+	 * @tt.updated Assessment 2
+	 * @see io.github.annabeths.Physics.CollisionTable
+	 */
+	public void onProjectileHit(Projectile p) {
+		if (p.isFriendlyProjectile()) return;
+		p.kill();
 		// Deal damage if player is not invincible
-		if (!isInvincible()) damage(dmgToInflict);
+		if (!isInvincible()) damage(p.getDamage());
+	}
+
+	/**
+	 * Called when the boat crashes into an enemy college, which ends the game.
+	 * @param college the college
+	 * @author Annabeth
+	 * @tt.updated Assessment 2
+	 */
+	public void onCollegeCrash(EnemyCollege college) {
+		controller.gameOver();
 	}
 
 	/**
@@ -240,13 +320,15 @@ public class PlayerBoat extends Boat {
 	 * @param dmgMul the damage multiplier
 	 */
 	public void shootRay(float dmgMul) {
-		float angle = getAngleBetweenMouseAndBoat();
-		angle += MathUtils.random(-5, 5); // randomize ray so it is not perfect
+		float angle = replayInput != null ? replayInput.aim : getAngleBetweenMouseAndBoat();
+		lastInput.aim = angle;
+		// randomize ray so it is not perfect
+		angle += RandomSource.of(controller, Stream.PROJECTILES).random(-5, 5);
 		angle = MathHelper.normalizeAngle(angle);
 
 		ProjectileRay pr = new ProjectileRay(getCenter(), angle, activeProjectileType, true, 500f,
 				dmgMul);
-		pr.fireRay(controller.physicsObjects, 1);
+		pr.fireRay(1, controller.collisionGrid, controller.staticGrid);
 		controller.rays.add(pr);
 	}
 
@@ -260,11 +342,10 @@ public class PlayerBoat extends Boat {
 	public float getAngleBetweenMouseAndBoat() {
 		int mouseX = input.getX();
 		int mouseY = input.getY();
-		Vector3 pos3 = new Vector3(mouseX, mouseY, 0);
+		Vector3 pos3 = mousePosition.set(mouseX, mouseY, 0);
 		controller.camera.unproject(pos3);
-		Vector2 pos = new Vector2(pos3.x, pos3.y);
 
-		return pos.sub(getCenter()).angleDeg();
+		return MathHelper.angleDeg(pos3.x - getCenterX(), pos3.y - getCenterY());
 	}
 
 	/**
@@ -341,6 +422,43 @@ public class PlayerBoat extends Boat {
 		}
 	}
 
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(projDmgMul);
+		out.writeFloat(projSpdMul);
+		// written in a fixed order, so the same state is always written the same way
+		for (PowerupType p : PowerupType.values()) {
+			Integer collected = collectedPowerups.get(p);
+			out.writeBoolean(collected != null);
+			if (collected != null) out.writeInt(collected, true);
+			Float active = activePowerups.get(p);
+			out.writeBoolean(active != null);
+			if (active != null) out.writeFloat(active);
+		}
+		out.writeInt(defense, true);
+		out.writeFloat(timeSinceLastHeal);
+		out.writeByte(activeProjectileType.ordinal());
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		projDmgMul = in.readFloat();
+		projSpdMul = in.readFloat();
+		collectedPowerups.clear();
+		activePowerups.clear();
+		for (PowerupType p : PowerupType.values()) {
+			if (in.readBoolean()) collectedPowerups.put(p, in.readInt(true));
+			if (in.readBoolean()) activePowerups.put(p, in.readFloat());
+		}
+		defense = in.readInt(true);
+		timeSinceLastHeal = in.readFloat();
+		activeProjectileType = ProjectileData.values()[in.readByte()];
+	}
+
 	/**
 	 * getter for the PlayerBoat's defense
 	 * @return the PlayerBoat's defense
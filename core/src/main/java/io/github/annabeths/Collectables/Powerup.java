@@ -31,20 +31,15 @@ public class Powerup extends PhysicsObject {
 	}
 
 	/**
-	 * Called when the powerup collides with a physics object.
-	 * If it collides with a player, then they are awarded the powerup.
-	 * @param other the object collided with
+	 * Called when the powerup collides with the player, who is awarded the
+	 * powerup.
+	 * @param boat the player boat
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
-		if (other instanceof PlayerBoat) {
-			PlayerBoat boat = (PlayerBoat) other;
-
-			// remove if player successfully received powerup
-			if (boat.receivePower(powerup)) {
-				Gdx.app.log("Powerup", "Collected powerup - " + powerup.getName());
-				kill();
-			}
+	public void onPlayerContact(PlayerBoat boat) {
+		// remove if player successfully received powerup
+		if (boat.receivePower(powerup)) {
+			Gdx.app.log("Powerup", "Collected powerup - " + powerup.getName());
+			kill();
 		}
 	}
 
@@ -57,4 +52,12 @@ public class Powerup extends PhysicsObject {
 		sprite.draw(batch);
 	}
 
+	/**
+	 * @return the type of powerup given
+	 * @since Assessment 2
+	 */
+	public PowerupType getType() {
+		return powerup;
+	}
+
 }
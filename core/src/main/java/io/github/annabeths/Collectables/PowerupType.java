@@ -1,6 +1,6 @@
 package io.github.annabeths.Collectables;
 
-import com.badlogic.gdx.math.MathUtils;
+import io.github.annabeths.GeneralControl.RandomStream;
 
 /**
  * Enum for different types of powerup.
@@ -65,9 +65,14 @@ public enum PowerupType {
 		return defaultActiveTime;
 	}
 
-	public static PowerupType randomPower() {
+	/**
+	 * @param random the stream to pick with
+	 * @return a random type of powerup
+	 * @since Assessment 2
+	 */
+	public static PowerupType randomPower(RandomStream random) {
 		PowerupType[] vals = PowerupType.values();
-		return vals[MathUtils.random(vals.length - 1)];
+		return vals[random.random(vals.length - 1)];
 	}
 
 	/**
@@ -1,9 +1,13 @@
 package io.github.annabeths.Colleges;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Boats.Boat;
 import io.github.annabeths.GameGenerics.IHealth;
@@ -21,6 +25,8 @@ public abstract class College extends PhysicsObject implements IHealth {
 	protected float maxHP;
 	protected float HP;
 	protected int range;
+	/** The largest range of any type of college, used to limit searches */
+	public static final int MAX_RANGE = 500;
 	protected int damage;
 
 	protected float fireRate;
@@ -73,9 +79,10 @@ public abstract class College extends PhysicsObject implements IHealth {
 	 * @return {@code true} if the boat is in range of the college, {@code false}
 	 *         otherwise
 	 * @author James Burnell
+	 * @tt.updated Assessment 2
 	 */
 	public boolean isInRange(Boat other) {
-		return getCenter().dst(other.getCenter()) <= range;
+		return dst2To(other) <= range * range;
 	}
 
 	/**
@@ -136,10 +143,10 @@ public abstract class College extends PhysicsObject implements IHealth {
 	}
 
 	/**
-	 * @param range the range to set
+	 * @param range the range to set, at most {@link #MAX_RANGE}
 	 */
 	public void setRange(int range) {
-		this.range = range;
+		this.range = Math.min(range, MAX_RANGE);
 	}
 
 	/**
@@ -177,4 +184,28 @@ public abstract class College extends PhysicsObject implements IHealth {
 	public boolean isDead() {
 		return removeOnNextTick() || IHealth.super.isDead();
 	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(maxHP);
+		out.writeFloat(HP);
+		out.writeInt(range, true);
+		out.writeInt(damage, true);
+		out.writeFloat(fireRate);
+		out.writeBoolean(invulnerable);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		maxHP = in.readFloat();
+		HP = in.readFloat();
+		range = in.readInt(true);
+		damage = in.readInt(true);
+		fireRate = in.readFloat();
+		invulnerable = in.readBoolean();
+	}
 }
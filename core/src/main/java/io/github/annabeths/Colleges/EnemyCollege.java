@@ -2,18 +2,25 @@ package io.github.annabeths.Colleges;
 
 import static io.github.annabeths.GeneralControl.ResourceManager.font;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Boats.EnemyBoat;
 import io.github.annabeths.Boats.PlayerBoat;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.DebugUtils;
+import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
 
 /**
  * A college hostile to the player and FriendlyBoat
@@ -36,6 +43,8 @@ public class EnemyCollege extends College {
 	/** Spawn a boat every n seconds */
 	public float boatSpawnTime;
 	public float timeSinceLastSpawn;
+	/** Reused to hold the point the college shoots at */
+	private final transient Vector2 shotTarget = new Vector2();
 
 	/**
 	 * Constructor for EnemyCollege
@@ -62,25 +71,27 @@ public class EnemyCollege extends College {
 		// updateHpText();
 
 		// Randomize spawn times, based on difficulty
+		RandomStream random = RandomSource.of(controller, Stream.COLLEGES);
 		switch (controller.getGameDifficulty()){
 			case EASY:
-				boatSpawnTime = MathUtils.random(15, 20);
+				boatSpawnTime = random.random(15, 20);
 			case MEDIUM:
-				boatSpawnTime = MathUtils.random(10,15);
+				boatSpawnTime = random.random(10,15);
 			case HARD:
-				boatSpawnTime = MathUtils.random(5,10);
+				boatSpawnTime = random.random(5,10);
 
 		}
-		boatSpawnTime = MathUtils.random(5, 15);
+		boatSpawnTime = random.random(5, 15);
 		// Create a random spawning offset so boats don't spawn simultaneously
-		timeSinceLastSpawn = MathUtils.random(boatSpawnTime);
+		timeSinceLastSpawn = random.random(boatSpawnTime);
 	}
 
 	/**
 	 * Update the HP text beneath the college
 	 */
 	public void updateHpText() {
-		hpText.setText(font, getHPString());
+		// there are no fonts when the game is simulated without being shown
+		if (font != null) hpText.setText(font, getHPString());
 	}
 
 	/**
@@ -92,24 +103,19 @@ public class EnemyCollege extends College {
 	}
 
 	/**
-	 * Called when the college collides with another PhysicsObject.
-	 * @param other the object collided with
+	 * Called when the college is hit by a projectile. Only player projectiles deal
+	 * damage.
+	 * @param p the projectile
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
-		// if the enemy college is hit by a projectile
-		if (other instanceof Projectile && !isDead()) {
-			Projectile p = (Projectile) other;
-			if (p.isPlayerProjectile()) { // if it's a player projectile
-				p.kill();
-				if (!isInvulnerable()) {
-					damage(p.getDamage());
-					if (isDead()) gc.CollegeDestroyed(this);
-					updateHpText();
-				} else {
-					hpText.setText(font, "RESISTED, destroy other colleges first!");
-				}
-			}
+	public void onProjectileHit(Projectile p) {
+		if (isDead() || !p.isPlayerProjectile()) return;
+		p.kill();
+		if (!isInvulnerable()) {
+			damage(p.getDamage());
+			if (isDead()) gc.CollegeDestroyed(this);
+			updateHpText();
+		} else if (font != null) {
+			hpText.setText(font, "RESISTED, destroy other colleges first!");
 		}
 	}
 
@@ -126,7 +132,7 @@ public class EnemyCollege extends College {
 			// is the player boat in range
 			if (isInRange(boat)) {
 				if (timeSinceLastShot >= fireRate) {
-					ShootAt(boat.getCenter());
+					ShootAt(boat.getCenter(shotTarget));
 					timeSinceLastShot = 0;
 				}
 			} else {
@@ -154,6 +160,7 @@ public class EnemyCollege extends College {
 	/**
 	 * Shoot towards a target
 	 * @param target the target (Vector2)
+	 * @tt.updated Assessment 2
 	 */
 	void ShootAt(Vector2 target) {
 		// If fire is disabled, skip calculation.
@@ -162,10 +169,10 @@ public class EnemyCollege extends College {
 		 * calculate the shot angle by getting a vector from the center of the college
 		 * to the target. Convert to degrees for the inaccuracy calculation.
 		 */
-		Vector2 directionVec = target.cpy().sub(getCenter());
-		float shotAngle = directionVec.angleDeg();
+		float shotAngle = MathHelper.angleDeg(target.x - getCenterX(), target.y - getCenterY());
 
-		shotAngle += MathUtils.random(-shootingInaccuracy, shootingInaccuracy);
+		shotAngle += RandomSource.of(gc, Stream.COLLEGES).random(-shootingInaccuracy,
+				shootingInaccuracy);
 
 		float dmgMul = gc.getGameDifficulty().getEnemyDmgMul();
 
@@ -173,8 +180,9 @@ public class EnemyCollege extends College {
 		 * instantiate a new bullet and pass a reference to the gamecontroller, so it can
 		 * be updated and drawn
 		 */
-		gc.NewPhysicsObject(
-				new Projectile(getCenter(), shotAngle, projectileType, false, dmgMul, 1));
+		gc.NewPhysicsObject(ProjectilePool.obtain(getCenterX(), getCenterY(), shotAngle,
+				projectileType, false, false, dmgMul, 1,
+				RandomSource.of(gc, Stream.PROJECTILES)));
 
 	}
 
@@ -203,4 +211,25 @@ public class EnemyCollege extends College {
 	public ProjectileData getProjectileType(){
 		return projectileType;
 	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(shootingInaccuracy);
+		out.writeFloat(timeSinceLastShot);
+		out.writeFloat(boatSpawnTime);
+		out.writeFloat(timeSinceLastSpawn);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		shootingInaccuracy = in.readFloat();
+		timeSinceLastShot = in.readFloat();
+		boatSpawnTime = in.readFloat();
+		timeSinceLastSpawn = in.readFloat();
+		updateHpText();
+	}
 }
@@ -2,13 +2,16 @@ package io.github.annabeths.Colleges;
 
 import static io.github.annabeths.GeneralControl.ResourceManager.font;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Boats.FriendlyBoat;
 import io.github.annabeths.Boats.PlayerBoat;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
 
 /**
@@ -55,7 +58,7 @@ public class PlayerCollege extends College {
 		super(position, aliveTexture, islandTexture, gc);
 		healAmount = 15;
 		range = 400;
-		if (showSplashText) {
+		if (showSplashText && font != null) {
 			splashText = new GlyphLayout(font, "College Captured!");
 		}
 	}
@@ -65,21 +68,10 @@ public class PlayerCollege extends College {
 	 * @param text the new text
 	 */
 	public void updateSplashText(String text) {
-		if (splashText == null) return;
+		if (splashText == null || font == null) return;
 		splashText.setText(font, text);
 	}
 
-	/**
-	 * PlayerCollege doesn't need to handle any collisions itself. The case of the
-	 * PlayerBoat crashing into it is handled in the PlayerBoat class.
-	 * @param ignored n/a
-	 * @see PlayerBoat#OnCollision(PhysicsObject)
-	 */
-	@Override
-	public void OnCollision(PhysicsObject ignored) {
-
-	}
-
 	/**
 	 * Called once per frame
 	 * @param delta time since last frame
@@ -129,4 +121,26 @@ public class PlayerCollege extends College {
 		}
 	}
 
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(healAmount, true);
+		out.writeFloat(boatSpawnTime);
+		out.writeFloat(timeSinceLastSpawn);
+		out.writeFloat(splashTextCounter);
+		out.writeFloat(splashTextTime);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		healAmount = in.readInt(true);
+		boatSpawnTime = in.readFloat();
+		timeSinceLastSpawn = in.readFloat();
+		splashTextCounter = in.readFloat();
+		splashTextTime = in.readFloat();
+	}
+
 }
@@ -1,9 +1,14 @@
 package io.github.annabeths.GameGenerics;
 
-import com.badlogic.gdx.graphics.Texture;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.GeneralControl.ResourceManager;
 
@@ -21,6 +26,11 @@ public abstract class GameObject {
 	public Sprite sprite = null;
 	protected boolean killOnNextTick = false;
 
+	/** Where the object was at the start of the last tick, used to draw between ticks */
+	private final Vector2 tickStartPosition = new Vector2();
+	private float tickStartRotation = 0;
+	private boolean hasTickStart = false;
+
 	/**
 	 * Update Method, define on inheritance
 	 * 
@@ -36,6 +46,71 @@ public abstract class GameObject {
 	public void Draw(SpriteBatch batch) {
 	}
 
+	/**
+	 * Draw the object part way between where it was at the start of the last tick
+	 * and where it is now, so movement looks smooth when frames are drawn more
+	 * often than ticks are run. Only the {@link #sprite} is moved.
+	 * @param batch Spritebatch to draw the GameObject
+	 * @param alpha how far between the two to draw it, from 0 to 1
+	 * @see #storeTickStart()
+	 * @since Assessment 2
+	 */
+	public void DrawInterpolated(SpriteBatch batch, float alpha) {
+		if (!hasTickStart || sprite == null || position == null) {
+			Draw(batch);
+			return;
+		}
+		float back = 1 - alpha;
+		float dx = (tickStartPosition.x - position.x) * back;
+		float dy = (tickStartPosition.y - position.y) * back;
+		// only turn sprites that follow the object's rotation
+		float dr = sprite.getRotation() == rotation
+				? angleBetween(rotation, tickStartRotation) * back
+				: 0;
+		if (dx == 0 && dy == 0 && dr == 0) {
+			Draw(batch);
+			return;
+		}
+		sprite.translate(dx, dy);
+		sprite.rotate(dr);
+		Draw(batch);
+		sprite.translate(-dx, -dy);
+		sprite.rotate(-dr);
+	}
+
+	/**
+	 * Remember where the object is, before it is moved by a tick
+	 * @see #DrawInterpolated(SpriteBatch, float)
+	 * @since Assessment 2
+	 */
+	public void storeTickStart() {
+		if (position == null) return;
+		tickStartPosition.set(position);
+		tickStartRotation = rotation;
+		hasTickStart = true;
+	}
+
+	/**
+	 * Get the position drawn by {@link #DrawInterpolated(SpriteBatch, float)}
+	 * @param alpha how far between the last two ticks, from 0 to 1
+	 * @param out the vector to store the position in
+	 * @return the {@code out} vector
+	 * @since Assessment 2
+	 */
+	public Vector2 getInterpolatedPosition(float alpha, Vector2 out) {
+		out.set(position);
+		if (hasTickStart) out.set(tickStartPosition).lerp(position, alpha);
+		return out;
+	}
+
+	/** @return the shortest turn in degrees from {@code from} to {@code to} */
+	private static float angleBetween(float from, float to) {
+		float d = (to - from) % 360;
+		if (d > 180) d -= 360;
+		if (d < -180) d += 360;
+		return d;
+	}
+
 	/**
 	 * Set the GameObject to be destroyed on the start of the next frame.
 	 */
@@ -53,6 +128,65 @@ public abstract class GameObject {
 		return killOnNextTick;
 	}
 
+	/**
+	 * Write the state of the object that changes as the game is played, so it can
+	 * be put back by {@link #readState(DataInput)}. Subclasses with more state
+	 * write it after calling this.
+	 * @param out the stream to write to
+	 * @throws IOException if the stream can't be written to
+	 * @since Assessment 2
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeFloat(position.x);
+		out.writeFloat(position.y);
+		out.writeFloat(rotation);
+		out.writeBoolean(killOnNextTick);
+		out.writeBoolean(sprite != null);
+		if (sprite != null) {
+			out.writeFloat(sprite.getX());
+			out.writeFloat(sprite.getY());
+			out.writeFloat(sprite.getRotation());
+			Color c = sprite.getColor();
+			out.writeFloat(c.r);
+			out.writeFloat(c.g);
+			out.writeFloat(c.b);
+			out.writeFloat(c.a);
+		}
+	}
+
+	/**
+	 * Put back the state written by {@link #writeState(DataOutput)}
+	 * @param in the stream to read from
+	 * @throws IOException if the stream can't be read from
+	 * @since Assessment 2
+	 */
+	public void readState(DataInput in) throws IOException {
+		position.set(in.readFloat(), in.readFloat());
+		rotation = in.readFloat();
+		killOnNextTick = in.readBoolean();
+		if (in.readBoolean()) {
+			float x = in.readFloat(), y = in.readFloat(), spriteRotation = in.readFloat();
+			float r = in.readFloat(), g = in.readFloat(), b = in.readFloat(), a = in.readFloat();
+			if (sprite != null) {
+				sprite.setPosition(x, y);
+				sprite.setRotation(spriteRotation);
+				sprite.setColor(r, g, b, a);
+			}
+		}
+		hasTickStart = false;
+	}
+
+	/**
+	 * Change the texture drawn by the {@link #sprite}, keeping its position, size
+	 * and color
+	 * @param texture the texture to use
+	 * @since Assessment 2
+	 */
+	protected void setSpriteTexture(String texture) {
+		TextureRegion region = ResourceManager.getRegion(texture);
+		if (region != null && sprite != null) sprite.setRegion(region);
+	}
+
 	/**
 	 * Calls {@link #initSprite(String, Vector2, Vector2) initSprite()} to set the
 	 * {@link #sprite} field.
@@ -67,20 +201,23 @@ public abstract class GameObject {
 
 	/**
 	 * Loads a texture from the {@link ResourceManager} and instantiates a
-	 * {@link Sprite} object with the position and size.
+	 * {@link Sprite} object with the position and size. The texture is a region of
+	 * the {@link ResourceManager#atlas}, if it was built, so sprites can be drawn
+	 * together.
 	 * 
 	 * @param texture the texture to use
 	 * @param position the position of the sprite
 	 * @param size the size of the sprite
 	 * @return The initialized sprite
+	 * @tt.updated Assessment 2
 	 */
 	protected Sprite initSprite(String texture, Vector2 position, Vector2 size) {
-		Texture t = ResourceManager.getTexture(texture);
+		TextureRegion region = ResourceManager.getRegion(texture);
 		Sprite result;
-		if (t == null) {
+		if (region == null) {
 			result = new Sprite();
 		} else {
-			result = new Sprite(t);
+			result = new Sprite(region);
 		}
 		result.setSize(size.x, size.y);
 		result.setOrigin(size.x / 2, size.y / 2);
@@ -109,6 +246,31 @@ public abstract class GameObject {
 		return new Vector2(getCenterX(), getCenterY());
 	}
 
+	/**
+	 * Get the center point of the object, without making a new vector
+	 * 
+	 * @param out the vector to set to the center point
+	 * @return {@code out}
+	 * @since Assessment 2
+	 */
+	public final Vector2 getCenter(Vector2 out) {
+		return out.set(getCenterX(), getCenterY());
+	}
+
+	/**
+	 * Get the squared distance between the centers of this object and another.
+	 * Compare it to a squared range, rather than taking the square root.
+	 * 
+	 * @param other the other object
+	 * @return the squared distance
+	 * @since Assessment 2
+	 */
+	public final float dst2To(GameObject other) {
+		float dx = other.getCenterX() - getCenterX();
+		float dy = other.getCenterY() - getCenterY();
+		return dx * dx + dy * dy;
+	}
+
 	/** @return The center x position */
 	public float getCenterX() {
 		return getLocalCenterX() + getX();
@@ -1,8 +1,15 @@
 package io.github.annabeths.GameGenerics;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Polygon;
-import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+import io.github.annabeths.Physics.CollisionLayer;
+import io.github.annabeths.Physics.CollisionTable;
 
 /**
  * Abstract class that represents GameObjects with physics; i.e objects that can move around the world
@@ -15,20 +22,315 @@ public abstract class PhysicsObject extends GameObject {
 
 	public Polygon collisionPolygon = null;
 
+	/** The collision layer, found from the type of the object when it is made */
+	private CollisionLayer collisionLayer = CollisionLayer.of(getClass());
+
+	/** The last id given to a physics object */
+	private static int lastPhysicsId = 0;
+	/** A unique id, given when first needed */
+	private int physicsId = 0;
+	/** Incremented every time the {@link #bounds} are recalculated */
+	private int transformVersion = 0;
+	/** The time of the ticks skipped while far from the player */
+	private float skippedDelta = 0;
+	/** Ticks to skip before the next coarse update, or -1 when not far */
+	private int ticksUntilCoarse = -1;
+
+	/** World space bounding box of the {@link #collisionPolygon} */
+	private final Rectangle bounds = new Rectangle();
+	/*
+	 * The polygon transform the bounds were last calculated for. The polygon can
+	 * be modified directly, so these are compared against to detect changes.
+	 */
+	private Polygon boundsPoly;
+	private float[] boundsVerts;
+	private float boundsX, boundsY, boundsRot, boundsOriginX, boundsOriginY, boundsScaleX,
+			boundsScaleY;
+
 	/**
-	 * Test for collision with other {@link PhysicsObject}
+	 * Test for collision with other {@link PhysicsObject}. The bounding boxes are
+	 * compared first, and the polygons are only tested if they overlap. Does not
+	 * allocate any memory. If only the other object is in a
+	 * {@link CollisionLayer#isSwept swept} layer, the test is left to it.
 	 * @param other the physics object to check collision with
 	 * @return {@code true} if the physics objects collide, {@code false} otherwise
+	 * @tt.updated Assessment 2
 	 */
 	public boolean CheckCollisionWith(PhysicsObject other) {
-		return Intersector.intersectPolygons(
-				new FloatArray(collisionPolygon.getTransformedVertices()),
-				new FloatArray(other.collisionPolygon.getTransformedVertices()));
+		if (!getBounds().overlaps(other.getBounds())) return false;
+		if (other.getCollisionLayer().isSwept && !getCollisionLayer().isSwept) {
+			return other.CheckCollisionWith(this);
+		}
+		return overlapsPolygon(other);
+	}
+
+	/**
+	 * Test if the collision polygons currently overlap, without checking the
+	 * bounding boxes first
+	 * @param other the physics object to check collision with
+	 * @return {@code true} if the polygons overlap
+	 * @since Assessment 2
+	 */
+	public final boolean overlapsPolygon(PhysicsObject other) {
+		// every collision polygon in the game is convex, so SAT can be used
+		return Intersector.overlapConvexPolygons(collisionPolygon.getTransformedVertices(),
+				other.collisionPolygon.getTransformedVertices(), null);
+	}
+
+	/**
+	 * Get the world space bounding box of the {@link #collisionPolygon}. The box is
+	 * cached, and only recalculated when the polygon's position, rotation, origin,
+	 * scale or vertices change.
+	 * @return the bounding box, this should not be modified
+	 */
+	public Rectangle getBounds() {
+		Polygon p = collisionPolygon;
+		if (p != boundsPoly || p.getVertices() != boundsVerts || p.getX() != boundsX
+				|| p.getY() != boundsY || p.getRotation() != boundsRot
+				|| p.getOriginX() != boundsOriginX || p.getOriginY() != boundsOriginY
+				|| p.getScaleX() != boundsScaleX || p.getScaleY() != boundsScaleY) {
+			recalculateBounds(p);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Recalculate the {@link #bounds} and remember the transform they belong to
+	 * @param p the polygon to calculate the bounds of
+	 */
+	private void recalculateBounds(Polygon p) {
+		float[] verts = p.getTransformedVertices();
+		float minX = verts[0], maxX = verts[0];
+		float minY = verts[1], maxY = verts[1];
+		for (int i = 2; i < verts.length; i += 2) {
+			minX = Math.min(minX, verts[i]);
+			maxX = Math.max(maxX, verts[i]);
+			minY = Math.min(minY, verts[i + 1]);
+			maxY = Math.max(maxY, verts[i + 1]);
+		}
+		bounds.set(minX, minY, maxX - minX, maxY - minY);
+
+		boundsPoly = p;
+		boundsVerts = p.getVertices();
+		boundsX = p.getX();
+		boundsY = p.getY();
+		boundsRot = p.getRotation();
+		boundsOriginX = p.getOriginX();
+		boundsOriginY = p.getOriginY();
+		boundsScaleX = p.getScaleX();
+		boundsScaleY = p.getScaleY();
+		transformVersion++;
+	}
+
+	/**
+	 * Get a number that changes whenever the collision polygon moves, rotates or
+	 * otherwise changes shape. If the number is the same as last time, the polygon
+	 * has not changed.
+	 * @return the transform version
+	 * @since Assessment 2
+	 */
+	public final int getTransformVersion() {
+		getBounds();
+		return transformVersion;
+	}
+
+	/**
+	 * Get an id that is unique to this object, and never reused
+	 * @return the id, which is always positive
+	 * @since Assessment 2
+	 */
+	public final int getPhysicsId() {
+		if (physicsId == 0) physicsId = ++lastPhysicsId;
+		return physicsId;
+	}
+
+	/**
+	 * Get how many ids have been given out since this object's, counting its own.
+	 * Unlike the id itself, this is the same in every run of a game, however many
+	 * objects other games have made. Asking does not give the object an id.
+	 * @return the age of the id, or 0 if the object has not been given one yet
+	 * @since Assessment 2
+	 */
+	public final int getPhysicsIdAge() {
+		return physicsId == 0 ? 0 : lastPhysicsId - physicsId + 1;
+	}
+
+	/**
+	 * Give out the next {@code count} ids at once. Objects put back with
+	 * {@link #readState(DataInput)} take their ids from the end of these, in the
+	 * same order their ids were given in when they were written.
+	 * @param count the oldest {@link #getPhysicsIdAge() age} of the objects that
+	 *        will be put back
+	 * @since Assessment 2
+	 */
+	public static void reservePhysicsIds(int count) {
+		lastPhysicsId += count;
+	}
+
+	/**
+	 * Give the object a new id the next time one is needed, so that anything that
+	 * remembered it by id treats it as a new object. Used when an object is
+	 * reused.
+	 * @since Assessment 2
+	 */
+	protected final void renewPhysicsId() {
+		physicsId = 0;
 	}
 
 	/**
-	 * Called when object collides with another {@link PhysicsObject}
+	 * Get the collision layer this object belongs to
+	 * @return the layer
+	 * @since Assessment 2
+	 */
+	public final CollisionLayer getCollisionLayer() {
+		// mocks made without calling a constructor skip the field's initializer
+		if (collisionLayer == null) collisionLayer = CollisionLayer.of(getClass());
+		return collisionLayer;
+	}
+
+	/**
+	 * Get the collision mask of this object
+	 * @return the bits of every {@link CollisionLayer} this object can collide with
+	 * @since Assessment 2
+	 */
+	public final int getCollisionMask() {
+		return CollisionTable.getMask(getCollisionLayer());
+	}
+
+	/**
+	 * Test if this object can interact with another. Objects that can't interact
+	 * do not need to be tested for collision.
+	 * @param other the other object
+	 * @return {@code true} if the objects' layers interact
+	 * @since Assessment 2
+	 */
+	public final boolean canCollideWith(PhysicsObject other) {
+		return (getCollisionMask() & other.getCollisionLayer().bit) != 0;
+	}
+
+	/**
+	 * @return {@code true} if the object can be updated less often, with
+	 *         {@link #UpdateCoarse(float)}, while it is far from the player.
+	 *         {@code false} by default.
+	 * @see io.github.annabeths.GeneralControl.SimulationLOD
+	 * @since Assessment 2
+	 */
+	public boolean canUpdateCoarsely() {
+		return false;
+	}
+
+	/**
+	 * Update the object while it is far from the player, where it can't be seen.
+	 * This is called every few ticks rather than every tick, so {@code delta}
+	 * covers several ticks. Objects can do less here than in
+	 * {@link #Update(float)}, which is called by default.
+	 * @param delta the time since the object was last updated
+	 * @since Assessment 2
+	 */
+	public void UpdateCoarse(float delta) {
+		Update(delta);
+	}
+
+	/**
+	 * Update the object for a tick, fully if it is near the player, otherwise
+	 * coarsely once every {@code interval} ticks. The time of the ticks skipped is
+	 * added to the next update, whether that is coarse or full.
+	 * @param delta the length of the tick
+	 * @param far whether the object is far from the player
+	 * @param interval the ticks between coarse updates
+	 * @param stagger picks which of the ticks the object is first updated on after
+	 *        it becomes far, so objects that become far together are spread out
+	 * @return {@code true} if the object was updated, {@code false} if it skipped
+	 *         the tick
+	 * @see io.github.annabeths.GeneralControl.SimulationLOD
+	 * @since Assessment 2
+	 */
+	public final boolean updateAtDetail(float delta, boolean far, int interval, int stagger) {
+		if (!far) {
+			ticksUntilCoarse = -1;
+			float owed = skippedDelta;
+			skippedDelta = 0;
+			Update(delta + owed);
+			return true;
+		}
+		if (ticksUntilCoarse < 0) ticksUntilCoarse = stagger % interval;
+		skippedDelta += delta;
+		if (ticksUntilCoarse > 0) {
+			ticksUntilCoarse--;
+			return false;
+		}
+		ticksUntilCoarse = interval - 1;
+		float owed = skippedDelta;
+		skippedDelta = 0;
+		UpdateCoarse(owed);
+		return true;
+	}
+
+	/**
+	 * Also writes the {@link #getPhysicsIdAge() age} of the object's id, so pairs
+	 * of objects are ordered the same way once it is put back, the transform of
+	 * the {@link #collisionPolygon}, and the ticks it has skipped while far from
+	 * the player.
+	 * @since Assessment 2
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeInt(getPhysicsIdAge(), true);
+		out.writeFloat(collisionPolygon.getX());
+		out.writeFloat(collisionPolygon.getY());
+		out.writeFloat(collisionPolygon.getRotation());
+		out.writeFloat(collisionPolygon.getOriginX());
+		out.writeFloat(collisionPolygon.getOriginY());
+		out.writeFloat(skippedDelta);
+		out.writeInt(ticksUntilCoarse);
+	}
+
+	/**
+	 * The ids must have been {@link #reservePhysicsIds(int) reserved} first.
+	 * @since Assessment 2
+	 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		int age = in.readInt(true);
+		physicsId = age == 0 ? 0 : lastPhysicsId - age + 1;
+		collisionPolygon.setPosition(in.readFloat(), in.readFloat());
+		collisionPolygon.setRotation(in.readFloat());
+		collisionPolygon.setOrigin(in.readFloat(), in.readFloat());
+		skippedDelta = in.readFloat();
+		ticksUntilCoarse = in.readInt();
+	}
+
+	/**
+	 * Called when object starts colliding with another {@link PhysicsObject}. The
+	 * collision is passed to the handler in the {@link CollisionTable} for the two
+	 * objects' layers.
 	 * @param other the object collided with
+	 * @tt.updated Assessment 2
+	 */
+	public void OnCollision(PhysicsObject other) {
+		CollisionTable.dispatch(this, other);
+	}
+
+	/**
+	 * Called on every frame after the first that the object is still touching
+	 * another {@link PhysicsObject}
+	 * @param other the object being touched
+	 * @param delta time since the last frame
+	 * @since Assessment 2
 	 */
-	public abstract void OnCollision(PhysicsObject other);
-}
\ No newline at end of file
+	public void OnCollisionStay(PhysicsObject other, float delta) {
+		CollisionTable.dispatchStay(this, other, delta);
+	}
+
+	/**
+	 * Called when the object stops touching another {@link PhysicsObject}, or
+	 * either of them leaves the world
+	 * @param other the object that was being touched
+	 * @since Assessment 2
+	 */
+	public void OnCollisionExit(PhysicsObject other) {
+		CollisionTable.dispatchExit(this, other);
+	}
+}
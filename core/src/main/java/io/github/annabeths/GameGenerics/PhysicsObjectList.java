@@ -0,0 +1,237 @@
+package io.github.annabeths.GameGenerics;
+
+import java.util.ArrayList;
+import java.util.function.Predicate;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * A list of {@link PhysicsObject}s that also keeps a group for each concrete
+ * type of object, so every object of a type can be found without searching the
+ * whole list. The groups are kept up to date as objects are added and removed,
+ * and are rebuilt from the list if it is changed in a way that can't be
+ * tracked, such as through {@link #subList(int, int)}.
+ * <p>
+ * The groups are in the order their type was first added, and the objects in
+ * each group are in the order they were added.
+ *
+ * @since Assessment 2
+ */
+public class PhysicsObjectList extends ArrayList<PhysicsObject> {
+
+	private static final long serialVersionUID = 1L;
+
+	/** The group for each type, in the order the types were first seen */
+	private final transient Array<Group> groups = new Array<>();
+	private final transient ObjectMap<Class<?>, Group> groupsByType = new ObjectMap<>();
+	/** Reused to hold the objects removed by {@link #removeIf(Predicate)} */
+	private final transient ObjectSet<PhysicsObject> removed = new ObjectSet<>();
+	/** The {@link #modCount} when the groups were last in line with the list */
+	private transient int syncedModCount = 0;
+
+	@Override
+	public boolean add(PhysicsObject obj) {
+		boolean synced = isSynced();
+		super.add(obj);
+		if (synced) {
+			groupOf(obj.getClass()).objects.add(obj);
+			syncedModCount = modCount;
+		}
+		return true;
+	}
+
+	@Override
+	public PhysicsObject set(int index, PhysicsObject obj) {
+		PhysicsObject old = super.set(index, obj);
+		if (isSynced() && old != obj) {
+			groupOf(old.getClass()).objects.removeValue(old, true);
+			groupOf(obj.getClass()).objects.add(obj);
+		}
+		return old;
+	}
+
+	@Override
+	public PhysicsObject remove(int index) {
+		boolean synced = isSynced();
+		PhysicsObject obj = super.remove(index);
+		if (synced) {
+			groupOf(obj.getClass()).objects.removeValue(obj, true);
+			syncedModCount = modCount;
+		}
+		return obj;
+	}
+
+	@Override
+	public boolean remove(Object obj) {
+		boolean synced = isSynced();
+		if (!super.remove(obj)) return false;
+		if (synced) {
+			groupOf(obj.getClass()).objects.removeValue((PhysicsObject) obj, true);
+			syncedModCount = modCount;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super PhysicsObject> filter) {
+		boolean synced = isSynced();
+		removed.clear();
+		boolean any = super.removeIf(obj -> {
+			if (!filter.test(obj)) return false;
+			removed.add(obj);
+			return true;
+		});
+		if (synced && any) {
+			for (int g = 0; g < groups.size; g++) {
+				Array<PhysicsObject> objects = groups.get(g).objects;
+				int kept = 0;
+				for (int i = 0; i < objects.size; i++) {
+					PhysicsObject obj = objects.get(i);
+					if (!removed.contains(obj)) objects.set(kept++, obj);
+				}
+				objects.truncate(kept);
+			}
+			syncedModCount = modCount;
+		}
+		removed.clear();
+		return any;
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		for (int g = 0; g < groups.size; g++) {
+			groups.get(g).objects.clear();
+		}
+		syncedModCount = modCount;
+	}
+
+	/**
+	 * Get every object whose class is exactly {@code type}. Subclasses are not
+	 * included. The array is the list's own copy, so it must not be modified.
+	 *
+	 * @param <T> the type of object
+	 * @param type the class of object
+	 * @return the objects of the type, possibly empty
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends PhysicsObject> Array<T> getGroup(Class<T> type) {
+		sync();
+		return (Array<T>) groupOf(type).objects;
+	}
+
+	/**
+	 * Get the objects in a group. The array is the list's own copy, so it must not
+	 * be modified.
+	 *
+	 * @param index the index of the group, from 0 to {@link #getGroupCount()}
+	 * @return the objects in the group, all of the same class
+	 */
+	public Array<PhysicsObject> getGroup(int index) {
+		sync();
+		return groups.get(index).objects;
+	}
+
+	/** @return the number of groups, one for each type of object seen so far */
+	public int getGroupCount() {
+		sync();
+		return groups.size;
+	}
+
+	/**
+	 * Find every object that is an instance of {@code type}, including subclasses
+	 *
+	 * @param <T> the type of object
+	 * @param type the class of object
+	 * @param out the array to add the objects to, it is not cleared first
+	 * @return the {@code out} array
+	 */
+	@SuppressWarnings("unchecked")
+	public <T extends PhysicsObject> Array<? super T> getAll(Class<T> type,
+			Array<? super T> out) {
+		sync();
+		for (int g = 0; g < groups.size; g++) {
+			Group group = groups.get(g);
+			if (type.isAssignableFrom(group.type)) out.addAll((Array<T>) group.objects);
+		}
+		return out;
+	}
+
+	/**
+	 * Count the objects that are an instance of {@code type}, including subclasses
+	 *
+	 * @param type the class of object
+	 * @return the number of objects
+	 */
+	public int count(Class<? extends PhysicsObject> type) {
+		sync();
+		int count = 0;
+		for (int g = 0; g < groups.size; g++) {
+			Group group = groups.get(g);
+			if (type.isAssignableFrom(group.type)) count += group.objects.size;
+		}
+		return count;
+	}
+
+	/**
+	 * Get the type of the objects in a group
+	 *
+	 * @param index the index of the group, from 0 to {@link #getGroupCount()}
+	 * @return the class of every object in the group
+	 */
+	public Class<?> getGroupType(int index) {
+		return groups.get(index).type;
+	}
+
+	/**
+	 * Make sure there is a group for a type of object, adding an empty one after
+	 * the others if there is not. Groups are updated in the order they were added,
+	 * so this lets a world be rebuilt with its groups in the same order.
+	 *
+	 * @param type the type of object
+	 */
+	public void addGroup(Class<? extends PhysicsObject> type) {
+		groupOf(type);
+	}
+
+	/** @return {@code true} if the groups are in line with the list */
+	private boolean isSynced() {
+		return syncedModCount == modCount;
+	}
+
+	/** Rebuild the groups if the list was changed without them being updated */
+	private void sync() {
+		if (isSynced()) return;
+		for (int g = 0; g < groups.size; g++) {
+			groups.get(g).objects.clear();
+		}
+		for (int i = 0; i < size(); i++) {
+			PhysicsObject obj = get(i);
+			groupOf(obj.getClass()).objects.add(obj);
+		}
+		syncedModCount = modCount;
+	}
+
+	private Group groupOf(Class<?> type) {
+		Group group = groupsByType.get(type);
+		if (group == null) {
+			group = new Group(type);
+			groupsByType.put(type, group);
+			groups.add(group);
+		}
+		return group;
+	}
+
+	/** The objects of a single class */
+	private static class Group {
+		final Class<?> type;
+		final Array<PhysicsObject> objects = new Array<>();
+
+		Group(Class<?> type) {
+			this.type = type;
+		}
+	}
+
+}
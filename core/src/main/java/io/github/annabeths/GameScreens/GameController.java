@@ -3,6 +3,7 @@ package io.github.annabeths.GameScreens;
 import static com.badlogic.gdx.Gdx.input;
 import static io.github.annabeths.Level.GameMap.BORDER_BRIM;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -18,10 +19,16 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.FloatArray;
 
+import io.github.annabeths.Boats.AIPlanner;
+import io.github.annabeths.Boats.AttackBoat;
 import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
 import io.github.annabeths.Boats.NeutralBoat;
 import io.github.annabeths.Boats.PlayerBoat;
 import io.github.annabeths.Collectables.Powerup;
@@ -31,20 +38,47 @@ import io.github.annabeths.Colleges.EnemyCollege;
 import io.github.annabeths.Colleges.PlayerCollege;
 import io.github.annabeths.GameGenerics.GameObject;
 import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameGenerics.PhysicsObjectList;
+import io.github.annabeths.GeneralControl.CommandBuffer;
 import io.github.annabeths.GeneralControl.DebugUtils;
 import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.FixedTimestep;
+import io.github.annabeths.GeneralControl.FrameProfiler;
+import io.github.annabeths.GeneralControl.FrameProfiler.Phase;
+import io.github.annabeths.GeneralControl.FrameStats;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
 import io.github.annabeths.GeneralControl.SaveManager;
+import io.github.annabeths.GeneralControl.SimulationLOD;
 import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.FlowField;
 import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Level.NavigationGrid;
 import io.github.annabeths.Obstacles.Kraken;
 import io.github.annabeths.Obstacles.Mine;
 import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Physics.ContactCache;
+import io.github.annabeths.Physics.SpatialGrid;
+import io.github.annabeths.Physics.WorldQuery;
+import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
 import io.github.annabeths.Projectiles.ProjectileRay;
+import io.github.annabeths.Projectiles.ProjectileSystem;
+import io.github.annabeths.Replay.Keyframe;
+import io.github.annabeths.Replay.ReplayPlayer;
+import io.github.annabeths.Replay.ReplayRecorder;
+import io.github.annabeths.Replay.ShopPurchase;
 import io.github.annabeths.UI.HUD;
 
 /**
  * The main game screen. This is the game itself.
+ * <p>
+ * The constructors only create the state of the world, and {@link #tick(float)}
+ * only changes it, so the game can be simulated without a window or GL
+ * context. Everything used to show the game, the {@link #hud}, {@link #map}
+ * background, {@link #batch} and {@link #sr}, is created by {@link #show()}.
  * @author James Burnell
  * @author Hector Woods
  * @tt.updated Assessment 2
@@ -53,13 +87,83 @@ public class GameController implements Screen {
 
 	private eng1game game;
 	public ArrayList<GameObject> gameObjects;
+	/**
+	 * Every object in the world. This is the same list as {@link #entities}, kept
+	 * for code that only needs a flat list.
+	 */
 	public ArrayList<PhysicsObject> physicsObjects;
+	/** Every object in the world, grouped by type */
+	public PhysicsObjectList entities;
 	public ArrayList<College> colleges;
 	public ArrayList<ProjectileRay> rays;
 	public GameMap map;
 	public PlayerBoat playerBoat;
 	public EnemyCollege bossCollege;
 	public Powerup powerUp;
+	/**
+	 * Broadphase used to find which moving objects could be colliding. It is kept
+	 * up to date as objects move during {@link #UpdateObjects(float)}.
+	 */
+	public SpatialGrid collisionGrid;
+	/**
+	 * Broadphase for objects that never move, like colleges, mines and powerups.
+	 * It is built once when the world is created, then only changed when a static
+	 * object is added or removed.
+	 * @see #rebuildStaticIndex()
+	 */
+	public SpatialGrid staticGrid;
+	/**
+	 * Moves, collides and draws the cannonballs in the world. They are kept out of
+	 * the {@link #collisionGrid}, which only holds the other moving objects.
+	 */
+	public ProjectileSystem projectiles;
+	/** Finds objects near a point, used for AI targeting and danger checks */
+	public WorldQuery world;
+	/** Every random number used by the simulation comes from here */
+	public RandomSource random;
+	/** Reused to hold the broadphase results for each object */
+	private Array<PhysicsObject> collisionCandidates;
+	/** Reused to hold the results of {@link #world} queries */
+	private Array<PhysicsObject> nearbyObjects;
+	/** Reused to hold the time of impact of each candidate of a swept object */
+	private FloatArray impactTimes;
+	/** Pairs of objects that are touching, kept between frames */
+	public ContactCache contacts;
+	/**
+	 * Reused to hold the moving objects being tested, as collisions may add or
+	 * remove {@link #physicsObjects}
+	 */
+	private Array<PhysicsObject> collisionBodies;
+	/**
+	 * Holds the objects, XP and plunder added while objects are being updated,
+	 * until every object has been updated
+	 */
+	public CommandBuffer commands;
+	/** Reused to hold the boats that think before the objects are updated */
+	private Array<AttackBoat> aiBoats;
+	/** Decides which objects are far enough from the player to update less often */
+	public SimulationLOD lod;
+	/** Where boats can sail, built when first needed from the {@link #colleges} */
+	private NavigationGrid navigation;
+	/** Leads enemy boats to the player, around the colleges */
+	public FlowField playerFlow;
+	/** Leads enemy boats to the nearest {@link FriendlyBoat}, around the colleges */
+	public FlowField friendlyFlow;
+	/** Reused to hold the friendly boats {@link #friendlyFlow} leads to */
+	private Array<FriendlyBoat> friendlyBoats;
+
+	/** Splits each frame into fixed length ticks of {@link #logic(float)} */
+	public FixedTimestep timestep;
+	/** Set once the game is won or lost, so no more ticks are run */
+	private boolean ended = false;
+	/** Records the player's input each tick, or {@code null} when not recording */
+	public ReplayRecorder recorder;
+	/** Gives the player recorded input each tick, or {@code null} when not replaying */
+	public ReplayPlayer replay;
+	/** Records how long frames and ticks take, or {@code null} when not recording */
+	public FrameStats frameStats;
+	/** Reused to hold where the camera should be drawn from */
+	private final Vector2 cameraTarget = new Vector2();
 
 	private Difficulty gameDifficulty = Difficulty.MEDIUM;
 
@@ -87,12 +191,25 @@ public class GameController implements Screen {
 	 * @param diff the game's difficulty
 	 */
 	public GameController(eng1game game, Difficulty diff) {
-		this();
+		this(game, diff, RandomSource.newGameSeed());
+	}
+
+	/**
+	 * Create a new game whose random numbers all come from the given seed, so it
+	 * plays out the same way every time
+	 * @param game reference to eng1game
+	 * @param diff the game's difficulty
+	 * @param seed the seed of the game's {@link #random} source
+	 * @since Assessment 2
+	 */
+	public GameController(eng1game game, Difficulty diff, long seed) {
+		this(seed);
 		this.game = game;
 
 		this.setDifficulty(diff);
 
 		generateGameObjects();
+		rebuildStaticIndex();
 	}
 	/**
 	 * Constructor for GameController. Called when 'Load game' is selected
@@ -100,9 +217,23 @@ public class GameController implements Screen {
 	 * @param saveFileName save file to load from
 	 */
 	public GameController(eng1game game, String saveFileName){
-		this();
+		this(RandomSource.newGameSeed());
 		this.game = game;
 		SaveManager.load(saveFileName, this);
+		rebuildStaticIndex();
+	}
+
+	/**
+	 * Create a game from a {@link Keyframe}, carrying on from the tick it was
+	 * taken at
+	 * @param game reference to eng1game
+	 * @param keyframe the keyframe to restore
+	 * @since Assessment 2
+	 */
+	public GameController(eng1game game, Keyframe keyframe) {
+		this(keyframe.getSeed());
+		this.game = game;
+		keyframe.restore(this);
 	}
 
 	/**
@@ -116,12 +247,32 @@ public class GameController implements Screen {
 
 	/**
 	 * Constructor for GameController
+	 * @param seed the seed of the game's {@link #random} source
+	 * @tt.updated Assessment 2
 	 */
-	private GameController() {
+	private GameController(long seed) {
+		random = new RandomSource(seed);
 		gameObjects = new ArrayList<>();
-		physicsObjects = new ArrayList<>();
+		entities = new PhysicsObjectList();
+		physicsObjects = entities;
 		colleges = new ArrayList<>();
 		rays = new ArrayList<>();
+		collisionGrid = SpatialGrid.forMap();
+		staticGrid = SpatialGrid.forMap();
+		projectiles = new ProjectileSystem();
+		timestep = new FixedTimestep();
+		world = new WorldQuery(entities, collisionGrid, staticGrid);
+		collisionCandidates = new Array<>(false, 16);
+		nearbyObjects = new Array<>(false, 8);
+		impactTimes = new FloatArray(16);
+		contacts = new ContactCache();
+		lod = new SimulationLOD();
+		collisionBodies = new Array<>(false, 64);
+		commands = new CommandBuffer();
+		aiBoats = new Array<>(false, 32);
+		playerFlow = new FlowField();
+		friendlyFlow = new FlowField();
+		friendlyBoats = new Array<>(false, 16);
 
 		camera = new OrthographicCamera();
 		camera.viewportHeight = Gdx.graphics.getHeight();
@@ -155,26 +306,28 @@ public class GameController implements Screen {
 
 		float width = GameMap.getMapWidth();
 		float height = GameMap.getMapHeight();
+		RandomStream r = RandomSource.of(this, Stream.WEATHER);
 
-		double a = MathUtils.random();
+		double a = r.random();
 		Vector2 position;
 		int direction = 0;
 		if (a > 0.75) {
 			direction = 3;
-			position = new Vector2(width, MathUtils.random(height));
+			position = new Vector2(width, r.random(height));
 		} else if (a > 0.5) {
 			direction = 2;
-			position = new Vector2(0, MathUtils.random(height));
+			position = new Vector2(0, r.random(height));
 		} else if (a > 0.25) {
 			direction = 1;
-			position = new Vector2(MathUtils.random(width), 0);
+			position = new Vector2(r.random(width), 0);
 		} else {
-			position = new Vector2(MathUtils.random(width), height);
+			position = new Vector2(r.random(width), height);
 		}
 
 		for (int i = 0; i < weatherPerGeneration; i++) {
-			physicsObjects.add(new Weather(this, new Vector2(position.x + MathUtils.random(500),
-					position.y + MathUtils.random(500)), direction));
+			physicsObjects.add(new Weather(this,
+					new Vector2(position.x + r.random(500), position.y + r.random(500)),
+					direction));
 		}
 	}
 
@@ -183,9 +336,10 @@ public class GameController implements Screen {
 	 * Generate game objects. Called when 'New game' is selected.
 	 */
 	private void generateGameObjects() {
+		RandomStream r = RandomSource.of(this, Stream.WORLD);
 		// Generate a list of random college textures
 		// TODO: Make textures unique
-		List<String> collegeTextures = MathUtils.random.ints(5, 0, 9)
+		List<String> collegeTextures = r.ints(5, 0, 9)
 				.mapToObj(tn -> String.format("img/world/castle/castle%d.png", (tn + 1)))
 				.collect(Collectors.toList());
 
@@ -225,7 +379,7 @@ public class GameController implements Screen {
 		for (int i = 0; i < 5; i++) {
 			Powerup pup;
 			do {
-				pup = new Powerup(PowerupType.randomPower(), GameMap.getRandomPointInBounds());
+				pup = new Powerup(PowerupType.randomPower(r), GameMap.getRandomPointInBounds(r));
 			} while (isObjectOverlappingAnyObj(pup)); // world is big enough to prevent blocking
 
 			physicsObjects.add(pup);
@@ -249,7 +403,7 @@ public class GameController implements Screen {
 		for (int i = 0; i < getGameDifficulty().getNumMines(); i++) {
 			Mine m;
 			do { // ensure mine is not overlapping any object
-				m = new Mine(this, GameMap.getRandomPointInBounds());
+				m = new Mine(this, GameMap.getRandomPointInBounds(r));
 			} while (isObjectOverlappingAnyObj(m)); // world is big enough to prevent blocking
 
 			physicsObjects.add(m);
@@ -270,10 +424,34 @@ public class GameController implements Screen {
 	}
 
 	/**
-	 * Called once per frame. Updates PhysicsObjects and Obstacles, increments xp.
-	 * @param delta time since the last frame
+	 * Called once per tick. Updates the HUD and map if the game is being shown,
+	 * then the rest of the world.
+	 * @param delta the length of the tick
+	 * @tt.updated Assessment 2
+	 * @see #tick(float)
 	 */
 	public void logic(float delta) {
+		long t = FrameProfiler.start();
+		if (hud != null) hud.Update(delta);
+		FrameProfiler.stop(Phase.HUD_UPDATE, t);
+		t = FrameProfiler.start();
+		if (map != null) map.Update(delta);
+		FrameProfiler.stop(Phase.MAP_UPDATE, t);
+
+		tick(delta);
+	}
+
+	/**
+	 * Advance the world by one tick. Updates PhysicsObjects and Obstacles,
+	 * increments xp. Nothing that is only used to show the game is touched, so
+	 * this can be run without {@link #show()} having been called.
+	 * @param delta the length of the tick
+	 * @since Assessment 2
+	 */
+	public void tick(float delta) {
+		long tickStart = frameStats != null ? System.nanoTime() : 0;
+		if (replay != null) replay.feed(this);
+
 		timer -= delta;
 		if (timer <= 0) gameOver();
 
@@ -285,14 +463,15 @@ public class GameController implements Screen {
 			xpTick += 1;
 		}
 
-		hud.Update(delta);
-		map.Update(delta);
-
 		UpdateObjects(delta); // update all physics objects
+		long t = FrameProfiler.start();
 		ClearKilledObjects(); // clear any 'killed' objects
+		FrameProfiler.stop(Phase.CLEAR_KILLED, t);
 
 		// if the boss college is dead, the game is won
 		if (bossCollege.isDead()) {
+			ended = true;
+			if (frameStats != null) frameStats.save(this, "win");
 			game.gameScore = (int) getGameScore();
 			game.gotoScreen(Screens.gameWinScreen);
 		}
@@ -301,16 +480,35 @@ public class GameController implements Screen {
 			generateWeather();
 			timeSinceLastWeather = 0;
 		}
+
+		if (recorder != null) recorder.record(this);
+		if (frameStats != null) {
+			frameStats.recordTick(System.nanoTime() - tickStart, physicsObjects.size());
+		}
 	}
 
 	/**
-	 * Draw sprites of all PhysicsObjects. Called once per frame
+	 * Run the ticks owed since the last frame, then draw sprites of all
+	 * PhysicsObjects part way between their last two ticks. Called once per frame
 	 * @param delta time since the last frame
+	 * @tt.updated Assessment 2
 	 */
 	@Override
 	public void render(float delta) {
+		if (frameStats != null) frameStats.recordFrame(delta);
+		// presses are read once per frame, so they are not lost when a frame runs no
+		// ticks, or repeated when it runs several
+		playerBoat.queueInput();
+
 		// do update here
-		logic(delta);
+		int ticks = timestep.advance(delta);
+		for (int i = 0; i < ticks && !ended; i++) {
+			logic(timestep.getStep());
+		}
+		float alpha = timestep.getAlpha();
+		playerBoat.getInterpolatedPosition(alpha, cameraTarget);
+		map.centerCamera(cameraTarget.add(playerBoat.getLocalCenterX(),
+				playerBoat.getLocalCenterY()));
 
 		// do draw here
 		Gdx.gl.glClearColor(0, 0, 0, 0);
@@ -320,27 +518,44 @@ public class GameController implements Screen {
 		batch.setProjectionMatrix(camera.combined);
 
 		// begin the sprite batch
+		long t = FrameProfiler.start();
 		batch.begin();
 
 		map.Draw(batch);
 
-		// draw all the physics objects
-		for (PhysicsObject physicsObject : physicsObjects) {
-			physicsObject.Draw(batch);
+		// draw all the physics objects, moving ones between their last two ticks
+		for (int g = 0; g < entities.getGroupCount(); g++) {
+			Array<PhysicsObject> group = entities.getGroup(g);
+			if (group.isEmpty() || ProjectileSystem.isSimulated(group.first())) continue;
+			boolean moves = !group.first().getCollisionLayer().isStatic;
+			for (int i = 0; i < group.size; i++) {
+				if (moves) group.get(i).DrawInterpolated(batch, alpha);
+				else group.get(i).Draw(batch);
+			}
 		}
+		// cannonballs are drawn on top, one texture at a time
+		projectiles.draw(batch, alpha);
 
 		if (DebugUtils.DRAW_DEBUG_TEXT) DebugUtils.drawEntityDebugText(this, batch);
 
 		// end the sprite batch
 		batch.end();
+		FrameProfiler.stop(Phase.SPRITE_DRAW, t);
+		FrameProfiler.setSpriteDrawCalls(batch.renderCalls);
 
+		t = FrameProfiler.start();
 		hud.Draw(batch);
+		FrameProfiler.stop(Phase.HUD_DRAW, t);
 
+		t = FrameProfiler.start();
 		sr.setProjectionMatrix(camera.combined);
 		renderRays();
+		FrameProfiler.stop(Phase.RAY_RENDER, t);
 		// this should be off during normal gameplay, but can be on to debug
 		// collisions
 		if (DebugUtils.DRAW_DEBUG_COLLISIONS) DebugUtils.drawDebugCollisions(this, sr);
+
+		FrameProfiler.endFrame();
 	}
 
 	/** Renders ProjectileRay objects */
@@ -363,30 +578,187 @@ public class GameController implements Screen {
 	}
 
 	/**
-	 * Updates all physics objects in the {@link #physicsObjects} list
+	 * Updates all physics objects in the {@link #physicsObjects} list, then tests
+	 * each pair of objects for collision once. Objects are updated one type at a
+	 * time, so each pass only ever calls the same {@code Update} method. Cannonballs
+	 * are moved and tested together by the {@link #projectiles} system.
+	 * <p>
+	 * Before anything moves, every {@link AttackBoat} near the player decides what
+	 * to do, across several threads when there are many of them. Objects far from
+	 * the player are updated less often, as decided by the {@link #lod}. Objects,
+	 * XP and plunder added while updating are held in {@link #commands}, and
+	 * applied in order once every object has been updated.
 	 * @param delta time since last frame
+	 * @tt.updated Assessment 2
 	 */
 	public void UpdateObjects(float delta) {
-		for (int i = 0; i < physicsObjects.size(); i++) {
-			PhysicsObject current = physicsObjects.get(i);
+		long t = FrameProfiler.start();
+		lod.begin(this);
+		thinkAI();
+
+		commands.begin();
+		for (int g = 0; g < entities.getGroupCount(); g++) {
+			Array<PhysicsObject> group = entities.getGroup(g);
+			if (group.isEmpty()) continue;
+			// every object in the group is in the same layer
+			if (ProjectileSystem.isSimulated(group.first())) {
+				projectiles.update(entities.getGroup(Projectile.class), delta);
+			} else if (group.first().getCollisionLayer().isStatic) {
+				for (int i = 0; i < group.size; i++) {
+					group.get(i).Update(delta);
+				}
+			} else {
+				for (int i = 0; i < group.size; i++) {
+					PhysicsObject obj = group.get(i);
+					obj.storeTickStart();
+					// keep the grid current, so queries made while updating, like
+					// rays, find objects where they are now
+					if (lod.update(obj, delta, i)) collisionGrid.update(obj);
+				}
+			}
+		}
+		commands.flush(this);
+		FrameProfiler.stop(Phase.ENTITY_UPDATE, t);
 
-			current.Update(delta);
+		t = FrameProfiler.start();
+		// collision handlers can add or remove objects, so test a copy of the list
+		collisionBodies.clear();
+		for (int i = 0; i < physicsObjects.size(); i++) {
+			PhysicsObject obj = physicsObjects.get(i);
+			if (!obj.getCollisionLayer().isStatic && !ProjectileSystem.isSimulated(obj)) {
+				collisionBodies.add(obj);
+			}
+		}
 
-			for (int j = 0; j < physicsObjects.size(); j++) {
-				PhysicsObject other = physicsObjects.get(j);
-				if (i == j) continue;
+		collisionGrid.sync(collisionBodies);
 
-				if (current.CheckCollisionWith(other)) {
-					current.OnCollision(other);
-				}
-			}
+		contacts.beginFrame();
+		if (DebugUtils.BRUTE_FORCE_COLLISIONS) {
+			// the cannonballs are not in the grid, but are tested like any other body
+			collisionBodies.addAll(entities.getGroup(Projectile.class));
+			collideBruteForce(delta);
+		} else {
+			collideBroadphase(delta);
+			projectiles.collide(entities.getGroup(Projectile.class), collisionGrid,
+					staticGrid, contacts, delta);
 		}
+		contacts.endFrame();
+		FrameProfiler.stop(Phase.COLLISION, t);
 
+		t = FrameProfiler.start();
 		// Update rays
 		rays.forEach(r -> r.Update(delta));
 
 		// XP is increased if player is in dangerous position
 		xpTickMultiplier = isPlayerInDanger() ? 2f : 1f;
+		FrameProfiler.stop(Phase.ENTITY_UPDATE, t);
+	}
+
+	/**
+	 * Let every {@link AttackBoat} near the player choose a target and state,
+	 * using the world as it was at the start of the tick. Far boats do not look
+	 * for targets. Nothing may change the world while this runs, so the grids,
+	 * flow fields and the shapes read by the boats are brought up to date first.
+	 */
+	private void thinkAI() {
+		aiBoats.clear();
+		entities.getAll(AttackBoat.class, aiBoats);
+		int near = 0;
+		for (int i = 0; i < aiBoats.size; i++) {
+			if (!lod.isFar(aiBoats.get(i))) aiBoats.set(near++, aiBoats.get(i));
+		}
+		aiBoats.truncate(near);
+		if (aiBoats.isEmpty()) return;
+
+		world.prepare();
+		// polygons work out their world vertices when first asked, so ask now
+		for (int i = 0; i < colleges.size(); i++) {
+			colleges.get(i).collisionPolygon.getTransformedVertices();
+		}
+		// build it now if needed, rather than on several threads at once
+		NavigationGrid nav = getNavigation();
+		playerFlow.update(nav, playerBoat);
+		friendlyBoats.clear();
+		entities.getAll(FriendlyBoat.class, friendlyBoats);
+		friendlyFlow.update(nav, friendlyBoats);
+		AIPlanner.think(aiBoats);
+	}
+
+	/**
+	 * Tests each pair of moving objects that share a {@link #collisionGrid} cell,
+	 * and each moving object against the {@link #staticGrid}.
+	 * @param delta time since last frame
+	 */
+	private void collideBroadphase(float delta) {
+		for (int i = 0; i < collisionBodies.size; i++) {
+			PhysicsObject current = collisionBodies.get(i);
+
+			collisionCandidates.clear();
+			collisionGrid.query(current, collisionCandidates);
+			// each pair is found from both sides, only keep it on one
+			int kept = 0;
+			for (int j = 0; j < collisionCandidates.size; j++) {
+				PhysicsObject other = collisionCandidates.get(j);
+				if (isPairTestedFrom(current, other)) collisionCandidates.set(kept++, other);
+			}
+			collisionCandidates.truncate(kept);
+			staticGrid.query(current, collisionCandidates);
+
+			if (current.getCollisionLayer().isSwept && collisionCandidates.size > 1) {
+				ProjectileSystem.sortByTimeOfImpact((Projectile) current, collisionCandidates,
+						impactTimes);
+			}
+			for (int j = 0; j < collisionCandidates.size; j++) {
+				contacts.test(current, collisionCandidates.get(j), delta);
+			}
+		}
+	}
+
+	/**
+	 * Decide which side of a pair of moving objects the pair is tested from.
+	 * Swept objects test their own pairs, so they can be tested in the order they
+	 * were hit.
+	 * @param current the object being tested
+	 * @param other an object found by the broadphase
+	 * @return {@code true} if the pair should be tested while testing
+	 *         {@code current}
+	 */
+	private static boolean isPairTestedFrom(PhysicsObject current, PhysicsObject other) {
+		boolean currentSwept = current.getCollisionLayer().isSwept;
+		if (currentSwept != other.getCollisionLayer().isSwept) return currentSwept;
+		return current.getPhysicsId() < other.getPhysicsId();
+	}
+
+	/**
+	 * Tests every pair of objects, apart from pairs of static objects.
+	 * @param delta time since last frame
+	 * @see DebugUtils#BRUTE_FORCE_COLLISIONS
+	 */
+	private void collideBruteForce(float delta) {
+		for (int i = 0; i < collisionBodies.size; i++) {
+			PhysicsObject current = collisionBodies.get(i);
+			for (int j = i + 1; j < collisionBodies.size; j++) {
+				contacts.test(current, collisionBodies.get(j), delta);
+			}
+			for (int j = 0; j < physicsObjects.size(); j++) {
+				PhysicsObject other = physicsObjects.get(j);
+				if (other.getCollisionLayer().isStatic) contacts.test(current, other, delta);
+			}
+		}
+	}
+
+	/**
+	 * Rebuild the {@link #staticGrid} from the static objects in
+	 * {@link #physicsObjects}. Needed after static objects are added to the list
+	 * directly, rather than through {@link #NewPhysicsObject(PhysicsObject)}.
+	 */
+	public void rebuildStaticIndex() {
+		invalidateNavigation();
+		staticGrid.clear();
+		for (int i = 0; i < physicsObjects.size(); i++) {
+			PhysicsObject obj = physicsObjects.get(i);
+			if (obj.getCollisionLayer().isStatic) staticGrid.update(obj);
+		}
 	}
 
 	/**
@@ -408,8 +780,8 @@ public class GameController implements Screen {
 	 * @author James Burnell
 	 */
 	public boolean isPlayerNearEnemyBoat() {
-		return physicsObjects.stream().filter(p -> p instanceof EnemyBoat)
-				.anyMatch(p -> p.getCenter().dst2(playerBoat.getCenter()) < 500 * 500);
+		return world.any(playerBoat.getCenterX(), playerBoat.getCenterY(), 500,
+				EnemyBoat.class);
 	}
 
 	/**
@@ -420,8 +792,7 @@ public class GameController implements Screen {
 	 * @author James Burnell
 	 */
 	public boolean isPlayerNearEnemyCollege() {
-		return colleges.stream().filter(c -> c instanceof EnemyCollege)
-				.anyMatch(c -> c.isInRange(playerBoat));
+		return isPlayerInRangeOf(EnemyCollege.class);
 	}
 
 	/**
@@ -431,8 +802,28 @@ public class GameController implements Screen {
 	 * @author James Burnell
 	 */
 	public boolean isPlayerNearKraken() {
-		return physicsObjects.stream().filter(p -> p instanceof Kraken)
-				.anyMatch(p -> ((Kraken) p).isInRange(playerBoat));
+		nearbyObjects.clear();
+		world.within(playerBoat.getCenterX(), playerBoat.getCenterY(), Kraken.ATTACK_RANGE,
+				Kraken.class, nearbyObjects);
+		for (int i = 0; i < nearbyObjects.size; i++) {
+			if (((Kraken) nearbyObjects.get(i)).isInRange(playerBoat)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tests if the player is in range of a type of college
+	 * @param type the type of college
+	 * @return {@code true} if within range of a college of the type
+	 */
+	private boolean isPlayerInRangeOf(Class<? extends College> type) {
+		nearbyObjects.clear();
+		world.within(playerBoat.getCenterX(), playerBoat.getCenterY(), College.MAX_RANGE, type,
+				nearbyObjects);
+		for (int i = 0; i < nearbyObjects.size; i++) {
+			if (((College) nearbyObjects.get(i)).isInRange(playerBoat)) return true;
+		}
+		return false;
 	}
 
 	/**
@@ -460,8 +851,33 @@ public class GameController implements Screen {
 		PlayerCollege newFriendlyCollege = new PlayerCollege(oldCollege);
 		physicsObjects.remove(oldCollege);
 		physicsObjects.add(newFriendlyCollege);
+		staticGrid.remove(oldCollege);
+		staticGrid.update(newFriendlyCollege);
 		colleges.remove(oldCollege);
 		colleges.add(newFriendlyCollege);
+		invalidateNavigation();
+	}
+
+	/**
+	 * @return where boats can sail around the {@link #colleges}. It is built the
+	 *         first time it is asked for after the colleges change.
+	 * @since Assessment 2
+	 */
+	public NavigationGrid getNavigation() {
+		if (navigation == null) {
+			navigation = new NavigationGrid(GameMap.getMapWidth(), GameMap.getMapHeight(),
+					colleges);
+		}
+		return navigation;
+	}
+
+	/**
+	 * Throw away the {@link #getNavigation() navigation grid}, so it is built
+	 * again. Needed after {@link #colleges} are added or removed.
+	 * @since Assessment 2
+	 */
+	public void invalidateNavigation() {
+		navigation = null;
 	}
 
 	/**
@@ -470,7 +886,13 @@ public class GameController implements Screen {
 	 */
 	public void ClearKilledObjects() {
 		// Clean up objects
-		physicsObjects.removeIf(GameObject::removeOnNextTick);
+		physicsObjects.removeIf(p -> {
+			if (!p.removeOnNextTick()) return false;
+			collisionGrid.remove(p);
+			staticGrid.remove(p);
+			if (p instanceof Projectile) ProjectilePool.free((Projectile) p);
+			return true;
+		});
 		// Clean up rays
 		rays.removeIf(ProjectileRay::removeOnNextTick);
 	}
@@ -498,8 +920,10 @@ public class GameController implements Screen {
 	public void hide() {
 	}
 
+	/** @tt.updated Assessment 2 */
 	@Override
 	public void dispose() {
+		if (recorder != null) recorder.save();
 	}
 
 	/**
@@ -507,15 +931,25 @@ public class GameController implements Screen {
 	 * @return {@code true} if player is in range, {@code false} otherwise
 	 */
 	public boolean isPlayerInRangeOfFriendlyCollege() {
-		return colleges.stream().filter(c -> c instanceof PlayerCollege)
-				.anyMatch(c -> c.isInRange(playerBoat));
+		return isPlayerInRangeOf(PlayerCollege.class);
+	}
+
+	/**
+	 * @return {@code true} once the game has been won or lost
+	 * @since Assessment 2
+	 */
+	public boolean isEnded() {
+		return ended;
 	}
 
 	/**
 	 * dispose of the game screen and go to the game over screen.
+	 * @tt.updated Assessment 2
 	 */
 	public void gameOver() {
+		ended = true;
 		game.timeUp = timer <= 0;
+		if (frameStats != null) frameStats.save(this, game.timeUp ? "timeUp" : "died");
 		game.gameScore = (int) getGameScore();
 		game.gotoScreen(Screens.gameOverScreen);
 	}
@@ -537,37 +971,69 @@ public class GameController implements Screen {
 
 	/**
 	 * Called to give a reference to a new {@link PhysicsObject} to the
-	 * {@link #physicsObjects} list
+	 * {@link #physicsObjects} list. While objects are being updated, it is added
+	 * once they all have been.
 	 * 
 	 * @param obj the object to add
+	 * @tt.updated Assessment 2
 	 */
 	public void NewPhysicsObject(PhysicsObject obj) {
+		if (commands != null && commands.isRecording()) {
+			commands.spawn(obj);
+			return;
+		}
 		// A new PhysicsObject has been created, add it to the list, so it
 		// receives
 		// updates
 		physicsObjects.add(obj);
+		if (obj.getCollisionLayer().isStatic) staticGrid.update(obj);
 	}
 
 	/**
-	 * Add XP to the player's amount.
+	 * Add XP to the player's amount. While objects are being updated, it is added
+	 * once they all have been.
 	 * 
 	 * @param amount the amount of XP to add
+	 * @tt.updated Assessment 2
 	 */
 	public void addXp(float amount) {
+		if (commands != null && commands.isRecording()) {
+			commands.addXp(amount);
+			return;
+		}
 		xp += amount * getGameDifficulty().getPlayerXpMul();
 		totalXp += amount * getGameDifficulty().getPlayerXpMul();
 	}
 
 	/**
-	 * Add plunder to the player's amount.
+	 * Add plunder to the player's amount. While objects are being updated, it is
+	 * added once they all have been.
 	 * 
 	 * @param amount the amount of plunder to add
+	 * @tt.updated Assessment 2
 	 */
 	public void addPlunder(float amount) {
+		if (commands != null && commands.isRecording()) {
+			commands.addPlunder(amount);
+			return;
+		}
 		plunder += amount * getGameDifficulty().getPlayerXpMul();
 		totalPlunder += amount * getGameDifficulty().getPlayerXpMul();
 	}
 
+	/**
+	 * Buy something from the shop. While a replay is playing, the shop is ignored,
+	 * as the purchases that were recorded are made instead.
+	 *
+	 * @param purchase what was bought
+	 * @since Assessment 2
+	 */
+	public void purchase(ShopPurchase purchase) {
+		if (replay != null && !replay.isFinished()) return;
+		purchase.apply(this);
+		if (recorder != null) recorder.purchase(purchase);
+	}
+
 	/**
 	 * Remove plunder from the player's amount.
 	 * 
@@ -679,12 +1145,52 @@ public class GameController implements Screen {
 	 * @return The new GameController instance
 	 */
 	public static GameController getMockForHUD() {
-		GameController gc = new GameController();
+		GameController gc = new GameController(RandomSource.newGameSeed());
 		gc.playerBoat.damage(13);
 		gc.addXp(50);
 		return gc;
 	}
 
+	/**
+	 * Write the state of the game that is not held by its objects, like the timer,
+	 * XP and plunder
+	 * @param out the stream to write to
+	 * @throws IOException if the stream can't be written to
+	 * @since Assessment 2
+	 * @see Keyframe
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		out.writeFloat(timer);
+		out.writeFloat(xp);
+		out.writeFloat(totalXp);
+		out.writeInt(plunder);
+		out.writeInt(totalPlunder);
+		out.writeFloat(xpTick);
+		out.writeFloat(xpTickMultiplier);
+		out.writeFloat(timeSinceLastWeather);
+		out.writeFloat(timeBetweenWeatherGeneration);
+		out.writeBoolean(ended);
+	}
+
+	/**
+	 * Read the state written by {@link #writeState(DataOutput)}
+	 * @param in the stream to read from
+	 * @throws IOException if the stream can't be read from
+	 * @since Assessment 2
+	 */
+	public void readState(DataInput in) throws IOException {
+		timer = in.readFloat();
+		xp = in.readFloat();
+		totalXp = in.readFloat();
+		plunder = in.readInt();
+		totalPlunder = in.readInt();
+		xpTick = in.readFloat();
+		xpTickMultiplier = in.readFloat();
+		timeSinceLastWeather = in.readFloat();
+		timeBetweenWeatherGeneration = in.readFloat();
+		ended = in.readBoolean();
+	}
+
 	/**
 	 * setter method for the game's difficulty
 	 * @param difficulty the new game difficulty
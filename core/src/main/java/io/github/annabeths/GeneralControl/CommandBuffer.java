@@ -0,0 +1,113 @@
+package io.github.annabeths.GeneralControl;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * Holds changes to the world made while its objects are being updated, so they
+ * can be applied together afterwards. While recording, new objects are not
+ * added to the world part way through the update loops, and the player's XP and
+ * plunder do not change under objects that have not been updated yet.
+ * <p>
+ * Changes are applied in the order they were recorded, which is the order the
+ * objects were updated in, so every run of the same game applies them the same
+ * way. Objects are already removed in the same deferred way, by being flagged
+ * and then cleared by {@link GameController#ClearKilledObjects()}.
+ *
+ * @since Assessment 2
+ */
+public class CommandBuffer {
+
+	private static final int SPAWN = 0, XP = 1, PLUNDER = 2;
+
+	/** The type of each recorded command */
+	private final IntArray types = new IntArray(32);
+	/** The object spawned by each command, or {@code null} */
+	private final Array<PhysicsObject> objects = new Array<>(32);
+	/** The amount of XP or plunder of each command, or 0 */
+	private final FloatArray amounts = new FloatArray(32);
+	private boolean recording = false;
+
+	/** Start holding changes instead of letting them be applied straight away */
+	public void begin() {
+		recording = true;
+	}
+
+	/** @return {@code true} if changes are currently being held */
+	public boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Hold a new object until the buffer is flushed
+	 *
+	 * @param obj the object to add to the world
+	 */
+	public void spawn(PhysicsObject obj) {
+		record(SPAWN, obj, 0);
+	}
+
+	/**
+	 * Hold XP for the player until the buffer is flushed
+	 *
+	 * @param amount the amount of XP to add
+	 */
+	public void addXp(float amount) {
+		record(XP, null, amount);
+	}
+
+	/**
+	 * Hold plunder for the player until the buffer is flushed
+	 *
+	 * @param amount the amount of plunder to add
+	 */
+	public void addPlunder(float amount) {
+		record(PLUNDER, null, amount);
+	}
+
+	private void record(int type, PhysicsObject obj, float amount) {
+		types.add(type);
+		objects.add(obj);
+		amounts.add(amount);
+	}
+
+	/**
+	 * Stop recording, and apply every held change to the game in the order it was
+	 * recorded
+	 *
+	 * @param gc the game to apply the changes to
+	 */
+	public void flush(GameController gc) {
+		// the changes are applied through the controller, so they must not be held
+		// again
+		recording = false;
+		for (int i = 0; i < types.size; i++) {
+			switch (types.get(i)) {
+			case SPAWN:
+				gc.NewPhysicsObject(objects.get(i));
+				break;
+			case XP:
+				gc.addXp(amounts.get(i));
+				break;
+			case PLUNDER:
+				gc.addPlunder(amounts.get(i));
+				break;
+			default:
+				break;
+			}
+		}
+		types.clear();
+		objects.clear();
+		amounts.clear();
+	}
+
+	/** @return the number of changes waiting to be applied */
+	public int size() {
+		return types.size;
+	}
+
+}
@@ -2,6 +2,7 @@ package io.github.annabeths.GeneralControl;
 
 import static io.github.annabeths.GeneralControl.ResourceManager.debugFont;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -17,6 +18,7 @@ import com.badlogic.gdx.utils.XmlReader.Element;
 import io.github.annabeths.Boats.AIBoat;
 import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.FrameProfiler.Phase;
 
 /**
  * Tools to aid in debugging the game. Not available to the player.
@@ -30,6 +32,17 @@ public class DebugUtils {
 	public static boolean DRAW_DEBUG_TEXT = false;
 	public static boolean ENEMY_COLLEGE_FIRE = true;
 	public static boolean FORCE_POWERUP = false;
+	/**
+	 * Test every pair of objects for collisions instead of using the
+	 * {@link io.github.annabeths.Physics.SpatialGrid broadphase}. Useful to
+	 * compare results against.
+	 */
+	public static boolean BRUTE_FORCE_COLLISIONS = false;
+	/**
+	 * Time each phase of every frame with the {@link FrameProfiler}, and show the
+	 * timings with the debug text.
+	 */
+	public static boolean PROFILE_FRAMES = false;
 
 	/**
 	 * Load the default debug settings from the xml file. This is needed in the
@@ -52,6 +65,8 @@ public class DebugUtils {
 			DRAW_DEBUG_TEXT = getSavedValue(e, "DRAW_DEBUG_TEXT");
 			ENEMY_COLLEGE_FIRE = getSavedValue(e, "ENEMY_COLLEGE_FIRE");
 			FORCE_POWERUP = getSavedValue(e, "FORCE_POWERUP");
+			BRUTE_FORCE_COLLISIONS = getSavedValue(e, "BRUTE_FORCE_COLLISIONS");
+			PROFILE_FRAMES = getSavedValue(e, "PROFILE_FRAMES");
 		} catch (NullPointerException e) {
 			System.err.println("Failed to load debug values");
 		}
@@ -93,16 +108,44 @@ public class DebugUtils {
 	}
 
 	/**
-	 * Generate the debug text
+	 * Generate the debug text. If {@link #PROFILE_FRAMES} is on, the count of
+	 * each type of object, the time taken by each phase of the frame and the
+	 * pairs tested for collision are added.
 	 * @param gc instance of GameController
 	 * @return the debug text
+	 * @tt.updated Assessment 2
 	 */
 	private static List<String> generateDebugText(GameController gc) {
-		return Arrays.asList("PhysObj Count = " + gc.physicsObjects.size(),
+		List<String> text = new ArrayList<>(Arrays.asList(
+				"PhysObj Count = " + gc.physicsObjects.size(),
 				"Living College Count = "
 						+ gc.colleges.stream().filter(c -> c.getHealth() > 0).count(),
 				"FPS: " + Gdx.graphics.getFramesPerSecond(),
-				"Player in danger? " + gc.isPlayerInDanger());
+				"Player in danger? " + gc.isPlayerInDanger()));
+		if (!PROFILE_FRAMES) return text;
+
+		text.add("");
+		for (int g = 0; g < gc.entities.getGroupCount(); g++) {
+			text.add(String.format("%s: %d", gc.entities.getGroupType(g).getSimpleName(),
+					gc.entities.getGroup(g).size));
+		}
+
+		text.add(String.format("Updates: %d full, %d far, %d skipped",
+				gc.lod.getFullUpdates(), gc.lod.getCoarseUpdates(), gc.lod.getSkippedUpdates()));
+
+		text.add("");
+		text.add(String.format("Phase (ms, %d frames): avg / p99",
+				FrameProfiler.getFrameCount()));
+		for (Phase phase : Phase.values()) {
+			text.add(String.format("%s: %.3f / %.3f", phase.getLabel(),
+					FrameProfiler.getAverageMs(phase), FrameProfiler.getP99Ms(phase)));
+		}
+		text.add(String.format("Sprite draw calls: %d", FrameProfiler.getSpriteDrawCalls()));
+
+		text.add("");
+		text.add("Pairs tested:");
+		FrameProfiler.describePairs(text);
+		return text;
 	}
 
 	/**
@@ -128,7 +171,8 @@ public class DebugUtils {
 				// Draw destination
 				sr.circle(aib.GetDestination().x, aib.GetDestination().y, dt);
 				// Draw line from ship to destination
-				sr.line(aib.getCenter(), aib.GetDestination());
+				sr.line(aib.getCenterX(), aib.getCenterY(), aib.GetDestination().x,
+						aib.GetDestination().y);
 			}
 		}
 
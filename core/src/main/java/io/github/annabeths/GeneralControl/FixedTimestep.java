@@ -0,0 +1,103 @@
+package io.github.annabeths.GeneralControl;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Splits the time between rendered frames into ticks of a fixed length, so the
+ * game plays the same at any frame rate. Time left over after the last whole
+ * tick is carried into the next frame, and is used to draw objects part way
+ * between their last two ticks.
+ * <p>
+ * If a frame takes so long that more than {@link #getMaxTicks()} ticks are
+ * owed, the extra time is dropped and the game slows down for that frame,
+ * rather than each slow frame making the next one slower still.
+ *
+ * @since Assessment 2
+ */
+public class FixedTimestep {
+
+	/** The number of ticks per second used by new games */
+	public static int TICK_RATE = 60;
+	/** The most ticks run in a single frame by new games */
+	public static int MAX_TICKS_PER_FRAME = 5;
+
+	private float step;
+	private int maxTicks;
+	/** Time passed that has not yet been used up by a tick */
+	private float accumulator = 0;
+
+	/**
+	 * @param tickRate the number of ticks per second
+	 * @param maxTicks the most ticks to run in a single frame
+	 */
+	public FixedTimestep(int tickRate, int maxTicks) {
+		setTickRate(tickRate);
+		setMaxTicks(maxTicks);
+	}
+
+	/** Create a timestep using {@link #TICK_RATE} and {@link #MAX_TICKS_PER_FRAME} */
+	public FixedTimestep() {
+		this(TICK_RATE, MAX_TICKS_PER_FRAME);
+	}
+
+	/**
+	 * Add the time taken by a frame, and find how many ticks should be run
+	 *
+	 * @param delta time since the last frame
+	 * @return the number of ticks to run, each {@link #getStep()} long
+	 */
+	public int advance(float delta) {
+		accumulator += Math.max(delta, 0);
+		int ticks = (int) (accumulator / step);
+		if (ticks > maxTicks) {
+			// too far behind to catch up, so forget the time that is owed
+			ticks = maxTicks;
+			accumulator = ticks * step;
+		}
+		accumulator -= ticks * step;
+		return ticks;
+	}
+
+	/**
+	 * Get how far the current time is between the last tick and the next one
+	 *
+	 * @return a value from 0, at the last tick, to 1, at the next tick
+	 */
+	public float getAlpha() {
+		return MathUtils.clamp(accumulator / step, 0, 1);
+	}
+
+	/** @return the length of each tick in seconds */
+	public float getStep() {
+		return step;
+	}
+
+	/** @return the number of ticks per second */
+	public int getTickRate() {
+		return Math.round(1 / step);
+	}
+
+	/**
+	 * @param tickRate the number of ticks per second, must be positive
+	 * @throws IllegalArgumentException if the rate is not positive
+	 */
+	public void setTickRate(int tickRate) {
+		if (tickRate <= 0) throw new IllegalArgumentException("Tick rate must be positive");
+		step = 1f / tickRate;
+	}
+
+	/** @return the most ticks run in a single frame */
+	public int getMaxTicks() {
+		return maxTicks;
+	}
+
+	/**
+	 * @param maxTicks the most ticks to run in a single frame, must be positive
+	 * @throws IllegalArgumentException if the number is not positive
+	 */
+	public void setMaxTicks(int maxTicks) {
+		if (maxTicks <= 0) throw new IllegalArgumentException("Max ticks must be positive");
+		this.maxTicks = maxTicks;
+	}
+
+}
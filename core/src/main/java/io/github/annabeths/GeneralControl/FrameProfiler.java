@@ -0,0 +1,247 @@
+package io.github.annabeths.GeneralControl;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
+/**
+ * Times each phase of a frame, and counts the pairs of objects tested for
+ * collision by the types of the two objects. Time spent in a phase is added up
+ * over the frame, as a frame can run several ticks, and kept for the last
+ * {@link #WINDOW} frames so averages and 99th percentiles can be shown.
+ * <p>
+ * Nothing is recorded unless {@link DebugUtils#PROFILE_FRAMES} is on. When it
+ * is off each timer is a single field read, so they can be left in the game.
+ * <p>
+ * Time a phase like this:
+ *
+ * <pre>
+ * long t = FrameProfiler.start();
+ * // ...
+ * FrameProfiler.stop(Phase.COLLISION, t);
+ * </pre>
+ *
+ * then call {@link #endFrame()} once the frame is finished.
+ *
+ * @since Assessment 2
+ */
+public final class FrameProfiler {
+
+	/** The parts of a frame that are timed */
+	public enum Phase {
+		HUD_UPDATE("HUD update"), MAP_UPDATE("Map update"), ENTITY_UPDATE("AI/entities"),
+		COLLISION("Collision"), CLEAR_KILLED("Clear killed"), SPRITE_DRAW("Sprite draw"),
+		HUD_DRAW("HUD draw"), RAY_RENDER("Ray render");
+
+		private final String label;
+
+		private Phase(String label) {
+			this.label = label;
+		}
+
+		/** @return the name of the phase to show */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	/** The number of frames averages and percentiles are taken over */
+	public static final int WINDOW = 240;
+	/** The most object types that pairs are counted for */
+	static final int MAX_TYPES = 32;
+
+	private static final Phase[] PHASES = Phase.values();
+
+	/** Time spent in each phase so far this frame, in nanoseconds */
+	private static final long[] current = new long[PHASES.length];
+	/** Time spent in each phase over the last frames, oldest overwritten first */
+	private static final long[][] samples = new long[PHASES.length][WINDOW];
+	private static final long[] totals = new long[PHASES.length];
+	/** Used to sort a phase's samples without changing their order */
+	private static final long[] sorted = new long[WINDOW];
+	private static int next = 0;
+	private static int count = 0;
+
+	private static final ObjectIntMap<Class<?>> typeIndex = new ObjectIntMap<>();
+	private static final Class<?>[] types = new Class<?>[MAX_TYPES];
+	/** Pairs tested so far this frame, by the index of each type */
+	private static final int[] pairs = new int[MAX_TYPES * MAX_TYPES];
+	/** Pairs tested on the last finished frame */
+	private static final int[] lastPairs = new int[MAX_TYPES * MAX_TYPES];
+	/** The times the sprite batch was flushed to the GPU on the last frame */
+	private static int spriteDrawCalls = 0;
+
+	private FrameProfiler() {
+	}
+
+	/** @return {@code true} if phases are being timed */
+	public static boolean isEnabled() {
+		return DebugUtils.PROFILE_FRAMES;
+	}
+
+	/**
+	 * Start timing a phase
+	 *
+	 * @return the time to pass to {@link #stop(Phase, long)}, or 0 if profiling
+	 *         is off
+	 */
+	public static long start() {
+		return DebugUtils.PROFILE_FRAMES ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Stop timing a phase, adding the time since {@link #start()} to this frame
+	 *
+	 * @param phase the phase that was timed
+	 * @param start the value returned by {@link #start()}
+	 */
+	public static void stop(Phase phase, long start) {
+		// profiling may have been turned on part way through the phase
+		if (!DebugUtils.PROFILE_FRAMES || start == 0) return;
+		current[phase.ordinal()] += System.nanoTime() - start;
+	}
+
+	/**
+	 * Count a pair of objects being tested for collision
+	 *
+	 * @param a the first object
+	 * @param b the second object
+	 */
+	public static void countPair(PhysicsObject a, PhysicsObject b) {
+		if (!DebugUtils.PROFILE_FRAMES) return;
+		int i = indexOf(a.getClass());
+		int j = indexOf(b.getClass());
+		if (i < 0 || j < 0) return;
+		pairs[Math.min(i, j) * MAX_TYPES + Math.max(i, j)]++;
+	}
+
+	/**
+	 * Record how many draw calls the sprite batch made this frame. Each change of
+	 * texture costs one, so this shows whether the sprites are being drawn from
+	 * the {@link ResourceManager#atlas}.
+	 *
+	 * @param calls the sprite batch's {@code renderCalls}, read after it has
+	 *        ended
+	 */
+	public static void setSpriteDrawCalls(int calls) {
+		if (!DebugUtils.PROFILE_FRAMES) return;
+		spriteDrawCalls = calls;
+	}
+
+	/**
+	 * Find the index of a type, giving it one if it is new
+	 *
+	 * @param type the type of object
+	 * @return the index, or -1 if there are already {@link #MAX_TYPES} types
+	 */
+	private static int indexOf(Class<?> type) {
+		int i = typeIndex.get(type, -1);
+		if (i >= 0 || typeIndex.size == MAX_TYPES) return i;
+		i = typeIndex.size;
+		types[i] = type;
+		typeIndex.put(type, i);
+		return i;
+	}
+
+	/**
+	 * Finish the frame. The time spent in each phase is stored, and the pair
+	 * counts are kept to be shown until the next frame is finished.
+	 */
+	public static void endFrame() {
+		if (!DebugUtils.PROFILE_FRAMES) return;
+		for (int p = 0; p < PHASES.length; p++) {
+			totals[p] += current[p] - samples[p][next];
+			samples[p][next] = current[p];
+			current[p] = 0;
+		}
+		next = (next + 1) % WINDOW;
+		count = Math.min(count + 1, WINDOW);
+
+		System.arraycopy(pairs, 0, lastPairs, 0, pairs.length);
+		Arrays.fill(pairs, 0);
+	}
+
+	/** Forget every frame and pair count */
+	public static void reset() {
+		Arrays.fill(current, 0);
+		for (long[] s : samples) {
+			Arrays.fill(s, 0);
+		}
+		Arrays.fill(totals, 0);
+		next = 0;
+		count = 0;
+		Arrays.fill(pairs, 0);
+		Arrays.fill(lastPairs, 0);
+		spriteDrawCalls = 0;
+	}
+
+	/** @return the number of draw calls the sprite batch made on the last frame */
+	public static int getSpriteDrawCalls() {
+		return spriteDrawCalls;
+	}
+
+	/** @return the number of frames the averages are taken over */
+	public static int getFrameCount() {
+		return count;
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the mean time spent in the phase per frame, in milliseconds
+	 */
+	public static float getAverageMs(Phase phase) {
+		if (count == 0) return 0;
+		return totals[phase.ordinal()] / (float) count / 1e6f;
+	}
+
+	/**
+	 * @param phase the phase
+	 * @return the time 99% of frames spent less than or as long in the phase, in
+	 *         milliseconds
+	 */
+	public static float getP99Ms(Phase phase) {
+		if (count == 0) return 0;
+		// until the window is full, the samples are at the start of the array
+		System.arraycopy(samples[phase.ordinal()], 0, sorted, 0, count);
+		Arrays.sort(sorted, 0, count);
+		int rank = (int) Math.ceil(count * 0.99) - 1;
+		return sorted[rank] / 1e6f;
+	}
+
+	/**
+	 * Get the number of pairs tested on the last finished frame between two types
+	 * of object, in either order
+	 *
+	 * @param a the first type
+	 * @param b the second type
+	 * @return the number of pairs
+	 */
+	public static int getPairCount(Class<?> a, Class<?> b) {
+		int i = typeIndex.get(a, -1);
+		int j = typeIndex.get(b, -1);
+		if (i < 0 || j < 0) return 0;
+		return lastPairs[Math.min(i, j) * MAX_TYPES + Math.max(i, j)];
+	}
+
+	/**
+	 * Describe the pairs tested on the last finished frame, one line per pair of
+	 * types, like {@code "EnemyBoat/Projectile: 12"}. Types with no pairs are left
+	 * out.
+	 *
+	 * @param out the list to add the lines to
+	 */
+	public static void describePairs(List<String> out) {
+		for (int i = 0; i < typeIndex.size; i++) {
+			for (int j = i; j < typeIndex.size; j++) {
+				int n = lastPairs[i * MAX_TYPES + j];
+				if (n == 0) continue;
+				out.add(String.format("%s/%s: %d", types[i].getSimpleName(),
+						types[j].getSimpleName(), n));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package io.github.annabeths.GeneralControl;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * Records how long every frame and tick of a game took, in
+ * {@link TimeHistogram}s, along with the most objects that were in the world at
+ * once. When the game ends the histograms are saved to a JSON file with the
+ * game's difficulty and seed, so runs can be compared across builds and
+ * machines. Set it as the {@link GameController#frameStats} of a game to
+ * record it.
+ *
+ * @since Assessment 2
+ */
+public class FrameStats {
+
+	/** The percentiles written to the file, along with every bucket */
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+	private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p99_9" };
+
+	private final TimeHistogram frameTimes = new TimeHistogram();
+	private final TimeHistogram tickTimes = new TimeHistogram();
+	/** Where the stats are saved, may be {@code null} */
+	private final FileHandle file;
+	private int peakEntities = 0;
+	private boolean saved = false;
+
+	/**
+	 * @param file where to save the stats when the game ends, or {@code null} to
+	 *        only keep them in memory
+	 */
+	public FrameStats(FileHandle file) {
+		this.file = file;
+	}
+
+	/**
+	 * Record the time between the last frame and this one
+	 * @param delta the time in seconds
+	 */
+	public void recordFrame(float delta) {
+		frameTimes.record((long) (delta * 1e9));
+	}
+
+	/**
+	 * Record how long a tick took to run
+	 * @param nanos the time in nanoseconds
+	 * @param entities the number of objects in the world after the tick
+	 */
+	public void recordTick(long nanos, int entities) {
+		tickTimes.record(nanos);
+		peakEntities = Math.max(peakEntities, entities);
+	}
+
+	/**
+	 * Save the stats to the file, if there is one. Only the first call does
+	 * anything, so the stats of a game are saved once however it ends.
+	 * @param gc the game that ended
+	 * @param result how the game ended, like {@code "win"}
+	 */
+	public void save(GameController gc, String result) {
+		if (saved) return;
+		saved = true;
+		if (file == null) return;
+		try {
+			file.writeString(toJson(gc, result), false);
+		} catch (GdxRuntimeException e) {
+			Gdx.app.error("FrameStats", "Failed to save frame stats to " + file.path(), e);
+		}
+	}
+
+	/**
+	 * Describe the stats as JSON. Durations are in microseconds.
+	 * @param gc the game the stats are from
+	 * @param result how the game ended
+	 * @return the JSON text
+	 */
+	public String toJson(GameController gc, String result) {
+		StringWriter text = new StringWriter();
+		JsonWriter json = new JsonWriter(text);
+		json.setOutputType(OutputType.json);
+		try {
+			json.object();
+			json.set("result", result);
+			json.set("difficulty", gc.getGameDifficulty().name());
+			json.set("seed", gc.random.getSeed());
+			json.set("tickRate", gc.timestep.getTickRate());
+			json.set("gameTime", GameController.PLAY_TIME - gc.timer);
+			json.set("peakEntities", peakEntities);
+			json.name("frames");
+			writeHistogram(json, frameTimes);
+			json.name("ticks");
+			writeHistogram(json, tickTimes);
+			json.close();
+		} catch (IOException e) {
+			// a StringWriter does not throw
+			throw new GdxRuntimeException(e);
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Write a histogram's summary and every bucket that has a count, as
+	 * {@code [start, end, count]}
+	 */
+	private static void writeHistogram(JsonWriter json, TimeHistogram h) throws IOException {
+		json.object();
+		json.set("count", h.getCount());
+		json.set("mean", h.getMean());
+		json.set("min", h.getMin());
+		json.set("max", h.getMax());
+		for (int i = 0; i < PERCENTILES.length; i++) {
+			json.set(PERCENTILE_NAMES[i], h.getValueAtPercentile(PERCENTILES[i]));
+		}
+		json.array("buckets");
+		for (int i = 0; i < TimeHistogram.BUCKETS; i++) {
+			long n = h.getBucketCount(i);
+			if (n == 0) continue;
+			json.array();
+			json.value(TimeHistogram.getBucketStart(i));
+			json.value(TimeHistogram.getBucketEnd(i));
+			json.value(n);
+			json.pop();
+		}
+		json.pop();
+		json.pop();
+	}
+
+	/** @return the time between each frame */
+	public TimeHistogram getFrameTimes() {
+		return frameTimes;
+	}
+
+	/** @return the time each tick took to run */
+	public TimeHistogram getTickTimes() {
+		return tickTimes;
+	}
+
+	/** @return the most objects that were in the world after a tick */
+	public int getPeakEntities() {
+		return peakEntities;
+	}
+
+}
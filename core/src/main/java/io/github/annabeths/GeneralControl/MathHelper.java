@@ -1,5 +1,8 @@
 package io.github.annabeths.GeneralControl;
 
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+
 /**
  * A collection of useful math functions
  * 
@@ -32,4 +35,19 @@ public class MathHelper {
 		return c - Math.abs((Math.abs(a1 - a2) % (2 * c)) - c);
 	}
 
+	/**
+	 * Get the angle of a direction, the same as {@link Vector2#angleDeg()} without
+	 * needing a vector.
+	 * 
+	 * @param x the x component of the direction
+	 * @param y the y component of the direction
+	 * @return the angle in degrees, from 0 to 360, anticlockwise from the x axis
+	 * @since Assessment 2
+	 */
+	public static float angleDeg(float x, float y) {
+		float angle = (float) Math.atan2(y, x) * MathUtils.radiansToDegrees;
+		if (angle < 0) angle += 360;
+		return angle;
+	}
+
 }
@@ -0,0 +1,134 @@
+package io.github.annabeths.GeneralControl;
+
+import java.io.IOException;
+import java.util.EnumMap;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * The random numbers used by a single game, all made from one seed. Two games
+ * with the same seed, difficulty and input play out the same way.
+ * <p>
+ * Each part of the game takes numbers from its own {@link Stream}, whose seed
+ * is made from the game's seed and the stream's name. Taking an extra number in
+ * one part of the game therefore never changes the numbers seen by the others,
+ * and adding a new stream does not change the existing ones.
+ * <p>
+ * Randomness that is only used to show the game, such as sound pitch and HUD
+ * messages, still uses {@link MathUtils#random}, so it does not affect the
+ * simulation.
+ *
+ * @since Assessment 2
+ */
+public class RandomSource {
+
+	/** The parts of the game that each have their own sequence of numbers */
+	public enum Stream {
+		/** Choosing the world when a new game is created */
+		WORLD,
+		/** Choosing where AI boats wander to */
+		AI,
+		/** The range of cannonballs */
+		PROJECTILES,
+		/** College spawn timers and aim */
+		COLLEGES,
+		/** Where the kraken swims */
+		KRAKEN,
+		/** Where storms appear, move and strike */
+		WEATHER,
+		/** Powerups dropped by destroyed boats */
+		LOOT
+	}
+
+	/**
+	 * The seed used by new games, or {@code null} to pick a different one for
+	 * each game
+	 */
+	public static Long SEED = null;
+
+	/** Used by objects that are not part of a game with its own source */
+	private static final RandomStream fallback = new RandomStream(MathUtils.random.nextLong());
+
+	private final long seed;
+	private final EnumMap<Stream, RandomStream> streams = new EnumMap<>(Stream.class);
+
+	/** @param seed the seed every stream is made from */
+	public RandomSource(long seed) {
+		this.seed = seed;
+		for (Stream s : Stream.values()) {
+			streams.put(s, new RandomStream(mix(seed ^ mix(s.name().hashCode()))));
+		}
+	}
+
+	/** @return {@link #SEED} if it is set, otherwise a new random seed */
+	public static long newGameSeed() {
+		return SEED != null ? SEED : MathUtils.random.nextLong();
+	}
+
+	/**
+	 * Get the stream for a part of the game, from the game's source if it has one.
+	 * Objects made without a full game, such as in tests, share one unseeded
+	 * stream instead.
+	 *
+	 * @param gc the game, which may be {@code null}
+	 * @param stream the part of the game
+	 * @return the stream to take numbers from
+	 */
+	public static RandomStream of(GameController gc, Stream stream) {
+		if (gc == null || gc.random == null) return fallback;
+		return gc.random.get(stream);
+	}
+
+	/**
+	 * @param stream the part of the game
+	 * @return the stream to take numbers from
+	 */
+	public RandomStream get(Stream stream) {
+		return streams.get(stream);
+	}
+
+	/** @return the seed every stream was made from */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Write how far through its numbers each stream is, so they can be put back
+	 * by {@link #readState(DataInput)}
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void writeState(DataOutput out) throws IOException {
+		for (Stream s : Stream.values()) {
+			RandomStream r = streams.get(s);
+			out.writeLong(r.getState(0));
+			out.writeLong(r.getState(1));
+		}
+	}
+
+	/**
+	 * Put every stream back to where it was when {@link #writeState(DataOutput)}
+	 * was called, so it gives the same numbers from then on
+	 *
+	 * @param in the stream to read from
+	 * @throws IOException if the stream can't be read from
+	 */
+	public void readState(DataInput in) throws IOException {
+		for (Stream s : Stream.values()) {
+			streams.get(s).setState(in.readLong(), in.readLong());
+		}
+	}
+
+	/** The SplitMix64 finalizer, spreads similar seeds far apart */
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+}
@@ -0,0 +1,76 @@
+package io.github.annabeths.GeneralControl;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+
+/**
+ * A single sequence of random numbers, with the same helpers as
+ * {@link MathUtils}, so code can swap {@code MathUtils.random(...)} for
+ * {@code stream.random(...)} and get numbers in the same ranges.
+ *
+ * @see RandomSource
+ * @since Assessment 2
+ */
+public class RandomStream extends RandomXS128 {
+
+	private static final long serialVersionUID = 1L;
+
+	/** @param seed the seed of the sequence */
+	public RandomStream(long seed) {
+		super(seed);
+	}
+
+	/**
+	 * @param range the largest value
+	 * @return a random number from 0 to {@code range}, inclusive
+	 */
+	public int random(int range) {
+		return nextInt(range + 1);
+	}
+
+	/**
+	 * @param start the smallest value
+	 * @param end the largest value
+	 * @return a random number from {@code start} to {@code end}, inclusive
+	 */
+	public int random(int start, int end) {
+		return start + nextInt(end - start + 1);
+	}
+
+	/** @return a random number from 0, inclusive, to 1, exclusive */
+	public float random() {
+		return nextFloat();
+	}
+
+	/**
+	 * @param range the largest value
+	 * @return a random number from 0, inclusive, to {@code range}, exclusive
+	 */
+	public float random(float range) {
+		return nextFloat() * range;
+	}
+
+	/**
+	 * @param start the smallest value
+	 * @param end the largest value
+	 * @return a random number from {@code start}, inclusive, to {@code end},
+	 *         exclusive
+	 */
+	public float random(float start, float end) {
+		return start + nextFloat() * (end - start);
+	}
+
+	/** @return -1 or 1, with equal chance */
+	public int randomSign() {
+		return 1 | (nextInt() >> 31);
+	}
+
+	/**
+	 * @param chance the chance of {@code true}, from 0 to 1
+	 * @return {@code true} with the given chance
+	 */
+	public boolean randomBoolean(float chance) {
+		return nextFloat() < chance;
+	}
+
+}
@@ -6,12 +6,21 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
 
 import io.github.annabeths.Collectables.PowerupType;
 
 /**
  * Handles resource management of textures, audio, and fonts
+ * <p>
+ * The images in {@code img/} are packed into one {@link #ATLAS texture atlas}
+ * by the {@code packTextures} build task, so sprites can be drawn one after
+ * another without the batch switching textures. Get them with
+ * {@link #getRegion(String)}. If the atlas has not been built, each image is
+ * loaded as a texture of its own instead.
  * @since Assessment 2
  * @author James Burnell
  */
@@ -24,6 +33,16 @@ public class ResourceManager {
 
 	public static Texture nullTex;
 
+	/** Where the {@code packTextures} build task writes the atlas */
+	public static final String ATLAS = "atlas/game.atlas";
+	/** The folder packed into the atlas, whose paths name the regions */
+	private static final String ATLAS_FOLDER = "img/";
+
+	/** The packed images, or {@code null} if the atlas has not been built */
+	public static TextureAtlas atlas;
+	/** The region of each image asked for so far, by location */
+	private static final ObjectMap<String, TextureRegion> regions = new ObjectMap<>();
+
 	// Prevent instantiation
 	private ResourceManager() {
 	}
@@ -48,6 +67,13 @@ public class ResourceManager {
 
 		time = DebugUtils.timeCodeMs(() -> {
 			nullTex = genNullTex();
+			regions.clear();
+			atlas = null;
+			// load the atlas first, so the images in it aren't also loaded alone
+			if (Gdx.files.internal(ATLAS).exists()) {
+				assets.load(ATLAS, TextureAtlas.class);
+				atlas = assets.finishLoadingAsset(ATLAS);
+			}
 			/* World Textures */
 			loadWorldTexture("island.png");
 			loadWorldTexture("grass.png");
@@ -115,10 +141,13 @@ public class ResourceManager {
 	}
 
 	/**
-	 * Queues a texture from a file location to be loaded
+	 * Queues a texture from a file location to be loaded, unless it is packed into
+	 * the {@link #atlas}
 	 * @param location the location of the texture
+	 * @tt.updated Assessment 2
 	 */
 	public static void loadTexture(String location) {
+		if (findAtlasRegion(location) != null) return;
 		if (Gdx.files.internal(location).exists()) {
 			assets.load(location, Texture.class);
 		} else {
@@ -127,7 +156,9 @@ public class ResourceManager {
 	}
 
 	/**
-	 * Get a preloaded texture from a location
+	 * Get a preloaded texture from a location. Images packed into the
+	 * {@link #atlas} are not loaded as textures of their own, so use
+	 * {@link #getRegion(String)} for anything drawn in the world.
 	 * @param location the location of the texture
 	 * @return The Texture object, or {@link #nullTex} if the location is null or
 	 *         file is missing
@@ -139,6 +170,46 @@ public class ResourceManager {
 		return nullTex;
 	}
 
+	/**
+	 * Get the image at a location, from the {@link #atlas} if it was packed into
+	 * it, or else from its own texture.
+	 * @param location the location of the image, like
+	 *        {@code "img/entity/mine.png"}
+	 * @return the image's region, a region covering {@link #nullTex} if the
+	 *         location is null or the file is missing, or {@code null} if there
+	 *         is no {@link #nullTex} either
+	 * @since Assessment 2
+	 */
+	public static TextureRegion getRegion(String location) {
+		TextureRegion region = location == null ? null : regions.get(location);
+		if (region != null) return region;
+
+		region = findAtlasRegion(location);
+		if (region == null) {
+			Texture t = getTexture(location);
+			if (t == null) return null;
+			region = new TextureRegion(t);
+			// not kept, so it is found if loaded later
+			if (t == nullTex) return region;
+		}
+		regions.put(location, region);
+		return region;
+	}
+
+	/**
+	 * @param location the location of an image
+	 * @return the image's region in the {@link #atlas}, or {@code null} if it
+	 *         wasn't packed into it
+	 */
+	private static TextureRegion findAtlasRegion(String location) {
+		if (atlas == null || location == null || !location.startsWith(ATLAS_FOLDER)) {
+			return null;
+		}
+		int extension = location.lastIndexOf('.');
+		if (extension < ATLAS_FOLDER.length()) extension = location.length();
+		return atlas.findRegion(location.substring(ATLAS_FOLDER.length(), extension));
+	}
+
 	/**
 	 * Generates a 2x2 texture to be used when a texture is not loaded.
 	 * @return the null texture
@@ -59,11 +59,9 @@ public abstract class SaveManager {
         pref.clear(); // clear out any old references to entities that no longer exist
         Map<String, String> m = new HashMap<>();
         int i = 0;
-        for(PhysicsObject o : gc.physicsObjects){
-            if(o instanceof Mine){
-                m.put(Integer.toString(i),o.position.toString());
-                i = i + 1;
-            }
+        for(Mine mine : gc.entities.getGroup(Mine.class)){
+            m.put(Integer.toString(i),mine.position.toString());
+            i = i + 1;
         }
         pref.put(m);
     }
@@ -0,0 +1,97 @@
+package io.github.annabeths.GeneralControl;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * Decides how often each object is updated, by how far it is from the player.
+ * Objects near the player are updated every tick. Objects that
+ * {@link PhysicsObject#canUpdateCoarsely() allow it} and are far away are only
+ * updated every {@link #FAR_INTERVAL} ticks, with the time of the ticks they
+ * skipped, using their simpler {@link PhysicsObject#UpdateCoarse(float)}. The
+ * far objects are spread over the ticks, so each tick updates about the same
+ * number of them.
+ * <p>
+ * Distance is measured from the player rather than the camera, so the game plays
+ * the same whether or not it is shown. The camera follows the player, and the
+ * near area is big enough to hold the camera's view even where the camera stops
+ * at the edge of the map, with room to spare for boats coming into view.
+ * <p>
+ * Call {@link #begin(GameController)} at the start of each tick, then
+ * {@link #update(PhysicsObject, float, int)} for each object that moves.
+ *
+ * @since Assessment 2
+ */
+public class SimulationLOD {
+
+	/** Whether far objects may be updated less often, turn off to compare */
+	public static boolean ENABLED = true;
+	/** How many ticks pass between updates of a far object */
+	public static final int FAR_INTERVAL = 4;
+	/** How far from the edge of the camera's view an object is still near */
+	public static final float NEAR_MARGIN = 700;
+	/** Half the width of the near area, centred on the player */
+	public static final float NEAR_HALF_WIDTH = 1280 / 2f + NEAR_MARGIN;
+	/** Half the height of the near area, centred on the player */
+	public static final float NEAR_HALF_HEIGHT = 720 / 2f + NEAR_MARGIN;
+
+	private float centerX, centerY;
+	private int fullUpdates, coarseUpdates, skippedUpdates;
+
+	/**
+	 * Start a tick, measuring distances from where the player is now
+	 * @param gc the game
+	 */
+	public void begin(GameController gc) {
+		centerX = gc.playerBoat.getCenterX();
+		centerY = gc.playerBoat.getCenterY();
+		fullUpdates = 0;
+		coarseUpdates = 0;
+		skippedUpdates = 0;
+	}
+
+	/**
+	 * @param obj an object
+	 * @return {@code true} if the object is far enough from the player to be
+	 *         updated less often, if it allows it
+	 */
+	public boolean isFar(PhysicsObject obj) {
+		return ENABLED && (Math.abs(obj.getCenterX() - centerX) > NEAR_HALF_WIDTH
+				|| Math.abs(obj.getCenterY() - centerY) > NEAR_HALF_HEIGHT);
+	}
+
+	/**
+	 * Update an object for this tick, if it is due an update
+	 * @param obj the object
+	 * @param delta the length of the tick
+	 * @param stagger a number that differs between objects, like their index in
+	 *        a list, used to spread far objects across the ticks. It must be the
+	 *        same every time a game is played.
+	 * @return {@code true} if the object was updated, {@code false} if it skipped
+	 *         the tick
+	 */
+	public boolean update(PhysicsObject obj, float delta, int stagger) {
+		boolean far = obj.canUpdateCoarsely() && isFar(obj);
+		boolean updated = obj.updateAtDetail(delta, far, FAR_INTERVAL, stagger);
+		if (!far) fullUpdates++;
+		else if (updated) coarseUpdates++;
+		else skippedUpdates++;
+		return updated;
+	}
+
+	/** @return the number of objects updated every tick, so far this tick */
+	public int getFullUpdates() {
+		return fullUpdates;
+	}
+
+	/** @return the number of far objects updated so far this tick */
+	public int getCoarseUpdates() {
+		return coarseUpdates;
+	}
+
+	/** @return the number of far objects that skipped this tick so far */
+	public int getSkippedUpdates() {
+		return skippedUpdates;
+	}
+
+}
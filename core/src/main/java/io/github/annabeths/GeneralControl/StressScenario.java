@@ -0,0 +1,155 @@
+package io.github.annabeths.GeneralControl;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
+
+/**
+ * Fills a game with many more objects than it makes itself, to see how the
+ * game copes with the number of objects a long session can reach. Choose how
+ * many of each type of object to add, then {@link #populate(GameController)} a
+ * game with them:
+ *
+ * <pre>
+ * new StressScenario().enemyBoats(200).mines(500).populate(gc);
+ * </pre>
+ *
+ * Objects are placed at random points on the map, picked using the game's
+ * {@link Stream#WORLD world stream}, so a game with the same seed is always
+ * filled the same way. They are not kept apart, so some start overlapping each
+ * other or the colleges.
+ *
+ * @since Assessment 2
+ */
+public class StressScenario {
+
+	private int neutralBoats = 0;
+	private int enemyBoats = 0;
+	private int friendlyBoats = 0;
+	private int mines = 0;
+	private int weather = 0;
+	private int projectiles = 0;
+
+	/**
+	 * Create a scenario with a total number of objects, split between every type
+	 * in the same proportions whatever the total: 40% boats, 30% mines, 10%
+	 * weather and 20% projectiles.
+	 *
+	 * @param total the number of objects to add
+	 * @return the scenario
+	 */
+	public static StressScenario mixed(int total) {
+		if (total < 0) throw new IllegalArgumentException("Total must not be negative");
+		StressScenario s = new StressScenario().neutralBoats(total * 15 / 100)
+				.enemyBoats(total * 15 / 100).friendlyBoats(total * 10 / 100)
+				.weather(total * 10 / 100).projectiles(total * 20 / 100);
+		// the rounding is made up with mines, so the total is exact
+		return s.mines(total - s.getTotal());
+	}
+
+	/**
+	 * @param count the number of {@link NeutralBoat}s to add
+	 * @return this scenario
+	 */
+	public StressScenario neutralBoats(int count) {
+		neutralBoats = checkCount(count);
+		return this;
+	}
+
+	/**
+	 * @param count the number of {@link EnemyBoat}s to add
+	 * @return this scenario
+	 */
+	public StressScenario enemyBoats(int count) {
+		enemyBoats = checkCount(count);
+		return this;
+	}
+
+	/**
+	 * @param count the number of {@link FriendlyBoat}s to add
+	 * @return this scenario
+	 */
+	public StressScenario friendlyBoats(int count) {
+		friendlyBoats = checkCount(count);
+		return this;
+	}
+
+	/**
+	 * @param count the number of {@link Mine}s to add
+	 * @return this scenario
+	 */
+	public StressScenario mines(int count) {
+		mines = checkCount(count);
+		return this;
+	}
+
+	/**
+	 * @param count the number of {@link Weather} cells to add, each moving in a
+	 *        random direction
+	 * @return this scenario
+	 */
+	public StressScenario weather(int count) {
+		weather = checkCount(count);
+		return this;
+	}
+
+	/**
+	 * @param count the number of cannonballs to add, already in flight in random
+	 *        directions. Every other one is friendly.
+	 * @return this scenario
+	 */
+	public StressScenario projectiles(int count) {
+		projectiles = checkCount(count);
+		return this;
+	}
+
+	private static int checkCount(int count) {
+		if (count < 0) throw new IllegalArgumentException("Count must not be negative");
+		return count;
+	}
+
+	/** @return the number of objects the scenario adds */
+	public int getTotal() {
+		return neutralBoats + enemyBoats + friendlyBoats + mines + weather + projectiles;
+	}
+
+	/**
+	 * Add the objects to a game, on top of those it already has
+	 *
+	 * @param gc the game
+	 */
+	public void populate(GameController gc) {
+		RandomStream r = RandomSource.of(gc, Stream.WORLD);
+		for (int i = 0; i < neutralBoats; i++) {
+			gc.NewPhysicsObject(new NeutralBoat(gc, GameMap.getRandomPointInBounds(r)));
+		}
+		for (int i = 0; i < enemyBoats; i++) {
+			gc.NewPhysicsObject(new EnemyBoat(gc, GameMap.getRandomPointInBounds(r)));
+		}
+		for (int i = 0; i < friendlyBoats; i++) {
+			gc.NewPhysicsObject(new FriendlyBoat(gc, GameMap.getRandomPointInBounds(r)));
+		}
+		for (int i = 0; i < mines; i++) {
+			gc.NewPhysicsObject(new Mine(gc, GameMap.getRandomPointInBounds(r)));
+		}
+		for (int i = 0; i < weather; i++) {
+			gc.NewPhysicsObject(new Weather(gc, GameMap.getRandomPointInBounds(r), r.random(3)));
+		}
+		RandomStream ranges = RandomSource.of(gc, Stream.PROJECTILES);
+		for (int i = 0; i < projectiles; i++) {
+			Vector2 pos = GameMap.getRandomPointInBounds(r);
+			gc.NewPhysicsObject(ProjectilePool.obtain(pos.x, pos.y, r.random(360f),
+					ProjectileData.STOCK, false, i % 2 == 1, 1, 1, ranges));
+		}
+	}
+
+}
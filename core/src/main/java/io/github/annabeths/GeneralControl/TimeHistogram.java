@@ -0,0 +1,135 @@
+package io.github.annabeths.GeneralControl;
+
+import java.util.Arrays;
+
+/**
+ * Counts durations in buckets that grow with the duration, so any duration from
+ * a microsecond to several hours is kept to within about 6% using a fixed array.
+ * Durations below 16 microseconds each get their own bucket. Above that, each
+ * power of two is split into 16 buckets of equal width.
+ * <p>
+ * Recording a duration only increments a count, so nothing is allocated however
+ * many are recorded.
+ *
+ * @since Assessment 2
+ */
+public class TimeHistogram {
+
+	/** The number of buckets each power of two is split into, as a power of two */
+	private static final int SUB_BITS = 4;
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+	/** The highest power of two that can be recorded, in microseconds */
+	private static final int MAX_EXPONENT = 34;
+	/** The number of buckets */
+	public static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+	private final long[] counts = new long[BUCKETS];
+	private long count = 0;
+	private long totalMicros = 0;
+	private long minMicros = Long.MAX_VALUE;
+	private long maxMicros = 0;
+
+	/**
+	 * Record a duration. Durations too long to fit are put in the last bucket.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		long micros = Math.max(nanos / 1000, 0);
+		counts[bucketOf(micros)]++;
+		count++;
+		totalMicros += micros;
+		minMicros = Math.min(minMicros, micros);
+		maxMicros = Math.max(maxMicros, micros);
+	}
+
+	/** Forget every duration recorded */
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		totalMicros = 0;
+		minMicros = Long.MAX_VALUE;
+		maxMicros = 0;
+	}
+
+	/**
+	 * @param micros a duration in microseconds
+	 * @return the index of the bucket the duration is counted in
+	 */
+	static int bucketOf(long micros) {
+		if (micros < SUB_BUCKETS) return (int) micros;
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		if (exponent > MAX_EXPONENT) return BUCKETS - 1;
+		int sub = (int) (micros >> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * @param bucket the index of a bucket
+	 * @return the shortest duration counted in the bucket, in microseconds
+	 */
+	public static long getBucketStart(int bucket) {
+		if (bucket < SUB_BUCKETS) return bucket;
+		int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		int sub = bucket % SUB_BUCKETS;
+		return (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+	}
+
+	/**
+	 * @param bucket the index of a bucket
+	 * @return the longest duration counted in the bucket, in microseconds
+	 */
+	public static long getBucketEnd(int bucket) {
+		if (bucket < SUB_BUCKETS) return bucket;
+		int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+		return getBucketStart(bucket) + (1L << (exponent - SUB_BITS)) - 1;
+	}
+
+	/**
+	 * @param bucket the index of a bucket
+	 * @return the number of durations counted in the bucket
+	 */
+	public long getBucketCount(int bucket) {
+		return counts[bucket];
+	}
+
+	/**
+	 * Find the duration that a percentage of the recorded durations were shorter
+	 * than or as long as. The answer is the end of the bucket it was counted in,
+	 * so is never less than the true value.
+	 *
+	 * @param percentile the percentage, from 0 to 100
+	 * @return the duration in microseconds, or 0 if nothing has been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (count == 0) return 0;
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) return Math.min(getBucketEnd(i), maxMicros);
+		}
+		return maxMicros;
+	}
+
+	/** @return the number of durations recorded */
+	public long getCount() {
+		return count;
+	}
+
+	/** @return the mean duration in microseconds, or 0 if nothing was recorded */
+	public double getMean() {
+		return count == 0 ? 0 : totalMicros / (double) count;
+	}
+
+	/** @return the shortest duration in microseconds, or 0 if nothing was recorded */
+	public long getMin() {
+		return count == 0 ? 0 : minMicros;
+	}
+
+	/** @return the longest duration in microseconds */
+	public long getMax() {
+		return maxMicros;
+	}
+
+}
@@ -1,9 +1,12 @@
 package io.github.annabeths.GeneralControl;
 
+import java.io.File;
+
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Graphics;
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
 
 import io.github.annabeths.GameScreens.CreditScreen;
 import io.github.annabeths.GameScreens.GameController;
@@ -14,6 +17,9 @@ import io.github.annabeths.GameScreens.Menu;
 import io.github.annabeths.GameScreens.SaveLoadScreen;
 import io.github.annabeths.GameScreens.Screens;
 import io.github.annabeths.GameScreens.Splash;
+import io.github.annabeths.Replay.Replay;
+import io.github.annabeths.Replay.ReplayPlayer;
+import io.github.annabeths.Replay.ReplayRecorder;
 
 /** @tt.updated Assessment 2 */
 public class eng1game extends Game {
@@ -36,6 +42,15 @@ public class eng1game extends Game {
 	 */
 	private boolean debug = false;
 
+	/** The file new games are recorded to, or {@code null} to not record them */
+	private String recordPath;
+	/** A replay to play as the next game, or {@code null} */
+	private String replayPath;
+	/** How far into the replay to start, in seconds */
+	private float replaySeek;
+	/** The file the frame times of each game are saved to, or {@code null} */
+	private String frameStatsPath;
+
 	/**
 	 * Constructor for eng1game
 	 * 
@@ -58,7 +73,9 @@ public class eng1game extends Game {
 		// create a menu and game screen, then switch to a new splash screen
 		menuScreen = new Menu(this);
 		gameScreen = new GameController(this, diff);
-		if (DebugUtils.SKIP_SPLASH) {
+		if (replayPath != null) {
+			gotoScreen(Screens.gameScreen);
+		} else if (DebugUtils.SKIP_SPLASH) {
 			gotoScreen(Screens.menuScreen);
 		} else {
 			gotoScreen(Screens.splashScreen);
@@ -89,7 +106,7 @@ public class eng1game extends Game {
 			setScreen(menuScreen);
 			break;
 		case gameScreen: // switch back to the game screen
-			gameScreen = new GameController(this, diff);
+			gameScreen = createGame(diff, RandomSource.newGameSeed());
 			setScreen(gameScreen);
 			break;
 		case gameOverScreen:
@@ -118,6 +135,86 @@ public class eng1game extends Game {
 		}
 	}
 
+	/**
+	 * Create a new game. If a replay has been set, it is played instead, and if a
+	 * file to record to has been set, the game is recorded to it. If a file for
+	 * frame stats has been set, they are recorded for either.
+	 * 
+	 * @param difficulty the difficulty of the game
+	 * @param seed the seed of the game's random numbers
+	 * @return the game
+	 * @since Assessment 2
+	 */
+	public GameController createGame(Difficulty difficulty, long seed) {
+		GameController gc;
+		if (replayPath != null) {
+			Replay replay = Replay.load(fileOf(replayPath));
+			replayPath = null; // only the next game is a replay
+			ReplayPlayer player = new ReplayPlayer(replay);
+			gc = player.start(this, Math.round(replaySeek * replay.getTickRate()));
+		} else {
+			gc = new GameController(this, difficulty, seed);
+			if (recordPath != null) gc.recorder = new ReplayRecorder(gc, fileOf(recordPath));
+		}
+		if (frameStatsPath != null) gc.frameStats = new FrameStats(fileOf(frameStatsPath));
+		return gc;
+	}
+
+	/**
+	 * @param path a path given on the command line, absolute or relative to the
+	 *        working directory
+	 * @return the file
+	 */
+	private static FileHandle fileOf(String path) {
+		return Gdx.files.absolute(new File(path).getAbsolutePath());
+	}
+
+	/**
+	 * Record every new game to a file, replacing the last recording
+	 * 
+	 * @param path the file, relative to the working directory
+	 * @since Assessment 2
+	 */
+	public void setRecordPath(String path) {
+		this.recordPath = path;
+	}
+
+	/**
+	 * Save how long the frames and ticks of every new game took when it ends,
+	 * replacing the last game's
+	 * 
+	 * @param path the file, relative to the working directory
+	 * @see FrameStats
+	 * @since Assessment 2
+	 */
+	public void setFrameStatsPath(String path) {
+		this.frameStatsPath = path;
+	}
+
+	/**
+	 * Play a recorded game as the next game. The game is started as soon as it is
+	 * created.
+	 * 
+	 * @param path the replay file, relative to the working directory
+	 * @param seek how far into the replay to start, in seconds
+	 * @since Assessment 2
+	 */
+	public void setReplay(String path, float seek) {
+		this.replayPath = path;
+		this.replaySeek = seek;
+	}
+
+	/**
+	 * Save the recording of the game being played, if there is one.
+	 * 
+	 * @since Assessment 2
+	 */
+	@Override
+	public void dispose() {
+		super.dispose();
+		if (gameScreen != null) gameScreen.dispose();
+	}
+
 	/**
 	 * load a saved game
 	 * 
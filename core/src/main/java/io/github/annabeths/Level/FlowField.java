@@ -0,0 +1,175 @@
+package io.github.annabeths.Level;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
+/**
+ * Tells boats which way to sail to reach the nearest of a set of targets, going
+ * around the colleges. It covers the cells of a {@link NavigationGrid}, and
+ * each cell points to the next cell on a shortest path towards a target, so
+ * any number of boats can find their way by looking up the cell they are in.
+ * <p>
+ * Paths only go through cells no college overlaps, and never cut the corner of
+ * one that does. The field is only worked out again when a target moves into
+ * another cell, or the grid changes, so following a slow target costs nothing
+ * most ticks.
+ * <p>
+ * When it is worked out again the whole field is searched from scratch, rather
+ * than only fixing the cells whose distance changed. On the 30 by 30 cell map a
+ * full search takes about 30 microseconds, and a target sailing at full speed
+ * changes cell a few times a second, so repairing the field would save too
+ * little to be worth the extra bookkeeping.
+ *
+ * @since Assessment 2
+ */
+public class FlowField {
+
+	/** The steps to each of a cell's neighbours, the sides before the corners */
+	private static final int[] STEP_X = { 1, -1, 0, 0, 1, -1, 1, -1 };
+	private static final int[] STEP_Y = { 0, 0, 1, -1, 1, 1, -1, -1 };
+
+	private NavigationGrid nav;
+	/** The cell to go to next from each cell, or -1 if none */
+	private int[] next = new int[0];
+	/** The number of steps from each cell to a target, or -1 if none can be reached */
+	private int[] distance = new int[0];
+	/** The cells the targets were in when the field was worked out */
+	private final IntArray targetCells = new IntArray();
+	/** Reused to hold the cells the targets are in now */
+	private final IntArray newCells = new IntArray();
+	/** Reused as the queue of cells to visit */
+	private final IntArray queue = new IntArray();
+	private int rebuilds = 0;
+
+	/**
+	 * Make sure the field leads to a target, working it out again if it is out of
+	 * date
+	 * @param grid the grid to cover
+	 * @param target the target
+	 * @return {@code true} if the field was worked out again
+	 */
+	public boolean update(NavigationGrid grid, PhysicsObject target) {
+		newCells.clear();
+		if (target != null) newCells.add(grid.getCell(target.getCenterX(), target.getCenterY()));
+		return rebuildIfChanged(grid);
+	}
+
+	/**
+	 * Make sure the field leads to the nearest of several targets, working it out
+	 * again if it is out of date
+	 * @param grid the grid to cover
+	 * @param targets the targets, which may be empty
+	 * @return {@code true} if the field was worked out again
+	 */
+	public boolean update(NavigationGrid grid, Array<? extends PhysicsObject> targets) {
+		newCells.clear();
+		for (int i = 0; i < targets.size; i++) {
+			PhysicsObject t = targets.get(i);
+			newCells.add(grid.getCell(t.getCenterX(), t.getCenterY()));
+		}
+		return rebuildIfChanged(grid);
+	}
+
+	private boolean rebuildIfChanged(NavigationGrid grid) {
+		if (grid == nav && newCells.equals(targetCells)) return false;
+		nav = grid;
+		targetCells.clear();
+		targetCells.addAll(newCells);
+		rebuild();
+		rebuilds++;
+		return true;
+	}
+
+	/** Search outwards from the targets' cells, recording the way back to them */
+	private void rebuild() {
+		int columns = nav.getColumns(), rows = nav.getRows();
+		if (next.length != columns * rows) {
+			next = new int[columns * rows];
+			distance = new int[columns * rows];
+		}
+		Arrays.fill(next, -1);
+		Arrays.fill(distance, -1);
+
+		queue.clear();
+		for (int i = 0; i < targetCells.size; i++) {
+			int cell = targetCells.get(i);
+			if (distance[cell] == 0) continue;
+			distance[cell] = 0;
+			queue.add(cell);
+		}
+		for (int head = 0; head < queue.size; head++) {
+			int cell = queue.get(head);
+			int x = cell % columns, y = cell / columns;
+			for (int d = 0; d < STEP_X.length; d++) {
+				int nx = x + STEP_X[d], ny = y + STEP_Y[d];
+				if (nx < 0 || ny < 0 || nx >= columns || ny >= rows) continue;
+				int neighbour = ny * columns + nx;
+				if (distance[neighbour] != -1 || !nav.isCellFree(neighbour)) continue;
+				// only go diagonally if both cells beside the corner are free too
+				if (STEP_X[d] != 0 && STEP_Y[d] != 0 && (!nav.isCellFree(y * columns + nx)
+						|| !nav.isCellFree(ny * columns + x))) {
+					continue;
+				}
+				distance[neighbour] = distance[cell] + 1;
+				next[neighbour] = cell;
+				queue.add(neighbour);
+			}
+		}
+	}
+
+	/**
+	 * Find where a boat should sail to get closer to a target. A boat in a cell
+	 * the field does not reach, such as one beside a college, is pointed at the
+	 * nearest neighbouring cell it does reach.
+	 * @param x the boat's x coordinate
+	 * @param y the boat's y coordinate
+	 * @param out set to the center of the cell to sail to
+	 * @return {@code true} if {@code out} was set, {@code false} if the boat is
+	 *         already in a target's cell, or no target can be reached
+	 */
+	public boolean getNextPoint(float x, float y, Vector2 out) {
+		if (nav == null) return false;
+		int cell = nav.getCell(x, y);
+		int to = next[cell];
+		if (distance[cell] == -1) to = getNearestReachedNeighbour(cell);
+		if (to == -1) return false;
+		out.set((to % nav.getColumns() + 0.5f) * NavigationGrid.CELL_SIZE,
+				(to / nav.getColumns() + 0.5f) * NavigationGrid.CELL_SIZE);
+		return true;
+	}
+
+	private int getNearestReachedNeighbour(int cell) {
+		int columns = nav.getColumns();
+		int x = cell % columns, y = cell / columns;
+		int best = -1;
+		for (int d = 0; d < STEP_X.length; d++) {
+			int nx = x + STEP_X[d], ny = y + STEP_Y[d];
+			if (nx < 0 || ny < 0 || nx >= columns || ny >= nav.getRows()) continue;
+			int neighbour = ny * columns + nx;
+			if (distance[neighbour] == -1) continue;
+			if (best == -1 || distance[neighbour] < distance[best]) best = neighbour;
+		}
+		return best;
+	}
+
+	/**
+	 * @param x a point's x coordinate
+	 * @param y a point's y coordinate
+	 * @return the number of cells between the point and the nearest target, or -1
+	 *         if it can't reach one
+	 */
+	public int getDistance(float x, float y) {
+		return nav == null ? -1 : distance[nav.getCell(x, y)];
+	}
+
+	/** @return the number of times the field has been worked out */
+	public int getRebuilds() {
+		return rebuilds;
+	}
+
+}
@@ -8,6 +8,7 @@ import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.GameGenerics.GameObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomStream;
 
 /**
  * @author James Burnell
@@ -21,6 +22,8 @@ public class GameMap extends GameObject {
 	public static final float BORDER_BRIM = 300;
 
 	private final GameController gc;
+	/** Reused to hold the point the camera centers on */
+	private final Vector2 cameraCenter = new Vector2();
 
 	public WaterBackground bg;
 
@@ -42,8 +45,16 @@ public class GameMap extends GameObject {
 	@Override
 	public void Update(float delta) {
 		// center the camera on the player
-		Vector2 camPos = gc.playerBoat.getCenter();
+		centerCamera(gc.playerBoat.getCenter(cameraCenter));
+		bg.Update(delta);
+	}
 
+	/**
+	 * Move the camera to a point, keeping it within the map
+	 * @param camPos the point to center on, this is modified
+	 * @since Assessment 2
+	 */
+	public void centerCamera(Vector2 camPos) {
 		// if the screen is wider than the map, then just center on the map
 		if (Gdx.graphics.getWidth() >= mapBounds.width) {
 			camPos.x = mapBounds.width / 2;
@@ -57,7 +68,6 @@ public class GameMap extends GameObject {
 				mapBounds.height - gc.camera.viewportHeight / 2);
 		gc.camera.position.set(camPos.x, camPos.y, 0);
 		gc.camera.update();
-		bg.Update(delta);
 	}
 
 	/**
@@ -71,6 +81,18 @@ public class GameMap extends GameObject {
 		return mapBounds.contains(point);
 	}
 
+	/**
+	 * Test if a point is within the bounds of the map.
+	 * 
+	 * @param x the x coordinate of the point
+	 * @param y the y coordinate of the point
+	 * @return {@code true} if the point is within bounds, {@code false} otherwise
+	 * @since Assessment 2
+	 */
+	public static boolean isPointInBounds(float x, float y) {
+		return mapBounds.contains(x, y);
+	}
+
 	public static float getMapWidth() {
 		return mapBounds.width;
 	}
@@ -79,9 +101,14 @@ public class GameMap extends GameObject {
 		return mapBounds.height;
 	}
 
-	public static Vector2 getRandomPointInBounds() {
-		return new Vector2(MathUtils.random((int) getMapHeight()),
-				MathUtils.random((int) getMapWidth()));
+	/**
+	 * @param random the stream to pick with
+	 * @return a random point on the map
+	 * @since Assessment 2
+	 */
+	public static Vector2 getRandomPointInBounds(RandomStream random) {
+		return new Vector2(random.random((int) getMapHeight()),
+				random.random((int) getMapWidth()));
 	}
 
 	/**
@@ -0,0 +1,243 @@
+package io.github.annabeths.Level;
+
+import java.util.List;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+
+import io.github.annabeths.Colleges.College;
+import io.github.annabeths.GeneralControl.RandomStream;
+
+/**
+ * Answers where boats can sail on the map, worked out once from the colleges
+ * rather than every time a boat picks somewhere to go. The map is split into
+ * square cells, each holding which colleges overlap it. A path only needs
+ * testing against the colleges in the cells it crosses, and random
+ * destinations are picked from the cells no college overlaps.
+ * <p>
+ * The colleges must not move while the grid is used. Build a new one when a
+ * college is added or removed. Nothing is changed by a query, so several
+ * threads may ask at once.
+ *
+ * @since Assessment 2
+ */
+public class NavigationGrid {
+
+	/** The width and height of each cell */
+	public static final float CELL_SIZE = 100;
+	/** How many random points are tried before settling for part of a path */
+	public static final int MAX_TRIES = 8;
+	/** How many halvings are used to find where a blocked path is cut short */
+	private static final int CLIP_STEPS = 12;
+	/** How far the colleges' bounds are grown, so cells they only touch count */
+	private static final float MARGIN = 1;
+
+	private final float width, height;
+	private final int columns, rows;
+	/** Which colleges overlap each cell, one bit per college */
+	private final long[] cells;
+	/** The index of every cell no college overlaps */
+	private final IntArray freeCells = new IntArray();
+	private final Polygon[] polygons;
+
+	/**
+	 * Build a grid covering a map
+	 * @param width the width of the map
+	 * @param height the height of the map
+	 * @param colleges the colleges boats must sail around, at most 64
+	 */
+	public NavigationGrid(float width, float height, List<? extends College> colleges) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException("Map size must be positive");
+		}
+		if (colleges.size() > Long.SIZE) {
+			throw new IllegalArgumentException("At most " + Long.SIZE + " colleges");
+		}
+		this.width = width;
+		this.height = height;
+		columns = MathUtils.ceil(width / CELL_SIZE);
+		rows = MathUtils.ceil(height / CELL_SIZE);
+		cells = new long[columns * rows];
+
+		polygons = new Polygon[colleges.size()];
+		for (int i = 0; i < polygons.length; i++) {
+			polygons[i] = colleges.get(i).collisionPolygon;
+			Rectangle bounds = polygons[i].getBoundingRectangle();
+			int x1 = cellX(bounds.x - MARGIN), x2 = cellX(bounds.x + bounds.width + MARGIN);
+			int y1 = cellY(bounds.y - MARGIN), y2 = cellY(bounds.y + bounds.height + MARGIN);
+			for (int y = y1; y <= y2; y++) {
+				for (int x = x1; x <= x2; x++) {
+					cells[y * columns + x] |= 1L << i;
+				}
+			}
+		}
+		for (int i = 0; i < cells.length; i++) {
+			if (cells[i] == 0) freeCells.add(i);
+		}
+	}
+
+	private int cellX(float x) {
+		return MathUtils.clamp((int) (x / CELL_SIZE), 0, columns - 1);
+	}
+
+	private int cellY(float y) {
+		return MathUtils.clamp((int) (y / CELL_SIZE), 0, rows - 1);
+	}
+
+	/**
+	 * Test if a boat can sail straight from one point to another, without
+	 * crossing a college.
+	 * @param from the start of the path
+	 * @param to the end of the path
+	 * @return {@code true} if no college is in the way, {@code false} otherwise
+	 */
+	public boolean isVisible(Vector2 from, Vector2 to) {
+		long mask = collegesAlong(from.x, from.y, to.x, to.y);
+		for (int i = 0; mask != 0; i++, mask >>>= 1) {
+			if ((mask & 1) != 0 && Intersector.intersectSegmentPolygon(from, to, polygons[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Walk the cells a path crosses, within the map
+	 * @return which colleges overlap any of the cells, one bit per college
+	 */
+	private long collegesAlong(float x1, float y1, float x2, float y2) {
+		x1 = MathUtils.clamp(x1, 0, width);
+		y1 = MathUtils.clamp(y1, 0, height);
+		x2 = MathUtils.clamp(x2, 0, width);
+		y2 = MathUtils.clamp(y2, 0, height);
+		int x = cellX(x1), y = cellY(y1);
+		int steps = Math.abs(cellX(x2) - x) + Math.abs(cellY(y2) - y);
+		long mask = cells[y * columns + x];
+
+		float dx = x2 - x1, dy = y2 - y1;
+		int stepX = dx > 0 ? 1 : -1, stepY = dy > 0 ? 1 : -1;
+		// how far along the path, from 0 to 1, the next cell edge on each axis is
+		float nextX = dx == 0 ? Float.MAX_VALUE
+				: ((stepX > 0 ? x + 1 : x) * CELL_SIZE - x1) / dx;
+		float nextY = dy == 0 ? Float.MAX_VALUE
+				: ((stepY > 0 ? y + 1 : y) * CELL_SIZE - y1) / dy;
+		float deltaX = dx == 0 ? Float.MAX_VALUE : CELL_SIZE / Math.abs(dx);
+		float deltaY = dy == 0 ? Float.MAX_VALUE : CELL_SIZE / Math.abs(dy);
+
+		for (int i = 0; i < steps; i++) {
+			if (nextX < nextY) {
+				nextX += deltaX;
+				x = MathUtils.clamp(x + stepX, 0, columns - 1);
+			} else {
+				nextY += deltaY;
+				y = MathUtils.clamp(y + stepY, 0, rows - 1);
+			}
+			mask |= cells[y * columns + x];
+		}
+		return mask;
+	}
+
+	/**
+	 * Pick a random point that a boat can sail straight to. Points are picked from
+	 * the cells no college overlaps, until one can be reached. If none of the
+	 * {@link #MAX_TRIES} can, the path to the last one is cut short before the
+	 * first college in the way, so the time taken is bounded however crowded the
+	 * map is.
+	 * @param from where the boat is
+	 * @param random the stream to pick with
+	 * @return the point
+	 */
+	public Vector2 getRandomReachablePoint(Vector2 from, RandomStream random) {
+		Vector2 target = null;
+		for (int i = 0; i < MAX_TRIES; i++) {
+			target = getRandomFreePoint(random);
+			if (isVisible(from, target)) return target;
+		}
+		return clip(from, target);
+	}
+
+	/**
+	 * @param random the stream to pick with
+	 * @return a random point in a cell no college overlaps, or anywhere on the map
+	 *         if every cell is overlapped
+	 */
+	public Vector2 getRandomFreePoint(RandomStream random) {
+		if (freeCells.isEmpty()) {
+			return new Vector2(random.random(width), random.random(height));
+		}
+		int cell = freeCells.get(random.random(freeCells.size - 1));
+		return new Vector2(Math.min((cell % columns + random.random()) * CELL_SIZE, width),
+				Math.min((cell / columns + random.random()) * CELL_SIZE, height));
+	}
+
+	/**
+	 * Find the furthest point along a path that can be sailed to
+	 * @param from the start of the path
+	 * @param to the end of the path, this is modified
+	 * @return {@code to}, moved back to just before the first college in the way
+	 */
+	private Vector2 clip(Vector2 from, Vector2 to) {
+		float dx = to.x - from.x, dy = to.y - from.y;
+		float reachable = 0, blocked = 1;
+		Vector2 test = new Vector2();
+		for (int i = 0; i < CLIP_STEPS; i++) {
+			float t = (reachable + blocked) / 2;
+			test.set(from.x + dx * t, from.y + dy * t);
+			if (isVisible(from, test)) reachable = t;
+			else blocked = t;
+		}
+		return to.set(from.x + dx * reachable, from.y + dy * reachable);
+	}
+
+	/**
+	 * @param x a point's x coordinate
+	 * @param y a point's y coordinate
+	 * @return {@code true} if no college overlaps the cell holding the point
+	 */
+	public boolean isCellFree(float x, float y) {
+		return isCellFree(getCell(x, y));
+	}
+
+	/**
+	 * @param cell the index of a cell
+	 * @return {@code true} if no college overlaps the cell
+	 */
+	public boolean isCellFree(int cell) {
+		return cells[cell] == 0;
+	}
+
+	/**
+	 * @param x a point's x coordinate
+	 * @param y a point's y coordinate
+	 * @return the index of the cell holding the point, or the nearest cell if it
+	 *         is off the map. Cells are numbered along each row in turn.
+	 */
+	public int getCell(float x, float y) {
+		return cellY(y) * columns + cellX(x);
+	}
+
+	/** @return the number of cells across the map */
+	public int getColumns() {
+		return columns;
+	}
+
+	/** @return the number of cells up the map */
+	public int getRows() {
+		return rows;
+	}
+
+	/** @return the number of cells no college overlaps */
+	public int getFreeCellCount() {
+		return freeCells.size;
+	}
+
+	/** @return the number of cells the map is split into */
+	public int getCellCount() {
+		return cells.length;
+	}
+
+}
@@ -1,14 +1,21 @@
 package io.github.annabeths.Obstacles;
 
-import com.badlogic.gdx.Gdx;
+import java.io.IOException;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Boats.Boat;
 import io.github.annabeths.GameGenerics.IHealth;
 import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.MathHelper;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
 
@@ -19,10 +26,13 @@ import io.github.annabeths.Projectiles.ProjectileData;
  */
 public class Kraken extends ObstacleEntity implements IHealth {
 
+	/** The size of the kraken's sprite */
+	private static final Vector2 SIZE = new Vector2(200, 200);
+
 	final float timeBetweenDirectionChanges = 0.25f;
 	final float speed = 75;
-	/** How close an object needs to be before the kraken starts attacking */
-	private final float attackRange = 750;
+	/** How close an object must be for the kraken to attack it */
+	public static final float ATTACK_RANGE = 750;
 	protected float maxHealth;
 	protected float health;
 	private final ProjectileData projectileType = ProjectileData.KRAKEN;
@@ -35,6 +45,8 @@ public class Kraken extends ObstacleEntity implements IHealth {
 	int frameCounter = 1;
 
 	Vector2 direction = new Vector2(1, 0);
+	/** Reused to hold where each cannonball is fired from */
+	private final Vector2 shotOrigin = new Vector2();
 	float timeOnCurrentDirection = 0;
 
 	/**
@@ -43,7 +55,7 @@ public class Kraken extends ObstacleEntity implements IHealth {
 	 * @param position initial position of the Kraken
 	 */
 	public Kraken(GameController controller, Vector2 position) {
-		super(controller, position, "img/entity/kraken1.png", new Vector2(200, 200));
+		super(controller, position, "img/entity/kraken1.png", SIZE);
 		Polygon poly = new Polygon(new float[] { 0, 75, 75, 150, 150, 75, 75, 0 });
 		poly.setPosition(position.x - getLocalCenterX(), position.y);
 		poly.setOrigin(0, 0);
@@ -90,28 +102,47 @@ public class Kraken extends ObstacleEntity implements IHealth {
 	}
 
 	/**
-	 * Called when the Kraken collides with another PhysicsObject
-	 * @param other the object collided with
+	 * Called when a boat first touches the Kraken, which damages the boat for the
+	 * tick, the same as {@link #onBoatStay(Boat, float)} does on the ticks after
+	 * @param boat the boat
+	 * @since Assessment 2
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
-		if (other instanceof Boat) {
-			((Boat) other).damage(5 * Gdx.graphics.getDeltaTime());
-		} else if (other instanceof Projectile && ((Projectile) other).isPlayerProjectile()) {
-			other.kill();
-			damage(((Projectile) other).getDamage());
-		}
+	public void onBoatContact(Boat boat) {
+		onBoatStay(boat, controller.timestep.getStep());
+	}
+
+	/**
+	 * Called every frame a boat stays in contact with the Kraken, which damages
+	 * the boat
+	 * @param boat the boat
+	 * @param delta time since the last frame
+	 */
+	public void onBoatStay(Boat boat, float delta) {
+		boat.damage(5 * delta);
+	}
+
+	/**
+	 * Called when the Kraken is hit by a projectile. Only player projectiles deal
+	 * damage.
+	 * @param p the projectile
+	 */
+	public void onProjectileHit(Projectile p) {
+		if (!p.isPlayerProjectile()) return;
+		p.kill();
+		damage(p.getDamage());
 	}
 
 	/**
 	 * Move the Kraken around. Called once per frame
 	 * @param delta time since the last frame
+	 * @tt.updated Assessment 2
 	 */
 	public void Move(float delta) {
 		timeOnCurrentDirection += delta;
 		if (timeOnCurrentDirection >= timeBetweenDirectionChanges) {
 			timeOnCurrentDirection = 0;
-			direction = new Vector2(MathUtils.randomSign(), MathUtils.randomSign());
+			RandomStream random = RandomSource.of(controller, Stream.KRAKEN);
+			direction.set(random.randomSign(), random.randomSign());
 			frameCounter = Math.max(1, (frameCounter + 1) % 4);
 
 			String newFrame = null;
@@ -126,10 +157,10 @@ public class Kraken extends ObstacleEntity implements IHealth {
 				newFrame = frame3;
 
 			}
-			setSprite(newFrame, position, new Vector2(200, 200));
+			setSpriteTexture(newFrame);
 		}
 
-		position.add(direction.cpy().scl(delta * speed));
+		position.mulAdd(direction, delta * speed);
 
 		sprite.setPosition(position.x - 95, position.y - 145);
 		collisionPolygon.setPosition(position.x - getLocalCenterX(), position.y);
@@ -150,19 +181,28 @@ public class Kraken extends ObstacleEntity implements IHealth {
 		}
 	}
 
+	/**
+	 * Far from the player it is still moved, but less often
+	 * @since Assessment 2
+	 */
+	@Override
+	public boolean canUpdateCoarsely() {
+		return true;
+	}
+
 	/**
 	 * Shoot cannonballs in a shotgun pattern around the Kraken.
 	 */
 	public void ShotgunShot() {
-		Vector2 origin = new Vector2(position.x - 25, position.y - 25);
+		float originX = position.x - 25, originY = position.y - 25;
 
-		float direction = new Vector2(origin.x - controller.playerBoat.position.x,
-				origin.y - controller.playerBoat.position.y).angleDeg();
+		float direction = MathHelper.angleDeg(originX - controller.playerBoat.position.x,
+				originY - controller.playerBoat.position.y);
 
 		for (int i = 0; i < 6; i++) {
 			Projectile proj = createProjectile(projectileType, direction + (15 * i) + 135,
 					controller.getGameDifficulty().getEnemyDmgMul(), 1,
-					new Vector2(origin.x + i, origin.y + i));
+					shotOrigin.set(originX + i, originY + i));
 
 			// Add the projectile to the GameController's physics objects list, so it receives updates
 			controller.NewPhysicsObject(proj);
@@ -173,11 +213,11 @@ public class Kraken extends ObstacleEntity implements IHealth {
 	 * Test if an object is within attack range
 	 * 
 	 * @param obj the object to range test
-	 * @return {@code true} if the object is within {@link #attackRange},
+	 * @return {@code true} if the object is within {@link #ATTACK_RANGE},
 	 *         {@code false} otherwise
 	 */
 	public boolean isInRange(PhysicsObject obj) {
-		return getCenter().dst2(obj.getCenter()) < attackRange * attackRange;
+		return dst2To(obj) < ATTACK_RANGE * ATTACK_RANGE;
 	}
 
 	public void setHealth(float health){
@@ -194,4 +234,30 @@ public class Kraken extends ObstacleEntity implements IHealth {
 		}
 	}
 
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(health);
+		out.writeFloat(maxHealth);
+		out.writeFloat(timeSinceLastShot);
+		out.writeByte(frameCounter);
+		out.writeFloat(direction.x);
+		out.writeFloat(direction.y);
+		out.writeFloat(timeOnCurrentDirection);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		health = in.readFloat();
+		maxHealth = in.readFloat();
+		timeSinceLastShot = in.readFloat();
+		frameCounter = in.readByte();
+		direction.set(in.readFloat(), in.readFloat());
+		timeOnCurrentDirection = in.readFloat();
+		setSpriteTexture(frameCounter == 3 ? frame3 : frameCounter == 2 ? frame2 : frame1);
+	}
+
 }
@@ -5,7 +5,6 @@ import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.Boats.Boat;
 import io.github.annabeths.Boats.PlayerBoat;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
 
 /**
@@ -31,19 +30,16 @@ public class Mine extends ObstacleEntity {
 	}
 
 	/**
-	 * Called when the Mine collides with another object.
-	 * @param other the object collided with
+	 * Called when a boat collides with the Mine, which explodes.
+	 * @param boat the boat
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
+	public void onBoatContact(Boat boat) {
 		boolean shouldDamage = true;
-		if (other instanceof PlayerBoat) {
-			shouldDamage = !((PlayerBoat) other).isInvincible();
-		}
-		if (other instanceof Boat) {
-			if (shouldDamage) ((Boat) other).damage(50);
-			kill();
+		if (boat instanceof PlayerBoat) {
+			shouldDamage = !((PlayerBoat) boat).isInvincible();
 		}
+		if (shouldDamage) boat.damage(50);
+		kill();
 	}
 
 	@Override
@@ -5,8 +5,11 @@ import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
 import io.github.annabeths.Projectiles.Projectile;
 import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
 
 /**
  * An abstract class that represents obstacles, e.g the Kraken, mines or weather.
@@ -60,7 +63,8 @@ public abstract class ObstacleEntity extends PhysicsObject {
 	 */
 	protected Projectile createProjectile(ProjectileData type, float rotationOffset, float dmgMul,
 			float spdMul, Vector2 pos) {
-		return new Projectile(pos, rotation + rotationOffset, type, false, dmgMul, spdMul);
+		return ProjectilePool.obtain(pos.x, pos.y, rotation + rotationOffset, type, false, false,
+				dmgMul, spdMul, RandomSource.of(controller, Stream.PROJECTILES));
 	}
 
 }
@@ -1,14 +1,19 @@
 package io.github.annabeths.Obstacles;
 
-import com.badlogic.gdx.Gdx;
+import java.io.IOException;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
 
 import io.github.annabeths.Boats.Boat;
 import io.github.annabeths.Boats.PlayerBoat;
-import io.github.annabeths.GameGenerics.PhysicsObject;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
 import io.github.annabeths.Level.GameMap;
 
 /**
@@ -20,6 +25,9 @@ import io.github.annabeths.Level.GameMap;
  */
 public class Weather extends ObstacleEntity {
 
+	/** The size of the weather's sprite */
+	private static final Vector2 SIZE = new Vector2(100, 100);
+
 	final float timeBetweenDirectionChanges = 3f;
 	final float speed = 75;
 	String frame1 = "img/entity/weather1.png";
@@ -32,7 +40,7 @@ public class Weather extends ObstacleEntity {
 	/** How opaque the object is */
 	public float opacity = 0f;
 
-	Vector2 direction;
+	Vector2 direction = new Vector2();
 	float timeOnCurrentDirection = 0;
 	/**
 	 * The weather starts on one side of the map and "trends" to the other side.<br>
@@ -59,7 +67,7 @@ public class Weather extends ObstacleEntity {
 	 * @param dir direction the Weather travels in.
 	 */
 	public Weather(GameController controller, Vector2 position, int dir) {
-		super(controller, position, "img/entity/weather1.png", new Vector2(100, 100));
+		super(controller, position, "img/entity/weather1.png", SIZE);
 		Polygon poly = new Polygon(new float[] { 0, 50, 50, 100, 100, 50, 50, 0 });
 		poly.setPosition(position.x - getLocalCenterX(), position.y);
 		poly.setOrigin(0, 0);
@@ -68,71 +76,85 @@ public class Weather extends ObstacleEntity {
 		directionTrend = dir;
 		this.collisionPolygon = poly;
 		ChangeDirection();
-		timeUntilNextLightningStrike = MathUtils.random(maxTimeBetweenLightningStrikes);
+		RandomStream random = RandomSource.of(controller, Stream.WEATHER);
+		timeUntilNextLightningStrike = random.random(maxTimeBetweenLightningStrikes);
 
-		fadeTime = 3 + MathUtils.random(-1.5f, 1f); // add random amount to fade time
+		fadeTime = 3 + random.random(-1.5f, 1f); // add random amount to fade time
 		sprite.setColor(1, 1, 1, 0f); // set transparent when spawned
 	}
 
 	/**
 	 * Toggle lightning on or off. When lightning is active the ship takes damage.
+	 * @tt.updated Assessment 2
 	 */
 	public void toggleLightning() {
 		if (damageActive) {
-			setSprite(frame1, position, new Vector2(100, 100));
+			setSpriteTexture(frame1);
 			timeSinceStrikeStarted = 0;
 		} else {
-			setSprite(frame2, position, new Vector2(100, 100));
-			timeUntilNextLightningStrike = MathUtils.random(maxTimeBetweenLightningStrikes);
+			setSpriteTexture(frame2);
+			timeUntilNextLightningStrike = RandomSource.of(controller, Stream.WEATHER)
+					.random(maxTimeBetweenLightningStrikes);
 			timeSinceLastStrike = 0;
 		}
 		damageActive = !damageActive;
 	}
 
 	/**
-	 * Called when the Weather collides with another object
-	 * @param other the object collided with
+	 * Called when a boat sails into the Weather, which affects it for the tick
+	 * the same as {@link #onBoatStay(Boat, float)} does on the ticks after
+	 * @param boat the boat
+	 * @since Assessment 2
 	 */
-	@Override
-	public void OnCollision(PhysicsObject other) {
+	public void onBoatContact(Boat boat) {
+		onBoatStay(boat, controller.timestep.getStep());
+	}
+
+	/**
+	 * Called every frame a boat stays inside the Weather
+	 * @param boat the boat
+	 * @param delta time since the last frame
+	 */
+	public void onBoatStay(Boat boat, float delta) {
 		boolean shouldDamage = damageActive;
 
-		if (other instanceof PlayerBoat) {
+		if (boat instanceof PlayerBoat) {
 			// The player gets xp for sailing through bad weather
-			controller.addXp(1 * Gdx.graphics.getDeltaTime());
+			controller.addXp(1 * delta);
 			// should not damage if player is invincible
-			shouldDamage &= !((PlayerBoat) other).isInvincible();
+			shouldDamage &= !((PlayerBoat) boat).isInvincible();
 		}
 
 		if (!shouldDamage) return;
 
-		if (other instanceof Boat) {
-			((Boat) other).damage(1.5f * controller.getGameDifficulty().getEnemyDmgMul());
-		}
+		// 1.5 damage per frame at 60fps
+		boat.damage(90 * delta * controller.getGameDifficulty().getEnemyDmgMul());
 	}
 
 	/**
 	 * Change the direction of the weather
 	 */
 	public void ChangeDirection() {
+		RandomStream random = RandomSource.of(controller, Stream.WEATHER);
 		switch (directionTrend) {
 		case 0: // North -> South
-			direction = new Vector2(MathUtils.randomSign(), -1);
+			direction.set(random.randomSign(), -1);
 			break;
 		case 1: // South -> North
-			direction = new Vector2(MathUtils.randomSign(), 1);
+			direction.set(random.randomSign(), 1);
 			break;
 		case 2: // East -> West
-			direction = new Vector2(1, MathUtils.randomSign());
+			direction.set(1, random.randomSign());
 			break;
 		case 3: // West -> East
-			direction = new Vector2(-1, MathUtils.randomSign());
+			direction.set(-1, random.randomSign());
 		}
 	}
 
 	/**
 	 * Called once per frame. Move the weather.
 	 * @param delta time since the last frame
+	 * @tt.updated Assessment 2
 	 */
 	public void Move(float delta) {
 		timeOnCurrentDirection += delta;
@@ -141,7 +163,7 @@ public class Weather extends ObstacleEntity {
 			ChangeDirection();
 		}
 
-		position.add(direction.cpy().scl(delta * speed));
+		position.mulAdd(direction, delta * speed);
 
 		sprite.setPosition(position.x - 50, position.y - 70);
 		collisionPolygon.setPosition(position.x - getLocalCenterX(), position.y);
@@ -180,6 +202,15 @@ public class Weather extends ObstacleEntity {
 		Move(delta);
 	}
 
+	/**
+	 * Far from the player it is still moved, but less often
+	 * @since Assessment 2
+	 */
+	@Override
+	public boolean canUpdateCoarsely() {
+		return true;
+	}
+
 	/**
 	 * @return the direction
 	 */
@@ -193,4 +224,36 @@ public class Weather extends ObstacleEntity {
 	public int getDirectionTrend() {
 		return directionTrend;
 	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(fadeTime);
+		out.writeFloat(opacity);
+		out.writeFloat(direction.x);
+		out.writeFloat(direction.y);
+		out.writeFloat(timeOnCurrentDirection);
+		out.writeByte(directionTrend);
+		out.writeBoolean(damageActive);
+		out.writeFloat(timeUntilNextLightningStrike);
+		out.writeFloat(timeSinceLastStrike);
+		out.writeFloat(timeSinceStrikeStarted);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		fadeTime = in.readFloat();
+		opacity = in.readFloat();
+		direction.set(in.readFloat(), in.readFloat());
+		timeOnCurrentDirection = in.readFloat();
+		directionTrend = in.readByte();
+		damageActive = in.readBoolean();
+		timeUntilNextLightningStrike = in.readFloat();
+		timeSinceLastStrike = in.readFloat();
+		timeSinceStrikeStarted = in.readFloat();
+		setSpriteTexture(damageActive ? frame2 : frame1);
+	}
 }
@@ -0,0 +1,24 @@
+package io.github.annabeths.Physics;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
+/**
+ * Reacts to a collision between two specific types of {@link PhysicsObject}
+ *
+ * @param <A> the type of the object being collided with
+ * @param <B> the type of the object that collided
+ * @since Assessment 2
+ * @see CollisionTable
+ */
+@FunctionalInterface
+public interface CollisionHandler<A extends PhysicsObject, B extends PhysicsObject> {
+
+	/**
+	 * Handle the collision
+	 *
+	 * @param self the object whose collision is being handled
+	 * @param other the object it collided with
+	 */
+	void handle(A self, B other);
+
+}
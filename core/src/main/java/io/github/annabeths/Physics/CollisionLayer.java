@@ -0,0 +1,90 @@
+package io.github.annabeths.Physics;
+
+import com.badlogic.gdx.utils.ObjectMap;
+
+import io.github.annabeths.Boats.Boat;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.Boats.PlayerBoat;
+import io.github.annabeths.Collectables.Powerup;
+import io.github.annabeths.Colleges.EnemyCollege;
+import io.github.annabeths.Colleges.PlayerCollege;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.Obstacles.Kraken;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Projectiles.Projectile;
+
+/**
+ * The collision layer a {@link PhysicsObject} belongs to. Which layers interact
+ * with each other is decided by the handlers registered in
+ * {@link CollisionTable}.
+ *
+ * @since Assessment 2
+ */
+public enum CollisionLayer {
+	PLAYER(PlayerBoat.class, false, false),
+	FRIENDLY_BOAT(FriendlyBoat.class, false, false),
+	ENEMY_BOAT(EnemyBoat.class, false, false),
+	NEUTRAL_BOAT(NeutralBoat.class, false, false),
+	/** Any other type of boat */
+	BOAT(Boat.class, false, false),
+	PROJECTILE(Projectile.class, false, true),
+	PLAYER_COLLEGE(PlayerCollege.class, true, false),
+	ENEMY_COLLEGE(EnemyCollege.class, true, false),
+	KRAKEN(Kraken.class, false, false),
+	MINE(Mine.class, true, false),
+	WEATHER(Weather.class, false, false),
+	POWERUP(Powerup.class, true, false),
+	/** Objects of an unknown type, these are tested against everything */
+	OTHER(PhysicsObject.class, false, false);
+
+	/** The bit representing this layer in a collision mask */
+	public final int bit;
+	/**
+	 * If objects in this layer never move once placed. Static objects are never
+	 * tested against each other.
+	 */
+	public final boolean isStatic;
+	/**
+	 * If objects in this layer move fast enough that they need to be tested along
+	 * the whole path they moved this frame, rather than just where they ended up
+	 */
+	public final boolean isSwept;
+	/** The most general type of object that belongs to this layer */
+	private final Class<? extends PhysicsObject> type;
+
+	/** The layer of each registered type, never changed after it is filled */
+	private static final ObjectMap<Class<?>, CollisionLayer> layers = new ObjectMap<>();
+
+	static {
+		for (CollisionLayer layer : values()) {
+			layers.put(layer.type, layer);
+		}
+	}
+
+	CollisionLayer(Class<? extends PhysicsObject> type, boolean isStatic, boolean isSwept) {
+		this.bit = 1 << ordinal();
+		this.type = type;
+		this.isStatic = isStatic;
+		this.isSwept = isSwept;
+	}
+
+	/**
+	 * Find the layer a type of object belongs to. The layer of the closest
+	 * registered superclass is used. Nothing is cached here, so this is safe to
+	 * call from any thread, {@link PhysicsObject} keeps the result instead.
+	 *
+	 * @param type the type of object
+	 * @return the layer, {@link #OTHER} if the type is not known
+	 */
+	public static CollisionLayer of(Class<?> type) {
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			CollisionLayer found = layers.get(c);
+			if (found != null) return found;
+		}
+		return OTHER;
+	}
+
+}
@@ -0,0 +1,26 @@
+package io.github.annabeths.Physics;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
+/**
+ * Reacts to two specific types of {@link PhysicsObject} remaining in contact
+ * for another frame
+ *
+ * @param <A> the type of the object being collided with
+ * @param <B> the type of the object that collided
+ * @since Assessment 2
+ * @see CollisionTable
+ */
+@FunctionalInterface
+public interface CollisionStayHandler<A extends PhysicsObject, B extends PhysicsObject> {
+
+	/**
+	 * Handle the contact
+	 *
+	 * @param self the object whose contact is being handled
+	 * @param other the object it is touching
+	 * @param delta time since the last frame
+	 */
+	void handle(A self, B other, float delta);
+
+}
@@ -0,0 +1,232 @@
+package io.github.annabeths.Physics;
+
+import static io.github.annabeths.Physics.CollisionLayer.BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.ENEMY_BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.ENEMY_COLLEGE;
+import static io.github.annabeths.Physics.CollisionLayer.FRIENDLY_BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.KRAKEN;
+import static io.github.annabeths.Physics.CollisionLayer.MINE;
+import static io.github.annabeths.Physics.CollisionLayer.NEUTRAL_BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.OTHER;
+import static io.github.annabeths.Physics.CollisionLayer.PLAYER;
+import static io.github.annabeths.Physics.CollisionLayer.POWERUP;
+import static io.github.annabeths.Physics.CollisionLayer.PROJECTILE;
+import static io.github.annabeths.Physics.CollisionLayer.WEATHER;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.Boats.PlayerBoat;
+import io.github.annabeths.Collectables.Powerup;
+import io.github.annabeths.Colleges.EnemyCollege;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.Obstacles.Kraken;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Projectiles.Projectile;
+
+/**
+ * The tables of handlers for each pair of {@link CollisionLayer}s, and the
+ * collision masks built from them. There are separate tables for a contact
+ * starting, continuing on later frames, and ending. Two layers only need to be
+ * tested against each other if at least one of them has a handler for the
+ * other.
+ *
+ * @since Assessment 2
+ */
+public final class CollisionTable {
+
+	private static final CollisionLayer[] LAYERS = CollisionLayer.values();
+	private static final CollisionLayer[] BOATS = { PLAYER, FRIENDLY_BOAT, ENEMY_BOAT,
+			NEUTRAL_BOAT, BOAT };
+
+	/** Indexed by the ordinal of the object's layer, then the other's layer */
+	private static final CollisionHandler<PhysicsObject, PhysicsObject>[][] handlers;
+	private static final CollisionStayHandler<PhysicsObject, PhysicsObject>[][] stayHandlers;
+	private static final CollisionHandler<PhysicsObject, PhysicsObject>[][] exitHandlers;
+	/** For each layer, the bits of every layer it should be tested against */
+	private static final int[] masks = new int[LAYERS.length];
+
+	static {
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		CollisionHandler<PhysicsObject, PhysicsObject>[][] table = new CollisionHandler[LAYERS.length][LAYERS.length];
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		CollisionStayHandler<PhysicsObject, PhysicsObject>[][] stayTable = new CollisionStayHandler[LAYERS.length][LAYERS.length];
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		CollisionHandler<PhysicsObject, PhysicsObject>[][] exitTable = new CollisionHandler[LAYERS.length][LAYERS.length];
+		handlers = table;
+		stayHandlers = stayTable;
+		exitHandlers = exitTable;
+
+		register(PLAYER, PROJECTILE, PlayerBoat::onProjectileHit);
+		register(PLAYER, ENEMY_COLLEGE, PlayerBoat::onCollegeCrash);
+		register(NEUTRAL_BOAT, PLAYER, NeutralBoat::onPlayerRam);
+		register(NEUTRAL_BOAT, PROJECTILE, NeutralBoat::onProjectileHit);
+		register(ENEMY_BOAT, PLAYER, EnemyBoat::onPlayerRam);
+		register(ENEMY_BOAT, PROJECTILE, EnemyBoat::onProjectileHit);
+		register(FRIENDLY_BOAT, PROJECTILE, FriendlyBoat::onProjectileHit);
+		register(PROJECTILE, PROJECTILE, Projectile::onProjectileHit);
+		register(ENEMY_COLLEGE, PROJECTILE, EnemyCollege::onProjectileHit);
+		register(KRAKEN, PROJECTILE, Kraken::onProjectileHit);
+		register(POWERUP, PLAYER, Powerup::onPlayerContact);
+		// try again each frame in case the player could not take it straight away
+		registerStay(POWERUP, PLAYER, (Powerup p, PlayerBoat b, float delta) -> p
+				.onPlayerContact(b));
+		for (CollisionLayer boat : BOATS) {
+			register(MINE, boat, Mine::onBoatContact);
+			// damage starts on the tick the boat first touches them
+			register(KRAKEN, boat, Kraken::onBoatContact);
+			registerStay(KRAKEN, boat, Kraken::onBoatStay);
+			register(WEATHER, boat, Weather::onBoatContact);
+			registerStay(WEATHER, boat, Weather::onBoatStay);
+		}
+
+		// objects of unknown types are tested against everything
+		for (CollisionLayer layer : LAYERS) {
+			link(OTHER, layer);
+		}
+	}
+
+	private CollisionTable() {}
+
+	/**
+	 * Set the handler for the start of a collision between two layers
+	 *
+	 * @param <A> the type of object in the {@code self} layer
+	 * @param <B> the type of object in the {@code other} layer
+	 * @param self the layer of the object being collided with
+	 * @param other the layer of the object that collided
+	 * @param handler the handler
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A extends PhysicsObject, B extends PhysicsObject> void register(
+			CollisionLayer self, CollisionLayer other, CollisionHandler<A, B> handler) {
+		handlers[self.ordinal()][other.ordinal()] = (CollisionHandler<PhysicsObject, PhysicsObject>) handler;
+		link(self, other);
+	}
+
+	/**
+	 * Set the handler for a contact between two layers continuing into another
+	 * frame
+	 *
+	 * @param <A> the type of object in the {@code self} layer
+	 * @param <B> the type of object in the {@code other} layer
+	 * @param self the layer of the object being collided with
+	 * @param other the layer of the object that collided
+	 * @param handler the handler
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A extends PhysicsObject, B extends PhysicsObject> void registerStay(
+			CollisionLayer self, CollisionLayer other, CollisionStayHandler<A, B> handler) {
+		stayHandlers[self.ordinal()][other.ordinal()] = (CollisionStayHandler<PhysicsObject, PhysicsObject>) handler;
+		link(self, other);
+	}
+
+	/**
+	 * Set the handler for the end of a contact between two layers
+	 *
+	 * @param <A> the type of object in the {@code self} layer
+	 * @param <B> the type of object in the {@code other} layer
+	 * @param self the layer of the object being collided with
+	 * @param other the layer of the object that collided
+	 * @param handler the handler
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A extends PhysicsObject, B extends PhysicsObject> void registerExit(
+			CollisionLayer self, CollisionLayer other, CollisionHandler<A, B> handler) {
+		exitHandlers[self.ordinal()][other.ordinal()] = (CollisionHandler<PhysicsObject, PhysicsObject>) handler;
+		link(self, other);
+	}
+
+	/** Mark two layers as needing to be tested against each other */
+	private static void link(CollisionLayer a, CollisionLayer b) {
+		masks[a.ordinal()] |= b.bit;
+		masks[b.ordinal()] |= a.bit;
+	}
+
+	/**
+	 * Pass the start of a collision to the handler for the two objects' layers.
+	 * Does nothing if there is no handler, or {@code other} is {@code null}.
+	 *
+	 * @param self the object whose collision is being handled
+	 * @param other the object it collided with
+	 */
+	public static void dispatch(PhysicsObject self, PhysicsObject other) {
+		if (other == null) return;
+		CollisionHandler<PhysicsObject, PhysicsObject> handler = handlers[self
+				.getCollisionLayer().ordinal()][other.getCollisionLayer().ordinal()];
+		if (handler != null) handler.handle(self, other);
+	}
+
+	/**
+	 * Pass a continuing contact to the stay handler for the two objects' layers.
+	 * Does nothing if there is no handler.
+	 *
+	 * @param self the object whose contact is being handled
+	 * @param other the object it is touching
+	 * @param delta time since the last frame
+	 */
+	public static void dispatchStay(PhysicsObject self, PhysicsObject other, float delta) {
+		if (other == null) return;
+		CollisionStayHandler<PhysicsObject, PhysicsObject> handler = stayHandlers[self
+				.getCollisionLayer().ordinal()][other.getCollisionLayer().ordinal()];
+		if (handler != null) handler.handle(self, other, delta);
+	}
+
+	/**
+	 * Pass the end of a contact to the exit handler for the two objects' layers.
+	 * Does nothing if there is no handler.
+	 *
+	 * @param self the object whose contact is being handled
+	 * @param other the object it was touching
+	 */
+	public static void dispatchExit(PhysicsObject self, PhysicsObject other) {
+		if (other == null) return;
+		CollisionHandler<PhysicsObject, PhysicsObject> handler = exitHandlers[self
+				.getCollisionLayer().ordinal()][other.getCollisionLayer().ordinal()];
+		if (handler != null) handler.handle(self, other);
+	}
+
+	/**
+	 * @param self the layer of the object being collided with
+	 * @param other the layer of the object that collided
+	 * @return the handler for the start of a collision between the pair, or
+	 *         {@code null} if there is none
+	 */
+	public static CollisionHandler<PhysicsObject, PhysicsObject> getHandler(
+			CollisionLayer self, CollisionLayer other) {
+		return handlers[self.ordinal()][other.ordinal()];
+	}
+
+	/**
+	 * @param self the layer of the object being collided with
+	 * @param other the layer of the object that collided
+	 * @return the handler for a continuing contact between the pair, or
+	 *         {@code null} if there is none
+	 */
+	public static CollisionStayHandler<PhysicsObject, PhysicsObject> getStayHandler(
+			CollisionLayer self, CollisionLayer other) {
+		return stayHandlers[self.ordinal()][other.ordinal()];
+	}
+
+	/**
+	 * @param layer a collision layer
+	 * @return the bits of every layer that should be tested against
+	 *         {@code layer}
+	 */
+	public static int getMask(CollisionLayer layer) {
+		return masks[layer.ordinal()];
+	}
+
+	/**
+	 * Test if objects in two layers can interact. This is symmetric.
+	 *
+	 * @param a the first layer
+	 * @param b the second layer
+	 * @return {@code true} if the layers should be tested for collision
+	 */
+	public static boolean canCollide(CollisionLayer a, CollisionLayer b) {
+		return (masks[a.ordinal()] & b.bit) != 0;
+	}
+
+}
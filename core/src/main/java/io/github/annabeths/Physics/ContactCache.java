@@ -0,0 +1,233 @@
+package io.github.annabeths.Physics;
+
+import java.util.Iterator;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.LongMap.Entry;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GeneralControl.FrameProfiler;
+
+/**
+ * Remembers which pairs of {@link PhysicsObject}s were tested, and which were
+ * touching, across frames. This lets each pair be tested once per frame, lets
+ * pairs that have not moved skip the geometry test, and is used to tell the
+ * objects when a contact starts, continues or ends.
+ * <p>
+ * Each frame, call {@link #beginFrame()}, then {@link #test} for each candidate
+ * pair once, then {@link #endFrame()}.
+ *
+ * @since Assessment 2
+ */
+public class ContactCache {
+
+	/** Every pair tested on the last frame it was a candidate */
+	private final LongMap<Contact> pairs = new LongMap<>();
+	private final Pool<Contact> contactPool = new Pool<Contact>() {
+		@Override
+		protected Contact newObject() {
+			return new Contact();
+		}
+	};
+
+	private int frame = 0;
+	/** How many polygon tests were run this frame */
+	private int narrowphaseTests = 0;
+
+	/** Start a new frame */
+	public void beginFrame() {
+		frame++;
+		narrowphaseTests = 0;
+	}
+
+	/**
+	 * Test a pair of objects, and call the objects' enter or stay callbacks if they
+	 * are touching, or exit callbacks if they stopped touching. Pairs that can't
+	 * interact, or that contain an object that is about to be removed, are
+	 * skipped. If neither object has moved since the pair was last tested, the
+	 * last result is reused.
+	 *
+	 * @param a the first object
+	 * @param b the second object
+	 * @param delta time since the last frame
+	 */
+	public void test(PhysicsObject a, PhysicsObject b, float delta) {
+		if (!a.canCollideWith(b)) return;
+		if (a.removeOnNextTick() || b.removeOnNextTick()) return;
+		FrameProfiler.countPair(a, b);
+
+		// always store the pair in the same order
+		if (a.getPhysicsId() > b.getPhysicsId()) {
+			PhysicsObject tmp = a;
+			a = b;
+			b = tmp;
+		}
+		long key = key(a, b);
+		int versionA = a.getTransformVersion();
+		int versionB = b.getTransformVersion();
+
+		Contact c = pairs.get(key);
+		boolean touching;
+		if (c != null && c.versionA == versionA && c.versionB == versionB) {
+			touching = c.touching;
+		} else {
+			touching = a.CheckCollisionWith(b);
+			narrowphaseTests++;
+		}
+
+		if (c == null) {
+			c = contactPool.obtain();
+			c.a = a;
+			c.b = b;
+			pairs.put(key, c);
+		}
+		c.versionA = versionA;
+		c.versionB = versionB;
+		c.frame = frame;
+
+		if (touching && !c.touching) {
+			c.touching = true;
+			a.OnCollision(b);
+			b.OnCollision(a);
+		} else if (touching) {
+			a.OnCollisionStay(b, delta);
+			b.OnCollisionStay(a, delta);
+		} else if (c.touching) {
+			c.touching = false;
+			a.OnCollisionExit(b);
+			b.OnCollisionExit(a);
+		}
+	}
+
+	/**
+	 * Finish the frame. Pairs that were not tested this frame are forgotten, and
+	 * any that were touching are told the contact has ended.
+	 */
+	public void endFrame() {
+		Iterator<Entry<Contact>> it = pairs.entries().iterator();
+		while (it.hasNext()) {
+			Contact c = it.next().value;
+			if (c.frame == frame) continue;
+			it.remove();
+			if (c.touching) {
+				c.a.OnCollisionExit(c.b);
+				c.b.OnCollisionExit(c.a);
+			}
+			contactPool.free(c);
+		}
+	}
+
+	/** Forget every pair without calling any callbacks */
+	public void clear() {
+		for (Contact c : pairs.values()) {
+			contactPool.free(c);
+		}
+		pairs.clear();
+	}
+
+	/**
+	 * Get every pair of objects that were touching when last tested
+	 *
+	 * @param out the array to add the two objects of each pair to, one after the
+	 *        other. It is not cleared first.
+	 * @return the {@code out} array
+	 */
+	public Array<PhysicsObject> getTouching(Array<PhysicsObject> out) {
+		for (Contact c : pairs.values()) {
+			if (!c.touching) continue;
+			out.add(c.a);
+			out.add(c.b);
+		}
+		return out;
+	}
+
+	/**
+	 * Remember a pair of objects as touching, so the next time they are tested
+	 * and still touching their stay callbacks are called rather than their enter
+	 * ones. The pair is tested again rather than trusting the last result. Used
+	 * to put back the contacts of a saved world.
+	 *
+	 * @param a the first object
+	 * @param b the second object
+	 */
+	public void setTouching(PhysicsObject a, PhysicsObject b) {
+		if (a.getPhysicsId() > b.getPhysicsId()) {
+			PhysicsObject tmp = a;
+			a = b;
+			b = tmp;
+		}
+		long key = key(a, b);
+		Contact c = pairs.get(key);
+		if (c == null) {
+			c = contactPool.obtain();
+			c.a = a;
+			c.b = b;
+			pairs.put(key, c);
+		}
+		// versions start at 0 and only go up, so the pair is always tested again
+		c.versionA = -1;
+		c.versionB = -1;
+		c.frame = frame;
+		c.touching = true;
+	}
+
+	/**
+	 * @param a the first object
+	 * @param b the second object
+	 * @return {@code true} if the objects were touching when last tested
+	 */
+	public boolean isTouching(PhysicsObject a, PhysicsObject b) {
+		Contact c = pairs.get(key(a, b));
+		return c != null && c.touching;
+	}
+
+	/** @return the number of pairs currently touching */
+	public int getContactCount() {
+		int count = 0;
+		for (Contact c : pairs.values()) {
+			if (c.touching) count++;
+		}
+		return count;
+	}
+
+	/** @return the number of pairs being remembered */
+	public int getPairCount() {
+		return pairs.size;
+	}
+
+	/** @return how many polygon tests were run this frame */
+	public int getNarrowphaseTests() {
+		return narrowphaseTests;
+	}
+
+	/**
+	 * Get the key for an unordered pair of objects
+	 *
+	 * @param a the first object
+	 * @param b the second object
+	 * @return the same key regardless of the order of the objects
+	 */
+	private static long key(PhysicsObject a, PhysicsObject b) {
+		int idA = a.getPhysicsId();
+		int idB = b.getPhysicsId();
+		return idA < idB ? ((long) idA << 32) | idB : ((long) idB << 32) | idA;
+	}
+
+	/** The state of a pair of objects */
+	private static class Contact implements Pool.Poolable {
+		PhysicsObject a, b;
+		int versionA, versionB;
+		int frame;
+		boolean touching;
+
+		@Override
+		public void reset() {
+			a = null;
+			b = null;
+			touching = false;
+		}
+	}
+
+}
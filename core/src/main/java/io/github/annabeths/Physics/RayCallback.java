@@ -0,0 +1,32 @@
+package io.github.annabeths.Physics;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
+/**
+ * Receives the objects found by a ray cast through a {@link SpatialGrid}.
+ *
+ * @since Assessment 2
+ */
+public interface RayCallback {
+
+	/**
+	 * Find where the ray enters an object that shares a cell with it. Called at
+	 * most once per object per cast.
+	 *
+	 * @param obj the object to test
+	 * @return the fraction along the ray, between 0 and 1, at which it enters the
+	 *         object, or a negative number if it misses or should be ignored
+	 */
+	float intersect(PhysicsObject obj);
+
+	/**
+	 * Report an object hit by the ray. Hits are reported from closest to
+	 * farthest.
+	 *
+	 * @param obj the object that was hit
+	 * @param fraction the fraction along the ray at which it enters the object
+	 * @return {@code true} to keep looking for hits, {@code false} to stop
+	 */
+	boolean hit(PhysicsObject obj, float fraction);
+
+}
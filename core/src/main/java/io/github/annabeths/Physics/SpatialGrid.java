@@ -0,0 +1,530 @@
+package io.github.annabeths.Physics;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.Level.GameMap;
+
+/**
+ * A uniform grid broadphase. Each {@link PhysicsObject} is registered in every
+ * cell its bounding box overlaps, so only objects that share a cell need to be
+ * tested against each other. Objects outside the grid are clamped into the edge
+ * cells, which keeps results correct at the cost of crowding those cells.
+ * <p>
+ * Area queries only read the grid, so several threads can query it at once as
+ * long as nothing is being added, moved or removed. Ray casts reuse buffers
+ * held by the grid, so must only be made from one thread.
+ *
+ * @since Assessment 2
+ */
+public class SpatialGrid {
+
+	/** The default cell size, roughly the size of the largest boats */
+	public static final float DEFAULT_CELL_SIZE = 128;
+
+	private final float originX, originY;
+	private final float cellSize;
+	private final int cols, rows;
+
+	private final Array<Proxy>[] cells;
+	/** Every proxy currently in the grid */
+	private final Array<Proxy> members = new Array<>(false, 64);
+	private final IdentityMap<PhysicsObject, Proxy> proxies = new IdentityMap<>();
+
+	/** Incremented on every ray cast, used to avoid testing an object twice */
+	private int queryMark = 0;
+	/** Incremented on every sync, used to find objects that left the world */
+	private int syncStamp = 0;
+
+	/** Reused by ray casts to hold hits that have been found but not reported */
+	private final Array<PhysicsObject> rayHits = new Array<>(8);
+	/** The fraction along the ray of each of {@link #rayHits} */
+	private final FloatArray rayFractions = new FloatArray(8);
+
+	/**
+	 * Create a grid covering the given area
+	 *
+	 * @param x the left edge of the grid
+	 * @param y the bottom edge of the grid
+	 * @param width the width of the grid
+	 * @param height the height of the grid
+	 * @param cellSize the width and height of each cell
+	 */
+	public SpatialGrid(float x, float y, float width, float height, float cellSize) {
+		this.originX = x;
+		this.originY = y;
+		this.cellSize = cellSize;
+		this.cols = Math.max(1, MathUtils.ceil(width / cellSize));
+		this.rows = Math.max(1, MathUtils.ceil(height / cellSize));
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Array<Proxy>[] cells = new Array[cols * rows];
+		this.cells = cells;
+		for (int i = 0; i < cells.length; i++) {
+			cells[i] = new Array<>(false, 4);
+		}
+	}
+
+	/**
+	 * Create a grid covering the bounds of the {@link GameMap}
+	 *
+	 * @return the new grid
+	 */
+	public static SpatialGrid forMap() {
+		return new SpatialGrid(0, 0, GameMap.getMapWidth(), GameMap.getMapHeight(),
+				DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Bring the grid in line with the given list of objects. Objects that are new
+	 * are inserted, objects that moved are re-binned, and objects that are no
+	 * longer in the list are removed.
+	 *
+	 * @param objects every object that should be in the grid
+	 */
+	public void sync(List<PhysicsObject> objects) {
+		sync(objects.size(), objects::get);
+	}
+
+	/**
+	 * Bring the grid in line with the given array of objects.
+	 *
+	 * @param objects every object that should be in the grid
+	 * @see #sync(List)
+	 */
+	public void sync(Array<PhysicsObject> objects) {
+		sync(objects.size, objects::get);
+	}
+
+	/**
+	 * Place each object, then remove anything that was not among them
+	 *
+	 * @param size the number of objects
+	 * @param objects gets the object at an index
+	 */
+	private void sync(int size, IntFunction<PhysicsObject> objects) {
+		syncStamp++;
+		for (int i = 0; i < size; i++) {
+			place(objects.apply(i)).stamp = syncStamp;
+		}
+		for (int i = members.size - 1; i >= 0; i--) {
+			Proxy p = members.get(i);
+			if (p.stamp != syncStamp) remove(p.obj);
+		}
+	}
+
+	/**
+	 * Insert the object into the grid, or move it to its new cells if it has
+	 * moved. Does nothing if the object still covers the same cells.
+	 *
+	 * @param obj the object to update
+	 */
+	public void update(PhysicsObject obj) {
+		place(obj);
+	}
+
+	private Proxy place(PhysicsObject obj) {
+		Proxy p = proxies.get(obj);
+		if (p == null) {
+			p = new Proxy(obj);
+			p.stamp = syncStamp;
+			p.index = members.size;
+			proxies.put(obj, p);
+			members.add(p);
+		}
+
+		Rectangle r = obj.getBounds();
+		int minX = cellX(r.x);
+		int minY = cellY(r.y);
+		int maxX = cellX(r.x + r.width);
+		int maxY = cellY(r.y + r.height);
+
+		if (p.inserted && minX == p.minX && minY == p.minY && maxX == p.maxX && maxY == p.maxY)
+			return p;
+
+		if (p.inserted) removeFromCells(p);
+		p.minX = minX;
+		p.minY = minY;
+		p.maxX = maxX;
+		p.maxY = maxY;
+		for (int y = minY; y <= maxY; y++) {
+			for (int x = minX; x <= maxX; x++) {
+				cells[y * cols + x].add(p);
+			}
+		}
+		p.inserted = true;
+		return p;
+	}
+
+	/**
+	 * Remove the object from the grid
+	 *
+	 * @param obj the object to remove
+	 */
+	public void remove(PhysicsObject obj) {
+		Proxy p = proxies.remove(obj);
+		if (p == null) return;
+		if (p.inserted) removeFromCells(p);
+		// swap the last member into the removed slot
+		Proxy last = members.pop();
+		if (last != p) {
+			members.set(p.index, last);
+			last.index = p.index;
+		}
+	}
+
+	/** Remove every object from the grid */
+	public void clear() {
+		for (Array<Proxy> cell : cells) {
+			cell.clear();
+		}
+		members.clear();
+		proxies.clear();
+	}
+
+	/**
+	 * Write which objects are in the grid, and the order each cell holds them in,
+	 * so the grid can be put back exactly by {@link #readState}. Queries return
+	 * objects in this order, so it decides the order collisions are handled in.
+	 *
+	 * @param out the stream to write to
+	 * @param indices the index of each object in the world
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void writeState(DataOutput out, ObjectIntMap<PhysicsObject> indices)
+			throws IOException {
+		out.writeInt(syncStamp, true);
+		out.writeInt(members.size, true);
+		for (int i = 0; i < members.size; i++) {
+			Proxy p = members.get(i);
+			int index = indices.get(p.obj, -1);
+			if (index < 0) throw new IllegalStateException("Grid holds an object not in the world");
+			out.writeInt(index, true);
+			out.writeBoolean(p.inserted);
+			out.writeInt(p.minX, true);
+			out.writeInt(p.minY, true);
+			out.writeInt(p.maxX, true);
+			out.writeInt(p.maxY, true);
+			out.writeInt(p.stamp, true);
+		}
+
+		int used = 0;
+		for (Array<Proxy> cell : cells) {
+			if (!cell.isEmpty()) used++;
+		}
+		out.writeInt(used, true);
+		for (int c = 0; c < cells.length; c++) {
+			Array<Proxy> cell = cells[c];
+			if (cell.isEmpty()) continue;
+			out.writeInt(c, true);
+			out.writeInt(cell.size, true);
+			for (int i = 0; i < cell.size; i++) {
+				out.writeInt(cell.get(i).index, true);
+			}
+		}
+	}
+
+	/**
+	 * Replace everything in the grid with the objects written by
+	 * {@link #writeState}
+	 *
+	 * @param in the stream to read from
+	 * @param objects every object in the world
+	 * @throws IOException if the stream can't be read from
+	 */
+	public void readState(DataInput in, List<PhysicsObject> objects) throws IOException {
+		clear();
+		syncStamp = in.readInt(true);
+		int count = in.readInt(true);
+		for (int i = 0; i < count; i++) {
+			Proxy p = new Proxy(objects.get(in.readInt(true)));
+			p.inserted = in.readBoolean();
+			p.minX = in.readInt(true);
+			p.minY = in.readInt(true);
+			p.maxX = in.readInt(true);
+			p.maxY = in.readInt(true);
+			p.stamp = in.readInt(true);
+			p.index = i;
+			proxies.put(p.obj, p);
+			members.add(p);
+		}
+
+		int used = in.readInt(true);
+		for (int c = 0; c < used; c++) {
+			Array<Proxy> cell = cells[in.readInt(true)];
+			int size = in.readInt(true);
+			for (int i = 0; i < size; i++) {
+				cell.add(members.get(in.readInt(true)));
+			}
+		}
+	}
+
+	/**
+	 * Find every object that shares at least one cell with the given object. The
+	 * object itself is not included. Each object is only added once.
+	 *
+	 * @param obj the object to find neighbours for
+	 * @param out the array to add the results to, it is not cleared first
+	 * @return the {@code out} array
+	 */
+	public Array<PhysicsObject> query(PhysicsObject obj, Array<PhysicsObject> out) {
+		Rectangle r = obj.getBounds();
+		return collect(cellX(r.x), cellY(r.y), cellX(r.x + r.width), cellY(r.y + r.height), obj,
+				out);
+	}
+
+	/**
+	 * Find every object that shares a cell with the given area.
+	 *
+	 * @param area the area to search
+	 * @param out the array to add the results to, it is not cleared first
+	 * @return the {@code out} array
+	 */
+	public Array<PhysicsObject> query(Rectangle area, Array<PhysicsObject> out) {
+		return collect(cellX(area.x), cellY(area.y), cellX(area.x + area.width),
+				cellY(area.y + area.height), null, out);
+	}
+
+	/**
+	 * Add every object in the given cells, except {@code skip}. Nothing in the
+	 * grid is changed, so this is safe to run from several threads at once.
+	 */
+	private Array<PhysicsObject> collect(int minX, int minY, int maxX, int maxY,
+			PhysicsObject skip, Array<PhysicsObject> out) {
+		for (int y = minY; y <= maxY; y++) {
+			for (int x = minX; x <= maxX; x++) {
+				Array<Proxy> cell = cells[y * cols + x];
+				for (int i = 0; i < cell.size; i++) {
+					Proxy p = cell.get(i);
+					// an object in several of the cells is only added from the first
+					// one they share, rather than marking it as seen
+					if (x != Math.max(p.minX, minX) || y != Math.max(p.minY, minY)) continue;
+					if (p.obj != skip) out.add(p.obj);
+				}
+			}
+		}
+		return out;
+	}
+
+	/**
+	 * Cast a ray through the grid. Only the cells the ray crosses are visited, in
+	 * the order it crosses them, and hits are reported from closest to farthest.
+	 * The cast stops as soon as the callback asks it to.
+	 *
+	 * @param x1 the x position of the start of the ray
+	 * @param y1 the y position of the start of the ray
+	 * @param x2 the x position of the end of the ray
+	 * @param y2 the y position of the end of the ray
+	 * @param callback tests and receives each object the ray could hit
+	 * @return the number of hits reported
+	 */
+	public int raycast(float x1, float y1, float x2, float y2, RayCallback callback) {
+		return raycast(x1, y1, x2, y2, callback, this);
+	}
+
+	/**
+	 * Cast a ray through several grids at once, reporting hits from all of them
+	 * in order. The grids must cover the same area with the same cell size. The
+	 * first grid's buffers are used, so it must not be cast through again from
+	 * inside the callback.
+	 *
+	 * @param x1 the x position of the start of the ray
+	 * @param y1 the y position of the start of the ray
+	 * @param x2 the x position of the end of the ray
+	 * @param y2 the y position of the end of the ray
+	 * @param callback tests and receives each object the ray could hit
+	 * @param grids the grids to search
+	 * @return the number of hits reported
+	 * @see #raycast(float, float, float, float, RayCallback)
+	 */
+	public static int raycast(float x1, float y1, float x2, float y2, RayCallback callback,
+			SpatialGrid... grids) {
+		SpatialGrid g = grids[0];
+		for (SpatialGrid grid : grids) {
+			if (grid.cols != g.cols || grid.rows != g.rows || grid.cellSize != g.cellSize
+					|| grid.originX != g.originX || grid.originY != g.originY)
+				throw new IllegalArgumentException("Grids must have the same layout");
+			grid.queryMark++;
+		}
+
+		float dx = x2 - x1, dy = y2 - y1;
+		float cs = g.cellSize;
+
+		// only walk the part of the ray that is over the grid
+		float tStart = 0, tEnd = 1;
+		float minX = g.originX, maxX = g.originX + g.cols * cs;
+		float minY = g.originY, maxY = g.originY + g.rows * cs;
+		if (dx != 0) {
+			float ta = (minX - x1) / dx, tb = (maxX - x1) / dx;
+			tStart = Math.max(tStart, Math.min(ta, tb));
+			tEnd = Math.min(tEnd, Math.max(ta, tb));
+		} else if (x1 < minX || x1 > maxX) {
+			return 0;
+		}
+		if (dy != 0) {
+			float ta = (minY - y1) / dy, tb = (maxY - y1) / dy;
+			tStart = Math.max(tStart, Math.min(ta, tb));
+			tEnd = Math.min(tEnd, Math.max(ta, tb));
+		} else if (y1 < minY || y1 > maxY) {
+			return 0;
+		}
+		if (tStart > tEnd) return 0;
+
+		int cx = g.cellX(x1 + dx * tStart);
+		int cy = g.cellY(y1 + dy * tStart);
+		int stepX = dx > 0 ? 1 : -1;
+		int stepY = dy > 0 ? 1 : -1;
+		// the fraction of the ray it takes to cross a cell
+		float deltaX = dx != 0 ? Math.abs(cs / dx) : Float.POSITIVE_INFINITY;
+		float deltaY = dy != 0 ? Math.abs(cs / dy) : Float.POSITIVE_INFINITY;
+		// the fraction at which the ray leaves the current column and row
+		float nextX = dx != 0 ? (g.originX + (cx + (dx > 0 ? 1 : 0)) * cs - x1) / dx
+				: Float.POSITIVE_INFINITY;
+		float nextY = dy != 0 ? (g.originY + (cy + (dy > 0 ? 1 : 0)) * cs - y1) / dy
+				: Float.POSITIVE_INFINITY;
+
+		Array<PhysicsObject> hits = g.rayHits;
+		FloatArray fractions = g.rayFractions;
+		hits.clear();
+		fractions.clear();
+		int reported = 0;
+		int head = 0;
+
+		while (true) {
+			for (SpatialGrid grid : grids) {
+				Array<Proxy> cell = grid.cells[cy * grid.cols + cx];
+				for (int i = 0; i < cell.size; i++) {
+					Proxy p = cell.get(i);
+					if (p.mark == grid.queryMark) continue;
+					p.mark = grid.queryMark;
+					float t = callback.intersect(p.obj);
+					if (t >= 0) insertHit(hits, fractions, head, p.obj, t);
+				}
+			}
+
+			// anything entered before the ray leaves this cell must be in a cell
+			// that has already been visited, so it can't be beaten by a later hit
+			float cellExit = Math.min(Math.min(nextX, nextY), tEnd);
+			while (head < hits.size && fractions.get(head) <= cellExit) {
+				reported++;
+				if (!callback.hit(hits.get(head), fractions.get(head++))) {
+					hits.clear();
+					return reported;
+				}
+			}
+			if (cellExit >= tEnd) break;
+
+			if (nextX < nextY) {
+				cx += stepX;
+				nextX += deltaX;
+			} else {
+				cy += stepY;
+				nextY += deltaY;
+			}
+			if (cx < 0 || cx >= g.cols || cy < 0 || cy >= g.rows) break;
+		}
+
+		// objects clamped into the edge cells can be entered beyond the grid
+		while (head < hits.size) {
+			reported++;
+			if (!callback.hit(hits.get(head), fractions.get(head++))) break;
+		}
+		hits.clear();
+		return reported;
+	}
+
+	/** Insert a hit into the unreported part of the list, keeping it sorted */
+	private static void insertHit(Array<PhysicsObject> hits, FloatArray fractions, int head,
+			PhysicsObject obj, float t) {
+		int i = fractions.size;
+		hits.add(obj);
+		fractions.add(t);
+		while (i > head && fractions.get(i - 1) > t) {
+			hits.set(i, hits.get(i - 1));
+			fractions.set(i, fractions.get(i - 1));
+			i--;
+		}
+		hits.set(i, obj);
+		fractions.set(i, t);
+	}
+
+	private void removeFromCells(Proxy p) {
+		for (int y = p.minY; y <= p.maxY; y++) {
+			for (int x = p.minX; x <= p.maxX; x++) {
+				cells[y * cols + x].removeValue(p, true);
+			}
+		}
+		p.inserted = false;
+	}
+
+	/**
+	 * @param x a world x position
+	 * @return the column containing the position, clamped to the grid
+	 */
+	public int cellX(float x) {
+		return MathUtils.clamp((int) Math.floor((x - originX) / cellSize), 0, cols - 1);
+	}
+
+	/**
+	 * @param y a world y position
+	 * @return the row containing the position, clamped to the grid
+	 */
+	public int cellY(float y) {
+		return MathUtils.clamp((int) Math.floor((y - originY) / cellSize), 0, rows - 1);
+	}
+
+	/** @return the number of objects in the grid */
+	public int size() {
+		return members.size;
+	}
+
+	/**
+	 * @param obj the object to look for
+	 * @return {@code true} if the object is in the grid
+	 */
+	public boolean contains(PhysicsObject obj) {
+		return proxies.containsKey(obj);
+	}
+
+	/** @return the number of columns */
+	public int getColumns() {
+		return cols;
+	}
+
+	/** @return the number of rows */
+	public int getRows() {
+		return rows;
+	}
+
+	/** @return the width and height of each cell */
+	public float getCellSize() {
+		return cellSize;
+	}
+
+	/** The grid's record of an object and the cells it covers */
+	private static class Proxy {
+		final PhysicsObject obj;
+		int minX, minY, maxX, maxY;
+		boolean inserted = false;
+		/** Position in {@link SpatialGrid#members} */
+		int index;
+		int mark = 0;
+		int stamp = 0;
+
+		Proxy(PhysicsObject obj) {
+			this.obj = obj;
+		}
+	}
+
+}
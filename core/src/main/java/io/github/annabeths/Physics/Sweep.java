@@ -0,0 +1,104 @@
+package io.github.annabeths.Physics;
+
+import com.badlogic.gdx.math.Intersector;
+
+/**
+ * Continuous collision tests, used so that fast moving objects can't pass
+ * through other objects between frames.
+ *
+ * @since Assessment 2
+ */
+public final class Sweep {
+
+	private Sweep() {}
+
+	/**
+	 * Move a circle along a straight line and find when it first touches a convex
+	 * polygon. Does not allocate any memory.
+	 *
+	 * @param x the starting x position of the circle's center
+	 * @param y the starting y position of the circle's center
+	 * @param dx how far the circle moves along the x axis
+	 * @param dy how far the circle moves along the y axis
+	 * @param radius the radius of the circle
+	 * @param vertices the world space vertices of the polygon, as x, y pairs
+	 * @return the fraction of the movement, between 0 and 1, at which the circle
+	 *         first touches the polygon, or -1 if it never does. 0 if it is
+	 *         already touching at the start.
+	 */
+	public static float circleCast(float x, float y, float dx, float dy, float radius,
+			float[] vertices) {
+		int n = vertices.length;
+		if (n < 6) return -1;
+
+		if (Intersector.isPointInPolygon(vertices, 0, n, x, y)) return 0;
+
+		// the sign of the area tells us which way the polygon winds
+		float area = 0;
+		for (int i = 0; i < n; i += 2) {
+			int j = (i + 2) % n;
+			area += vertices[i] * vertices[j + 1] - vertices[j] * vertices[i + 1];
+		}
+		float winding = area >= 0 ? 1 : -1;
+
+		float r2 = radius * radius;
+		float len2 = dx * dx + dy * dy;
+		float earliest = Float.POSITIVE_INFINITY;
+
+		for (int i = 0; i < n; i += 2) {
+			int j = (i + 2) % n;
+			float ax = vertices[i], ay = vertices[i + 1];
+			float bx = vertices[j], by = vertices[j + 1];
+
+			if (Intersector.distanceSegmentPoint(ax, ay, bx, by, x, y) <= radius) return 0;
+
+			// the flat side of the edge, pushed out by the radius
+			float ex = bx - ax, ey = by - ay;
+			float edgeLen = (float) Math.sqrt(ex * ex + ey * ey);
+			if (edgeLen > 0) {
+				float nx = winding * ey / edgeLen, ny = -winding * ex / edgeLen;
+				float startDist = (x - ax) * nx + (y - ay) * ny - radius;
+				float approach = dx * nx + dy * ny;
+				if (startDist >= 0 && approach < 0) {
+					float t = -startDist / approach;
+					if (t <= 1 && t < earliest) {
+						// make sure the contact is within the length of the edge
+						float u = ((x + dx * t - ax) * ex + (y + dy * t - ay) * ey) / edgeLen;
+						if (u >= 0 && u <= edgeLen) earliest = t;
+					}
+				}
+			}
+
+			// the rounded corner at the vertex
+			if (len2 > 0) {
+				float fx = x - ax, fy = y - ay;
+				float b = fx * dx + fy * dy;
+				float c = fx * fx + fy * fy - r2;
+				float disc = b * b - len2 * c;
+				if (b < 0 && disc >= 0) {
+					float t = (-b - (float) Math.sqrt(disc)) / len2;
+					if (t >= 0 && t <= 1 && t < earliest) earliest = t;
+				}
+			}
+		}
+
+		return earliest == Float.POSITIVE_INFINITY ? -1 : earliest;
+	}
+
+	/**
+	 * Find where a line segment first enters a convex polygon. Does not allocate
+	 * any memory.
+	 *
+	 * @param x the x position of the start of the segment
+	 * @param y the y position of the start of the segment
+	 * @param dx the length of the segment along the x axis
+	 * @param dy the length of the segment along the y axis
+	 * @param vertices the world space vertices of the polygon, as x, y pairs
+	 * @return the fraction along the segment, between 0 and 1, at which it enters
+	 *         the polygon, or -1 if it never does. 0 if it starts inside.
+	 */
+	public static float rayCast(float x, float y, float dx, float dy, float[] vertices) {
+		return circleCast(x, y, dx, dy, 0, vertices);
+	}
+
+}
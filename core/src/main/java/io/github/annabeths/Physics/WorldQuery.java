@@ -0,0 +1,237 @@
+package io.github.annabeths.Physics;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameGenerics.PhysicsObjectList;
+import io.github.annabeths.Projectiles.Projectile;
+import io.github.annabeths.Projectiles.ProjectileSystem;
+
+/**
+ * Finds objects near a point, using the broadphase grids so that only the cells
+ * around the point are searched. Used by the AI to pick targets and by the game
+ * to check what is near the player.
+ * <p>
+ * Distances are measured between the centers of objects. Objects about to be
+ * removed are never returned. Projectiles moved by a {@link ProjectileSystem}
+ * are not in the grids, so they are never returned either.
+ * <p>
+ * Queries can be made from several threads at once, as long as the world is
+ * not changing and {@link #prepare()} has been called since it last changed.
+ *
+ * @since Assessment 2
+ */
+public class WorldQuery {
+
+	private final PhysicsObjectList objects;
+	private final SpatialGrid dynamicGrid;
+	private final SpatialGrid staticGrid;
+
+	/**
+	 * Reused to hold the objects in the cells being searched. Each thread has its
+	 * own, so queries can run at the same time.
+	 */
+	private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+	/** Reused to hold objects while the grids are being rebuilt */
+	private final Array<PhysicsObject> syncBuffer = new Array<>(false, 64);
+
+	/**
+	 * @param objects every object in the world
+	 * @param dynamicGrid the grid holding the objects that move
+	 * @param staticGrid the grid holding the objects that never move
+	 */
+	public WorldQuery(PhysicsObjectList objects, SpatialGrid dynamicGrid,
+			SpatialGrid staticGrid) {
+		this.objects = objects;
+		this.dynamicGrid = dynamicGrid;
+		this.staticGrid = staticGrid;
+	}
+
+	/**
+	 * Find every object of a type within a distance of a point
+	 *
+	 * @param <T> the type of object
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @param radius the max distance from the point
+	 * @param type the type of object to look for, subclasses are included
+	 * @param out the array to add the results to, it is not cleared first
+	 * @return the {@code out} array
+	 */
+	public <T extends PhysicsObject> Array<? super T> within(float x, float y, float radius,
+			Class<T> type, Array<? super T> out) {
+		Array<PhysicsObject> candidates = gather(x, y, radius);
+		float r2 = radius * radius;
+		for (int i = 0; i < candidates.size; i++) {
+			PhysicsObject obj = candidates.get(i);
+			if (matches(obj, type) && dst2(obj, x, y) <= r2) out.add(type.cast(obj));
+		}
+		return out;
+	}
+
+	/**
+	 * Test if there is an object of a type within a distance of a point
+	 *
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @param radius the max distance from the point
+	 * @param type the type of object to look for, subclasses are included
+	 * @return {@code true} if there is at least one
+	 */
+	public boolean any(float x, float y, float radius, Class<? extends PhysicsObject> type) {
+		Array<PhysicsObject> candidates = gather(x, y, radius);
+		float r2 = radius * radius;
+		for (int i = 0; i < candidates.size; i++) {
+			PhysicsObject obj = candidates.get(i);
+			if (matches(obj, type) && dst2(obj, x, y) <= r2) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Find the closest object of a type to a point
+	 *
+	 * @param <T> the type of object
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @param maxDistance the max distance from the point
+	 * @param type the type of object to look for, subclasses are included
+	 * @return the closest object, or {@code null} if there are none within
+	 *         {@code maxDistance}
+	 */
+	public <T extends PhysicsObject> T nearest(float x, float y, float maxDistance,
+			Class<T> type) {
+		// search outwards, so that close objects are found without searching the
+		// whole area
+		float radius = Math.min(dynamicGrid.getCellSize(), maxDistance);
+		while (true) {
+			Array<PhysicsObject> candidates = gather(x, y, radius);
+			float best = radius * radius;
+			PhysicsObject nearest = null;
+			for (int i = 0; i < candidates.size; i++) {
+				PhysicsObject obj = candidates.get(i);
+				if (!matches(obj, type)) continue;
+				float d = dst2(obj, x, y);
+				if (d <= best) {
+					best = d;
+					nearest = obj;
+				}
+			}
+			// anything closer would have been inside the searched radius
+			if (nearest != null) return type.cast(nearest);
+			if (radius >= maxDistance) return null;
+			radius = Math.min(radius * 2, maxDistance);
+		}
+	}
+
+	/**
+	 * Find the {@code k} closest objects of a type to a point
+	 *
+	 * @param <T> the type of object
+	 * @param x the x position of the point
+	 * @param y the y position of the point
+	 * @param k the max number of objects to find
+	 * @param maxDistance the max distance from the point
+	 * @param type the type of object to look for, subclasses are included
+	 * @param out the array to add the results to, from closest to farthest. It is
+	 *        not cleared first.
+	 * @return the {@code out} array
+	 */
+	public <T extends PhysicsObject> Array<? super T> nearest(float x, float y, int k,
+			float maxDistance, Class<T> type, Array<? super T> out) {
+		if (k <= 0) return out;
+		float radius = Math.min(dynamicGrid.getCellSize(), maxDistance);
+		Array<PhysicsObject> candidates;
+		int found;
+		while (true) {
+			candidates = gather(x, y, radius);
+			float r2 = radius * radius;
+			// keep only the matches, so they can be sorted in place
+			found = 0;
+			for (int i = 0; i < candidates.size; i++) {
+				PhysicsObject obj = candidates.get(i);
+				if (matches(obj, type) && dst2(obj, x, y) <= r2) candidates.set(found++, obj);
+			}
+			candidates.truncate(found);
+			if (found >= k || radius >= maxDistance) break;
+			radius = Math.min(radius * 2, maxDistance);
+		}
+
+		// insertion sort, there are only ever a few matches
+		for (int i = 1; i < found; i++) {
+			PhysicsObject obj = candidates.get(i);
+			float d = dst2(obj, x, y);
+			int j = i;
+			while (j > 0 && dst2(candidates.get(j - 1), x, y) > d) {
+				candidates.set(j, candidates.get(j - 1));
+				j--;
+			}
+			candidates.set(j, obj);
+		}
+		for (int i = 0; i < Math.min(k, found); i++) {
+			out.add(type.cast(candidates.get(i)));
+		}
+		return out;
+	}
+
+	/**
+	 * Find every object in the cells within {@code radius} of the point
+	 *
+	 * @return this thread's reused candidates array
+	 */
+	private Array<PhysicsObject> gather(float x, float y, float radius) {
+		prepare();
+		Scratch s = scratch.get();
+		s.area.set(x - radius, y - radius, radius * 2, radius * 2);
+		s.candidates.clear();
+		dynamicGrid.query(s.area, s.candidates);
+		staticGrid.query(s.area, s.candidates);
+		return s.candidates;
+	}
+
+	/**
+	 * Rebuild the grids if they no longer hold the same number of objects as the
+	 * world, which happens if objects were added or removed without going
+	 * through the game controller. This is done by every query, but must be
+	 * called from one thread before queries are made from several.
+	 */
+	public void prepare() {
+		int indexed = objects.size() - objects.getGroup(Projectile.class).size;
+		if (dynamicGrid.size() + staticGrid.size() == indexed) return;
+
+		syncBuffer.clear();
+		for (int i = 0; i < objects.size(); i++) {
+			PhysicsObject obj = objects.get(i);
+			if (!obj.getCollisionLayer().isStatic && !ProjectileSystem.isSimulated(obj)) {
+				syncBuffer.add(obj);
+			}
+		}
+		dynamicGrid.sync(syncBuffer);
+
+		syncBuffer.clear();
+		for (int i = 0; i < objects.size(); i++) {
+			PhysicsObject obj = objects.get(i);
+			if (obj.getCollisionLayer().isStatic) syncBuffer.add(obj);
+		}
+		staticGrid.sync(syncBuffer);
+		syncBuffer.clear();
+	}
+
+	private static boolean matches(PhysicsObject obj, Class<? extends PhysicsObject> type) {
+		return type.isInstance(obj) && !obj.removeOnNextTick();
+	}
+
+	private static float dst2(PhysicsObject obj, float x, float y) {
+		float dx = obj.getCenterX() - x;
+		float dy = obj.getCenterY() - y;
+		return dx * dx + dy * dy;
+	}
+
+	/** The buffers used by a single thread's queries */
+	private static class Scratch {
+		final Array<PhysicsObject> candidates = new Array<>(false, 32);
+		final Rectangle area = new Rectangle();
+	}
+
+}
@@ -1,27 +1,40 @@
 package io.github.annabeths.Projectiles;
 
+import java.io.IOException;
+
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.Pool.Poolable;
 
 import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
+import io.github.annabeths.Physics.Sweep;
 
 /**
  * Projectiles are fired from other game objects. For example, cannonballs from
  * ships or colleges.
+ * <p>
+ * Projectiles fired during the game come from a {@link ProjectilePool}, and are
+ * returned to it when they are removed from the world.
  * 
  * @author Leif Kemp
  * @author Annabeth Singleton
  * @author James Burnell
  * @tt.updated Assessment 2
  */
-public class Projectile extends PhysicsObject {
+public class Projectile extends PhysicsObject implements Poolable {
 
-	private final Vector2 velocity;
-	private final boolean isPlayerProjectile;
+	private final ProjectileData data;
+	private final Vector2 velocity = new Vector2();
+	private boolean isPlayerProjectile;
 	private boolean isFriendlyProjectile;
-	private final float damage;
+	private float damage;
 
 	/** How far the projectile can travel before dying */
 	public float lifeDist;
@@ -30,8 +43,20 @@ public class Projectile extends PhysicsObject {
 	 * 
 	 * @see #lifeDist
 	 */
-	private final float lifeDist2;
-	private final Vector2 startingPos;
+	private float lifeDist2;
+	private final Vector2 startingPos = new Vector2();
+
+	/** Where the projectile was at the start of the last update */
+	private final Vector2 previousPos = new Vector2();
+	/** The radius of the largest circle that fits in the collision polygon */
+	private final float sweepRadius;
+	/** The bounding box of the whole path moved in the last update */
+	private final Rectangle sweptBounds = new Rectangle();
+
+	/** If the projectile belongs to a {@link ProjectilePool} */
+	boolean pooled = false;
+	/** If the projectile is waiting in its pool to be reused */
+	boolean free = false;
 
 	/**
 	 * @param origin where it should start
@@ -47,15 +72,26 @@ public class Projectile extends PhysicsObject {
 
 	public Projectile(Vector2 origin, float originRot, ProjectileData data, boolean isPlayerProjectile, boolean
 			isFriendlyProjectile){
-		this(origin, originRot, data, isPlayerProjectile, 1, 1);
-		this.isFriendlyProjectile = isFriendlyProjectile;
+		this(origin, originRot, data, isPlayerProjectile, isFriendlyProjectile, 1, 1);
 	}
 
 	public Projectile(Vector2 origin, float originRot, ProjectileData data, boolean isPlayerProjectile,
 					  boolean isFriendlyProjectile, float damageMultiplier, float speedMultiplier){
-		this(origin,originRot,data,isPlayerProjectile,damageMultiplier,speedMultiplier);
-		this.isFriendlyProjectile = isFriendlyProjectile;
+		this.data = data;
+		position = origin;
+
+		setSprite(data.texture, position, data.size);
 
+		collisionPolygon = new Polygon(
+				new float[] { data.getWidth() / 2, 0, data.getWidth(), data.getHeight() / 2,
+						data.getWidth() / 2, data.getHeight(), 0, data.getHeight() / 2 });
+		collisionPolygon.setOrigin(data.getWidth() / 2, data.getHeight() / 2);
+		// distance from the center of the diamond to its edges
+		float halfW = data.getWidth() / 2, halfH = data.getHeight() / 2;
+		sweepRadius = halfW * halfH / (float) Math.sqrt(halfW * halfW + halfH * halfH);
+
+		init(origin.x, origin.y, originRot, isPlayerProjectile, isFriendlyProjectile,
+				damageMultiplier, speedMultiplier, RandomSource.of(null, Stream.PROJECTILES));
 	}
 
 	/**
@@ -68,36 +104,79 @@ public class Projectile extends PhysicsObject {
 	 */
 	public Projectile(Vector2 origin, float originRot, ProjectileData data,
 			boolean isPlayerProjectile, float damageMultiplier, float speedMultiplier) {
-		this.startingPos = origin.cpy();
-		position = origin;
+		this(origin, originRot, data, isPlayerProjectile, false, damageMultiplier,
+				speedMultiplier);
+	}
+
+	/**
+	 * Set up the projectile to be fired. Every piece of state that changes while
+	 * the projectile is in the world is set here, so a reused projectile behaves
+	 * the same as a new one.
+	 * @param x where it should start on the x axis
+	 * @param y where it should start on the y axis
+	 * @param originRot the angle the projectile is facing
+	 * @param isPlayerProjectile true if the projectile is shot by the player
+	 * @param isFriendlyProjectile true if the projectile is shot by the player or
+	 *        a friendly boat or college
+	 * @param damageMultiplier how much to multiply the damage by
+	 * @param speedMultiplier how much to multiply the speed by
+	 * @param random the stream used to pick how far it goes
+	 * @since Assessment 2
+	 */
+	void init(float x, float y, float originRot, boolean isPlayerProjectile,
+			boolean isFriendlyProjectile, float damageMultiplier, float speedMultiplier,
+			RandomStream random) {
+		position.set(x, y);
+		startingPos.set(x, y);
+		previousPos.set(x, y);
 		damage = data.getDamage() * damageMultiplier;
 		this.isPlayerProjectile = isPlayerProjectile;
+		this.isFriendlyProjectile = isFriendlyProjectile;
+		killOnNextTick = false;
+		free = false;
 
 		// speed is only needed to initialize the velocity
 		float speed = data.getSpeed() * speedMultiplier;
 
 		// Calculate the projectile's velocity in the game space
-		velocity = new Vector2(speed, 0).setAngleDeg(originRot);
+		velocity.set(speed, 0).setAngleDeg(originRot);
 		this.rotation = originRot;
 
-		setSprite(data.texture, position, data.size);
+		sprite.setPosition(x, y);
 		sprite.setRotation(originRot);
+		// the polygon is placed on the first update
+		collisionPolygon.setPosition(0, 0);
 
-		collisionPolygon = new Polygon(
-				new float[] { data.getWidth() / 2, 0, data.getWidth(), data.getHeight() / 2,
-						data.getWidth() / 2, data.getHeight(), 0, data.getHeight() / 2 });
-		collisionPolygon.setOrigin(data.getWidth() / 2, data.getHeight() / 2);
-
-		lifeDist = MathUtils.random(500 - 50, 500 + 50);
+		lifeDist = random.random(500 - 50, 500 + 50);
 		lifeDist2 = lifeDist * lifeDist;
 	}
 
+	/**
+	 * Called when the projectile is returned to its pool. It is given a new id, so
+	 * the contacts of its last life are not mistaken for its next one.
+	 * @since Assessment 2
+	 */
+	@Override
+	public void reset() {
+		killOnNextTick = true;
+		renewPhysicsId();
+	}
+
+	/**
+	 * Get the type of the projectile
+	 * @return the projectile data
+	 */
+	public ProjectileData getData() {
+		return data;
+	}
+
 	/**
 	 * Update the state of the projectile.
 	 * @param delta time since last frame
 	 */
 	@Override
 	public void Update(float delta) {
+		previousPos.set(position);
 		position.mulAdd(velocity, delta);
 		collisionPolygon.setPosition(position.x - getLocalCenterY(),
 				position.y - getLocalCenterX());
@@ -113,6 +192,21 @@ public class Projectile extends PhysicsObject {
 		killOnNextTick = true;
 	}
 
+	/**
+	 * Place the projectile after it has been moved by a {@link ProjectileSystem}
+	 * @param fromX where it was at the start of the update on the x axis
+	 * @param fromY where it was at the start of the update on the y axis
+	 * @param toX where it is now on the x axis
+	 * @param toY where it is now on the y axis
+	 * @since Assessment 2
+	 */
+	void moveTo(float fromX, float fromY, float toX, float toY) {
+		previousPos.set(fromX, fromY);
+		position.set(toX, toY);
+		collisionPolygon.setPosition(position.x - getLocalCenterY(),
+				position.y - getLocalCenterX());
+	}
+
 	/**
 	 * Draw the projectile's sprite.
 	 * @param batch Spritebatch to draw the GameObject
@@ -124,17 +218,89 @@ public class Projectile extends PhysicsObject {
 	}
 
 	/**
-	 * called when the Projectile collides with another object
-	 * @param other the object collided with
+	 * Get the bounding box of the whole path moved in the last update, so the
+	 * broadphase finds everything the projectile could have passed through.
+	 * @return the bounding box, this should not be modified
+	 */
+	@Override
+	public Rectangle getBounds() {
+		Rectangle end = super.getBounds();
+		float dx = position.x - previousPos.x;
+		float dy = position.y - previousPos.y;
+		return sweptBounds.set(end.x - Math.max(dx, 0), end.y - Math.max(dy, 0),
+				end.width + Math.abs(dx), end.height + Math.abs(dy));
+	}
+
+	/**
+	 * Test for collision along the whole path moved in the last update, so fast
+	 * projectiles can't pass through objects between frames. Other projectiles
+	 * are only tested where they ended up.
+	 * @param other the physics object to check collision with
+	 * @return {@code true} if the projectile hit the object
+	 * @see #getTimeOfImpact(PhysicsObject)
 	 */
 	@Override
-	public void OnCollision(PhysicsObject other) {
-		if (other instanceof Projectile) {
-			Projectile p = (Projectile) other;
-			if (p.isPlayerProjectile != isPlayerProjectile) {
-				p.kill();
-				this.kill();
-			}
+	public boolean CheckCollisionWith(PhysicsObject other) {
+		if (!getBounds().overlaps(other.getBounds())) return false;
+		if (other.getCollisionLayer().isSwept) return overlapsPolygon(other);
+		return getTimeOfImpact(other) >= 0;
+	}
+
+	/**
+	 * Find when during the last update the projectile first hit an object.
+	 * @param other the object to test
+	 * @return the fraction of the last update's movement, between 0 and 1, at
+	 *         which the projectile first touched the object, or -1 if it did not
+	 */
+	public float getTimeOfImpact(PhysicsObject other) {
+		Rectangle end = super.getBounds();
+		float dx = position.x - previousPos.x;
+		float dy = position.y - previousPos.y;
+		float startX = end.x + end.width / 2 - dx;
+		float startY = end.y + end.height / 2 - dy;
+
+		float t = Sweep.circleCast(startX, startY, dx, dy, sweepRadius,
+				other.collisionPolygon.getTransformedVertices());
+		if (t >= 0) return t;
+		// the corners of the projectile may still be touching at the end
+		return overlapsPolygon(other) ? 1 : -1;
+	}
+
+	/**
+	 * Get where the projectile was at the start of the last update
+	 * @return the previous position
+	 */
+	public Vector2 getPreviousPosition() {
+		return previousPos;
+	}
+
+	/**
+	 * Get where the projectile was fired from
+	 * @return the starting position, this should not be modified
+	 * @since Assessment 2
+	 */
+	public Vector2 getStartingPosition() {
+		return startingPos;
+	}
+
+	/**
+	 * Get the velocity of the projectile
+	 * @return the velocity, this should not be modified
+	 * @since Assessment 2
+	 */
+	public Vector2 getVelocity() {
+		return velocity;
+	}
+
+	/**
+	 * called when the Projectile collides with another projectile. Projectiles
+	 * from opposing sides destroy each other.
+	 * @param p the projectile collided with
+	 */
+	public void onProjectileHit(Projectile p) {
+		if (p.isPlayerProjectile != isPlayerProjectile) {
+			p.kill();
+			this.kill();
 		}
 	}
 
@@ -166,4 +332,38 @@ public class Projectile extends PhysicsObject {
 	public float getDamage() {
 		return damage;
 	}
+
+	/**
+	 * The type of projectile is not written, as it is needed to create the
+	 * projectile in the first place.
+	 * @since Assessment 2
+	 */
+	@Override
+	public void writeState(DataOutput out) throws IOException {
+		super.writeState(out);
+		out.writeFloat(velocity.x);
+		out.writeFloat(velocity.y);
+		out.writeBoolean(isPlayerProjectile);
+		out.writeBoolean(isFriendlyProjectile);
+		out.writeFloat(damage);
+		out.writeFloat(lifeDist);
+		out.writeFloat(startingPos.x);
+		out.writeFloat(startingPos.y);
+		out.writeFloat(previousPos.x);
+		out.writeFloat(previousPos.y);
+	}
+
+	/** @since Assessment 2 */
+	@Override
+	public void readState(DataInput in) throws IOException {
+		super.readState(in);
+		velocity.set(in.readFloat(), in.readFloat());
+		isPlayerProjectile = in.readBoolean();
+		isFriendlyProjectile = in.readBoolean();
+		damage = in.readFloat();
+		lifeDist = in.readFloat();
+		lifeDist2 = lifeDist * lifeDist;
+		startingPos.set(in.readFloat(), in.readFloat());
+		previousPos.set(in.readFloat(), in.readFloat());
+	}
 }
@@ -0,0 +1,111 @@
+package io.github.annabeths.Projectiles;
+
+import java.util.EnumMap;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+import io.github.annabeths.GeneralControl.RandomSource;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+import io.github.annabeths.GeneralControl.RandomStream;
+
+/**
+ * Reuses {@link Projectile}s, so that firing does not create new sprites,
+ * polygons and vectors for every shot. There is a separate pool for each
+ * {@link ProjectileData}, as the sprite and polygon depend on the type.
+ * <p>
+ * Projectiles are taken from the pool with {@link #obtain}, and given back with
+ * {@link #free(Projectile)} once they have been removed from the world.
+ *
+ * @since Assessment 2
+ */
+public final class ProjectilePool {
+
+	private static final EnumMap<ProjectileData, Pool<Projectile>> pools = new EnumMap<>(
+			ProjectileData.class);
+
+	private ProjectilePool() {}
+
+	/**
+	 * Get a projectile ready to be fired, reusing a freed one if there is one
+	 *
+	 * @param x where it should start on the x axis
+	 * @param y where it should start on the y axis
+	 * @param rotation the angle the projectile is facing
+	 * @param data the projectile data type to use
+	 * @param isPlayerProjectile true if the projectile is shot by the player
+	 * @param isFriendlyProjectile true if the projectile is shot by the player or a
+	 *        friendly boat or college
+	 * @param damageMultiplier how much to multiply the damage by
+	 * @param speedMultiplier how much to multiply the speed by
+	 * @param random the stream used to pick how far it goes
+	 * @return the projectile
+	 */
+	public static Projectile obtain(float x, float y, float rotation, ProjectileData data,
+			boolean isPlayerProjectile, boolean isFriendlyProjectile, float damageMultiplier,
+			float speedMultiplier, RandomStream random) {
+		Projectile p = poolOf(data).obtain();
+		p.init(x, y, rotation, isPlayerProjectile, isFriendlyProjectile, damageMultiplier,
+				speedMultiplier, random);
+		return p;
+	}
+
+	/**
+	 * Get a projectile ready to be fired, using a stream that is not part of any
+	 * game to pick how far it goes
+	 *
+	 * @see #obtain(float, float, float, ProjectileData, boolean, boolean, float,
+	 *      float, RandomStream)
+	 */
+	public static Projectile obtain(float x, float y, float rotation, ProjectileData data,
+			boolean isPlayerProjectile, boolean isFriendlyProjectile, float damageMultiplier,
+			float speedMultiplier) {
+		return obtain(x, y, rotation, data, isPlayerProjectile, isFriendlyProjectile,
+				damageMultiplier, speedMultiplier, RandomSource.of(null, Stream.PROJECTILES));
+	}
+
+	/**
+	 * Give a projectile back to its pool so it can be reused. It must no longer be
+	 * in the world. Projectiles that did not come from a pool, or that have
+	 * already been freed, are ignored.
+	 *
+	 * @param p the projectile
+	 */
+	public static void free(Projectile p) {
+		if (!p.pooled || p.free) return;
+		p.free = true;
+		poolOf(p.getData()).free(p);
+	}
+
+	/**
+	 * @param data the type of projectile
+	 * @return the number of projectiles of the type waiting to be reused
+	 */
+	public static int getFree(ProjectileData data) {
+		return poolOf(data).getFree();
+	}
+
+	/** Forget every projectile waiting to be reused */
+	public static void clear() {
+		// Pool.clear() only empties half of a pool in this version of libGDX, so
+		// the pools are replaced instead
+		pools.clear();
+	}
+
+	private static Pool<Projectile> poolOf(ProjectileData data) {
+		Pool<Projectile> pool = pools.get(data);
+		if (pool == null) {
+			pool = new Pool<Projectile>() {
+				@Override
+				protected Projectile newObject() {
+					Projectile p = new Projectile(new Vector2(), 0, data, false, false, 1, 1);
+					p.pooled = true;
+					return p;
+				}
+			};
+			pools.put(data, pool);
+		}
+		return pool;
+	}
+
+}
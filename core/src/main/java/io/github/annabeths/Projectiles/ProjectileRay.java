@@ -1,15 +1,17 @@
 package io.github.annabeths.Projectiles;
 
-import java.util.Comparator;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.FloatArray;
 
 import io.github.annabeths.Boats.PlayerBoat;
 import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.Physics.RayCallback;
+import io.github.annabeths.Physics.SpatialGrid;
+import io.github.annabeths.Physics.Sweep;
 
 /**
  * A type of projectile that travels instantly and inflicts damage on objects in
@@ -17,6 +19,7 @@ import io.github.annabeths.GameGenerics.PhysicsObject;
  * 
  * @since Assessment 2
  * @author James Burnell
+ * @tt.updated Assessment 2
  */
 public class ProjectileRay extends Projectile {
 
@@ -66,6 +69,21 @@ public class ProjectileRay extends Projectile {
 		this.farthestHitPoint = endPoint.cpy();
 	}
 
+	/**
+	 * Find how far along the ray it first enters an object
+	 * 
+	 * @param obj the object to test
+	 * @return the fraction along the ray, between 0 and 1, at which it enters the
+	 *         object, or -1 if it misses or the object can't be hit by this ray
+	 */
+	public float getEntryFraction(PhysicsObject obj) {
+		// skip if belongs to player
+		if (isPlayerProjectile() && obj instanceof PlayerBoat) return -1;
+		if (obj == this || obj.collisionPolygon == null) return -1;
+		return Sweep.rayCast(position.x, position.y, endPoint.x - position.x,
+				endPoint.y - position.y, obj.collisionPolygon.getTransformedVertices());
+	}
+
 	/**
 	 * Returns a list of {@link PhysicsObject}s that intersect with the ray
 	 * 
@@ -73,32 +91,35 @@ public class ProjectileRay extends Projectile {
 	 * @return A list of intersecting objects
 	 */
 	public List<PhysicsObject> getIntersectingObjects(List<PhysicsObject> physObjs) {
-		List<PhysicsObject> result = new LinkedList<>();
-
-		// Add all intersecting objects to result list
-		physObjs.forEach(p -> {
-			// skip if belongs to player
-			if (isPlayerProjectile() && p instanceof PlayerBoat) return;
-			if (Intersector.intersectSegmentPolygon(position, endPoint, p.collisionPolygon)) {
-				result.add(p);
-			}
-		});
-
+		List<PhysicsObject> result = new ArrayList<>();
+		for (int i = 0; i < physObjs.size(); i++) {
+			PhysicsObject p = physObjs.get(i);
+			if (getEntryFraction(p) >= 0) result.add(p);
+		}
 		return result;
 	}
 
 	/**
 	 * Returns a list of {@link PhysicsObject}s that intersect with the ray sorted
-	 * from closest to farthest.
+	 * from closest to farthest, by where the ray enters them.
 	 * 
 	 * @param physObjs the list of objects in the world
 	 * @return A sorted list of intersecting objects
 	 */
 	public List<PhysicsObject> getSortedIntersectingObjects(List<PhysicsObject> physObjs) {
-		List<PhysicsObject> result = getIntersectingObjects(physObjs);
-
-		result.sort(Comparator.comparingDouble(e -> position.dst2(e.getCenter())));
-
+		List<PhysicsObject> result = new ArrayList<>();
+		FloatArray fractions = new FloatArray();
+		for (int i = 0; i < physObjs.size(); i++) {
+			PhysicsObject p = physObjs.get(i);
+			float t = getEntryFraction(p);
+			if (t < 0) continue;
+
+			// insertion sort, there are only ever a few hits
+			int j = result.size();
+			while (j > 0 && fractions.get(j - 1) > t) j--;
+			result.add(j, p);
+			fractions.insert(j, t);
+		}
 		return result;
 	}
 
@@ -112,21 +133,66 @@ public class ProjectileRay extends Projectile {
 	 */
 	public List<PhysicsObject> getNClosestIntersectingObjects(List<PhysicsObject> physObjs,
 			int count) {
-		return getSortedIntersectingObjects(physObjs).stream().limit(count)
-				.collect(Collectors.toList());
+		List<PhysicsObject> result = getSortedIntersectingObjects(physObjs);
+		if (result.size() > count) result.subList(count, result.size()).clear();
+		return result;
 	}
 
+	/**
+	 * Fire the ray at a list of objects, hitting the closest ones
+	 * 
+	 * @param physObjs the list of objects in the world
+	 * @param passThroughLimit the max number of objects the ray can hit
+	 */
 	public void fireRay(List<PhysicsObject> physObjs, int passThroughLimit) {
 		List<PhysicsObject> intersection = getNClosestIntersectingObjects(physObjs,
 				passThroughLimit);
-		intersection.forEach(this::OnCollision);
-
-		// set the point of the ray that is closest to the farthest hit object
-		if (!intersection.isEmpty()) {
-			PhysicsObject p = intersection.get(intersection.size() - 1);
-			Intersector.nearestSegmentPoint(getOrigin(), getEndPoint(), p.getCenter(),
-					farthestHitPoint);
+		for (int i = 0; i < intersection.size(); i++) {
+			OnCollision(intersection.get(i));
 		}
+
+		if (!intersection.isEmpty()) setFarthestHit(intersection.get(intersection.size() - 1));
+	}
+
+	/**
+	 * Fire the ray through the broadphase grids. Only the cells the ray crosses are
+	 * searched, and it stops as soon as it has hit {@code passThroughLimit}
+	 * objects.
+	 * 
+	 * @param passThroughLimit the max number of objects the ray can hit
+	 * @param grids the grids holding the objects in the world, which must all
+	 *        have the same layout
+	 * @see SpatialGrid#raycast(float, float, float, float, RayCallback,
+	 *      SpatialGrid...)
+	 */
+	public void fireRay(int passThroughLimit, SpatialGrid... grids) {
+		if (passThroughLimit <= 0) return;
+		SpatialGrid.raycast(position.x, position.y, endPoint.x, endPoint.y, new RayCallback() {
+			int hits = 0;
+
+			@Override
+			public float intersect(PhysicsObject obj) {
+				if (obj.removeOnNextTick()) return -1;
+				return getEntryFraction(obj);
+			}
+
+			@Override
+			public boolean hit(PhysicsObject obj, float fraction) {
+				OnCollision(obj);
+				setFarthestHit(obj);
+				return ++hits < passThroughLimit;
+			}
+		}, grids);
+	}
+
+	/**
+	 * Set the point of the ray that is closest to the farthest hit object
+	 * 
+	 * @param p the farthest object hit
+	 */
+	private void setFarthestHit(PhysicsObject p) {
+		Intersector.nearestSegmentPoint(position.x, position.y, endPoint.x, endPoint.y,
+				p.getCenterX(), p.getCenterY(), farthestHitPoint);
 	}
 
 	public void OnCollision(PhysicsObject obj) {
@@ -173,19 +239,16 @@ public class ProjectileRay extends Projectile {
 		return remainShowTime;
 	}
 
-	@Override
-	public Vector2 getCenter() {
-		return getOrigin().cpy().lerp(endPoint, 0.5f);
-	}
-
+	/** @return the x position halfway along the ray */
 	@Override
 	public float getCenterX() {
-		return getCenter().x;
+		return position.x + (endPoint.x - position.x) * 0.5f;
 	}
 
+	/** @return the y position halfway along the ray */
 	@Override
 	public float getCenterY() {
-		return getCenter().y;
+		return position.y + (endPoint.y - position.y) * 0.5f;
 	}
 
 	/**
@@ -0,0 +1,356 @@
+package io.github.annabeths.Projectiles;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GeneralControl.ResourceManager;
+import io.github.annabeths.Physics.ContactCache;
+import io.github.annabeths.Physics.SpatialGrid;
+
+/**
+ * Moves, collides and draws every cannonball in the world at once. The state
+ * that changes each frame is kept in flat arrays, one slot per projectile, so
+ * the whole set can be stepped in a single loop instead of going through each
+ * {@link Projectile} in turn.
+ * <p>
+ * The {@link Projectile} objects are still what is added to the world and what
+ * collision handlers are given. Only projectiles whose class is exactly
+ * {@link Projectile} are simulated here, see {@link #isSimulated(PhysicsObject)}.
+ * After each step their position is copied back to them, so they can be used
+ * as normal by the rest of the game.
+ * <p>
+ * The slots follow the order of the projectiles in the world, and are brought
+ * in line with it at the start of each step, so projectiles can be added and
+ * removed from the world without telling the system.
+ *
+ * @since Assessment 2
+ */
+public class ProjectileSystem {
+
+	/** Flag set in {@link #flags} for projectiles shot by the player */
+	private static final int PLAYER = 1;
+	/** Flag set in {@link #flags} for projectiles that have travelled too far */
+	private static final int DEAD = 2;
+
+	private static final ProjectileData[] TYPES = ProjectileData.values();
+
+	private int count = 0;
+	private Projectile[] handles = new Projectile[0];
+	/** The physics id of each slot's projectile, which changes when it is reused */
+	private int[] ids = new int[0];
+	private float[] x = new float[0];
+	private float[] y = new float[0];
+	private float[] prevX = new float[0];
+	private float[] prevY = new float[0];
+	private float[] velX = new float[0];
+	private float[] velY = new float[0];
+	private float[] startX = new float[0];
+	private float[] startY = new float[0];
+	private float[] lifeDist2 = new float[0];
+	private float[] damage = new float[0];
+	private float[] rotation = new float[0];
+	private int[] flags = new int[0];
+	/** The {@link ProjectileData} ordinal of each slot */
+	private int[] type = new int[0];
+
+	/*
+	 * Reused to bin the slots by grid cell for the projectile on projectile test.
+	 * cellStart[c] to cellStart[c + 1] are the indices in binned of the slots in
+	 * cell c.
+	 */
+	private int[] cellOf = new int[0];
+	private int[] binned = new int[0];
+	private int[] cellStart = new int[0];
+
+	/** Reused to find the objects each projectile could have hit */
+	private final Rectangle area = new Rectangle();
+	private final Array<PhysicsObject> candidates = new Array<>();
+	private final FloatArray impactTimes = new FloatArray();
+
+	/**
+	 * @param obj the object to test
+	 * @return {@code true} if the object is moved and collided by a projectile
+	 *         system rather than on its own
+	 */
+	public static boolean isSimulated(PhysicsObject obj) {
+		return obj.getClass() == Projectile.class;
+	}
+
+	/**
+	 * Move every projectile, and mark the ones that have travelled past their
+	 * range to be removed.
+	 *
+	 * @param projectiles every simulated projectile in the world, in the order
+	 *        they were added
+	 * @param delta time since the last frame
+	 */
+	public void update(Array<Projectile> projectiles, float delta) {
+		sync(projectiles);
+
+		for (int i = 0; i < count; i++) {
+			prevX[i] = x[i];
+			prevY[i] = y[i];
+			x[i] += velX[i] * delta;
+			y[i] += velY[i] * delta;
+			float dx = x[i] - startX[i], dy = y[i] - startY[i];
+			if (dx * dx + dy * dy > lifeDist2[i]) flags[i] |= DEAD;
+		}
+
+		for (int i = 0; i < count; i++) {
+			Projectile p = handles[i];
+			p.moveTo(prevX[i], prevY[i], x[i], y[i]);
+			if ((flags[i] & DEAD) != 0) p.kill();
+		}
+	}
+
+	/**
+	 * Test every projectile against the objects it could have hit during the
+	 * last update, and against nearby projectiles from the other side. The objects
+	 * each projectile is tested against are tested in the order it would have
+	 * reached them.
+	 *
+	 * @param projectiles every simulated projectile in the world, in the order
+	 *        they were added
+	 * @param dynamicGrid the grid holding the other objects that move
+	 * @param staticGrid the grid holding the objects that never move
+	 * @param contacts the contact cache to test the pairs through
+	 * @param delta time since the last frame
+	 */
+	public void collide(Array<Projectile> projectiles, SpatialGrid dynamicGrid,
+			SpatialGrid staticGrid, ContactCache contacts, float delta) {
+		sync(projectiles);
+		bin(dynamicGrid);
+
+		int cols = dynamicGrid.getColumns(), rows = dynamicGrid.getRows();
+		for (int i = 0; i < count; i++) {
+			Projectile p = handles[i];
+			if (p.removeOnNextTick()) continue;
+
+			// the box around the whole path, worked out without touching the polygon
+			ProjectileData data = TYPES[type[i]];
+			float w = data.getWidth(), h = data.getHeight();
+			area.set(Math.min(x[i], prevX[i]) - w / 2, Math.min(y[i], prevY[i]) - h / 2,
+					Math.abs(x[i] - prevX[i]) + w, Math.abs(y[i] - prevY[i]) + h);
+
+			candidates.clear();
+			dynamicGrid.query(area, candidates);
+			staticGrid.query(area, candidates);
+
+			// only look at later slots, so each pair of projectiles is tested once
+			int cx = cellOf[i] % cols, cy = cellOf[i] / cols;
+			for (int ny = Math.max(cy - 1, 0); ny <= Math.min(cy + 1, rows - 1); ny++) {
+				for (int nx = Math.max(cx - 1, 0); nx <= Math.min(cx + 1, cols - 1); nx++) {
+					int cell = ny * cols + nx;
+					for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+						int j = binned[k];
+						if (j > i && (flags[i] & PLAYER) != (flags[j] & PLAYER)
+								&& overlaps(i, j)) {
+							candidates.add(handles[j]);
+						}
+					}
+				}
+			}
+
+			if (candidates.size > 1) sortByTimeOfImpact(p, candidates, impactTimes);
+			for (int j = 0; j < candidates.size; j++) {
+				contacts.test(p, candidates.get(j), delta);
+			}
+		}
+	}
+
+	/**
+	 * Draw every projectile, one type at a time. The images come from the
+	 * {@link ResourceManager#atlas}, if it was built, so they are drawn along with
+	 * the other sprites without switching texture.
+	 *
+	 * @param batch the batch to draw with, between begin and end
+	 * @param alpha how far between the last update and the next to draw each
+	 *        projectile, from 0 to 1
+	 */
+	public void draw(SpriteBatch batch, float alpha) {
+		for (int t = 0; t < TYPES.length; t++) {
+			ProjectileData data = TYPES[t];
+			if (data.getTexture() == null) continue;
+			TextureRegion region = ResourceManager.getRegion(data.getTexture());
+			if (region == null) continue;
+
+			float w = data.getWidth(), h = data.getHeight();
+			for (int i = 0; i < count; i++) {
+				if (type[i] != t) continue;
+				float drawX = prevX[i] + (x[i] - prevX[i]) * alpha;
+				float drawY = prevY[i] + (y[i] - prevY[i]) * alpha;
+				batch.draw(region, drawX - w / 2, drawY - h / 2, w / 2, h / 2, w, h, 1, 1,
+						rotation[i]);
+			}
+		}
+	}
+
+	/** @return the number of projectiles being simulated */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @param p the projectile to look for
+	 * @return the slot of the projectile, or -1 if it is not being simulated
+	 */
+	public int indexOf(Projectile p) {
+		for (int i = 0; i < count; i++) {
+			if (handles[i] == p) return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param i the slot
+	 * @return the damage of the projectile in the slot
+	 */
+	public float getDamage(int i) {
+		return damage[i];
+	}
+
+	/**
+	 * Sort candidates by when a projectile reached them during its last update.
+	 * Candidates it did not hit go last.
+	 *
+	 * @param p the projectile
+	 * @param candidates the objects to sort
+	 * @param impactTimes reused to hold the time of each candidate
+	 */
+	public static void sortByTimeOfImpact(Projectile p, Array<PhysicsObject> candidates,
+			FloatArray impactTimes) {
+		impactTimes.clear();
+		for (int i = 0; i < candidates.size; i++) {
+			float t = p.getTimeOfImpact(candidates.get(i));
+			impactTimes.add(t < 0 ? Float.POSITIVE_INFINITY : t);
+		}
+		// insertion sort, there are only ever a few candidates
+		for (int i = 1; i < candidates.size; i++) {
+			PhysicsObject obj = candidates.get(i);
+			float t = impactTimes.get(i);
+			int j = i - 1;
+			for (; j >= 0 && impactTimes.get(j) > t; j--) {
+				candidates.set(j + 1, candidates.get(j));
+				impactTimes.set(j + 1, impactTimes.get(j));
+			}
+			candidates.set(j + 1, obj);
+			impactTimes.set(j + 1, t);
+		}
+	}
+
+	/**
+	 * Bring the slots in line with the projectiles in the world. Slots whose
+	 * projectile is still in the world keep their state and order, the rest are
+	 * dropped, and projectiles new to the world are read into new slots.
+	 */
+	private void sync(Array<Projectile> projectiles) {
+		ensureCapacity(projectiles.size);
+		int kept = 0;
+		for (int i = 0; i < count && kept < projectiles.size; i++) {
+			Projectile p = projectiles.get(kept);
+			if (handles[i] != p || ids[i] != p.getPhysicsId()) continue;
+			if (i != kept) move(i, kept);
+			kept++;
+		}
+		for (int i = kept; i < count; i++) {
+			handles[i] = null;
+		}
+		for (count = kept; count < projectiles.size; count++) {
+			load(count, projectiles.get(count));
+		}
+	}
+
+	/** Read the state of a projectile into a slot */
+	private void load(int i, Projectile p) {
+		handles[i] = p;
+		ids[i] = p.getPhysicsId();
+		x[i] = p.position.x;
+		y[i] = p.position.y;
+		prevX[i] = p.getPreviousPosition().x;
+		prevY[i] = p.getPreviousPosition().y;
+		velX[i] = p.getVelocity().x;
+		velY[i] = p.getVelocity().y;
+		startX[i] = p.getStartingPosition().x;
+		startY[i] = p.getStartingPosition().y;
+		lifeDist2[i] = p.lifeDist * p.lifeDist;
+		damage[i] = p.getDamage();
+		rotation[i] = p.rotation;
+		flags[i] = p.isPlayerProjectile() ? PLAYER : 0;
+		type[i] = p.getData().ordinal();
+	}
+
+	private void move(int from, int to) {
+		handles[to] = handles[from];
+		ids[to] = ids[from];
+		x[to] = x[from];
+		y[to] = y[from];
+		prevX[to] = prevX[from];
+		prevY[to] = prevY[from];
+		velX[to] = velX[from];
+		velY[to] = velY[from];
+		startX[to] = startX[from];
+		startY[to] = startY[from];
+		lifeDist2[to] = lifeDist2[from];
+		damage[to] = damage[from];
+		rotation[to] = rotation[from];
+		flags[to] = flags[from];
+		type[to] = type[from];
+	}
+
+	/** Sort the slots by the grid cell their center is in */
+	private void bin(SpatialGrid grid) {
+		int cells = grid.getColumns() * grid.getRows();
+		if (cellStart.length < cells + 1) cellStart = new int[cells + 1];
+		Arrays.fill(cellStart, 0, cells + 1, 0);
+
+		for (int i = 0; i < count; i++) {
+			cellOf[i] = grid.cellY(y[i]) * grid.getColumns() + grid.cellX(x[i]);
+			cellStart[cellOf[i] + 1]++;
+		}
+		for (int c = 0; c < cells; c++) {
+			cellStart[c + 1] += cellStart[c];
+		}
+		// filling a cell moves its start along to the start of the next cell
+		for (int i = 0; i < count; i++) {
+			binned[cellStart[cellOf[i]]++] = i;
+		}
+		System.arraycopy(cellStart, 0, cellStart, 1, cells);
+		cellStart[0] = 0;
+	}
+
+	/** @return {@code true} if the end positions of the two slots overlap */
+	private boolean overlaps(int i, int j) {
+		ProjectileData a = TYPES[type[i]], b = TYPES[type[j]];
+		return Math.abs(x[i] - x[j]) * 2 <= a.getWidth() + b.getWidth()
+				&& Math.abs(y[i] - y[j]) * 2 <= a.getHeight() + b.getHeight();
+	}
+
+	private void ensureCapacity(int size) {
+		if (handles.length >= size) return;
+		int capacity = Math.max(16, Math.max(size, (int) (handles.length * 1.75f)));
+		handles = Arrays.copyOf(handles, capacity);
+		ids = Arrays.copyOf(ids, capacity);
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		prevX = Arrays.copyOf(prevX, capacity);
+		prevY = Arrays.copyOf(prevY, capacity);
+		velX = Arrays.copyOf(velX, capacity);
+		velY = Arrays.copyOf(velY, capacity);
+		startX = Arrays.copyOf(startX, capacity);
+		startY = Arrays.copyOf(startY, capacity);
+		lifeDist2 = Arrays.copyOf(lifeDist2, capacity);
+		damage = Arrays.copyOf(damage, capacity);
+		rotation = Arrays.copyOf(rotation, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		type = Arrays.copyOf(type, capacity);
+		cellOf = new int[capacity];
+		binned = new int[capacity];
+	}
+
+}
@@ -0,0 +1,130 @@
+package io.github.annabeths.Replay;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+import io.github.annabeths.Boats.PlayerBoat;
+import io.github.annabeths.Collectables.PowerupType;
+
+/**
+ * Everything the player did in a single tick: which of W, A, S and D were held,
+ * if a shot was fired, which powerup keys were pressed, the angle the player
+ * aimed at and anything bought from the shop. This is all a
+ * {@link PlayerBoat} needs to play the tick the same way again.
+ * <p>
+ * Frames are written as a change from the frame before, so a tick where only
+ * keys were held takes a single byte.
+ *
+ * @since Assessment 2
+ */
+public class InputFrame {
+
+	/* Bits of the byte written for each frame */
+	private static final int UP = 1, DOWN = 2, LEFT = 4, RIGHT = 8, FIRE = 16, POWERUPS = 32,
+			AIM = 64, PURCHASES = 128;
+
+	/** If the key to sail forwards was held */
+	public boolean up;
+	/** If the key to sail backwards was held */
+	public boolean down;
+	/** If the key to turn left was held */
+	public boolean left;
+	/** If the key to turn right was held */
+	public boolean right;
+	/** If a shot was fired */
+	public boolean fire;
+	/** A bit for each {@link PowerupType}, by ordinal, whose key was pressed */
+	public int powerups;
+	/**
+	 * The angle from the boat to the mouse, in degrees. It is only read when a ray
+	 * is fired, so it only changes then.
+	 */
+	public float aim;
+	/** Everything bought from the shop before the tick */
+	public final Array<ShopPurchase> purchases = new Array<>(0);
+
+	/**
+	 * Copy another frame
+	 * @param other the frame to copy
+	 * @return this frame
+	 */
+	public InputFrame set(InputFrame other) {
+		up = other.up;
+		down = other.down;
+		left = other.left;
+		right = other.right;
+		fire = other.fire;
+		powerups = other.powerups;
+		aim = other.aim;
+		purchases.clear();
+		purchases.addAll(other.purchases);
+		return this;
+	}
+
+	/**
+	 * Test if this frame has the same input as another, and so could be written
+	 * as a repeat of it. Frames with purchases are never the same as another, as
+	 * each purchase must only be made once.
+	 * @param other the frame to compare with
+	 * @return {@code true} if the frames are the same
+	 */
+	public boolean sameAs(InputFrame other) {
+		return up == other.up && down == other.down && left == other.left
+				&& right == other.right && fire == other.fire && powerups == other.powerups
+				&& Float.floatToIntBits(aim) == Float.floatToIntBits(other.aim)
+				&& purchases.isEmpty() && other.purchases.isEmpty();
+	}
+
+	/**
+	 * Write the frame, leaving out anything that can be found from the frame
+	 * before
+	 * @param out the stream to write to
+	 * @param previous the frame before, which the reader will also have
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void write(DataOutput out, InputFrame previous) throws IOException {
+		boolean aimChanged = Float.floatToIntBits(aim) != Float.floatToIntBits(previous.aim);
+		int bits = (up ? UP : 0) | (down ? DOWN : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0)
+				| (fire ? FIRE : 0) | (powerups != 0 ? POWERUPS : 0) | (aimChanged ? AIM : 0)
+				| (purchases.isEmpty() ? 0 : PURCHASES);
+		out.writeByte(bits);
+		if (powerups != 0) out.writeByte(powerups);
+		if (aimChanged) out.writeFloat(aim);
+		if (!purchases.isEmpty()) {
+			out.writeInt(purchases.size, true);
+			for (ShopPurchase p : purchases) {
+				p.write(out);
+			}
+		}
+	}
+
+	/**
+	 * Read a frame written by {@link #write(DataOutput, InputFrame)}
+	 * @param in the stream to read from
+	 * @param previous the frame before
+	 * @return this frame
+	 * @throws IOException if the stream can't be read from
+	 */
+	public InputFrame read(DataInput in, InputFrame previous) throws IOException {
+		int bits = in.readUnsignedByte();
+		up = (bits & UP) != 0;
+		down = (bits & DOWN) != 0;
+		left = (bits & LEFT) != 0;
+		right = (bits & RIGHT) != 0;
+		fire = (bits & FIRE) != 0;
+		powerups = (bits & POWERUPS) != 0 ? in.readUnsignedByte() : 0;
+		aim = (bits & AIM) != 0 ? in.readFloat() : previous.aim;
+		purchases.clear();
+		if ((bits & PURCHASES) != 0) {
+			int count = in.readInt(true);
+			for (int i = 0; i < count; i++) {
+				purchases.add(ShopPurchase.read(in));
+			}
+		}
+		return this;
+	}
+
+}
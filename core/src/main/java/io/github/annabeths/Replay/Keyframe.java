@@ -0,0 +1,329 @@
+package io.github.annabeths.Replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+import io.github.annabeths.Boats.AttackBoat;
+import io.github.annabeths.Boats.Boat;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.Boats.PlayerBoat;
+import io.github.annabeths.Collectables.Powerup;
+import io.github.annabeths.Collectables.PowerupType;
+import io.github.annabeths.Colleges.College;
+import io.github.annabeths.Colleges.EnemyCollege;
+import io.github.annabeths.Colleges.PlayerCollege;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameGenerics.PhysicsObjectList;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.Obstacles.Kraken;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Projectiles.Projectile;
+import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Projectiles.ProjectilePool;
+
+/**
+ * Everything needed to carry on a game from a tick: every object in the world,
+ * the broadphase grids, the pairs of objects touching and the state of the
+ * random numbers. A game restored from a keyframe plays out exactly as the
+ * game it was taken from did, given the same input.
+ * <p>
+ * Only what changes how the game plays is kept. Rays, which are only drawn,
+ * and where sprites were at the start of the tick are left out.
+ *
+ * @since Assessment 2
+ */
+public class Keyframe {
+
+	/** Every type of object that can be saved. The index is written for each. */
+	private static final Class<?>[] TYPES = { PlayerBoat.class, NeutralBoat.class,
+			EnemyBoat.class, FriendlyBoat.class, PlayerCollege.class, EnemyCollege.class,
+			Powerup.class, Mine.class, Kraken.class, Weather.class, Projectile.class };
+
+	private final int tick;
+	private final long seed;
+	private final Difficulty difficulty;
+	private final byte[] data;
+
+	/**
+	 * @param tick the tick the keyframe was taken at
+	 * @param seed the seed of the game
+	 * @param difficulty the difficulty of the game
+	 * @param data the state of the world
+	 */
+	private Keyframe(int tick, long seed, Difficulty difficulty, byte[] data) {
+		this.tick = tick;
+		this.seed = seed;
+		this.difficulty = difficulty;
+		this.data = data;
+	}
+
+	/**
+	 * Take a keyframe of a game
+	 * @param gc the game
+	 * @param tick the number of ticks the game has run for
+	 * @return the keyframe
+	 * @throws IllegalStateException if the world holds an object that can't be
+	 *         saved
+	 */
+	public static Keyframe capture(GameController gc, int tick) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		try {
+			writeWorld(gc, new DataOutput(bytes));
+		} catch (IOException e) {
+			// the stream is in memory, so this can't happen
+			throw new IllegalStateException(e);
+		}
+		return new Keyframe(tick, gc.random.getSeed(), gc.getGameDifficulty(),
+				bytes.toByteArray());
+	}
+
+	/**
+	 * Replace the world of a game with the one in this keyframe. The game should
+	 * have been created with the keyframe's seed.
+	 * @param gc the game to restore into
+	 * @throws IllegalStateException if the keyframe can't be read
+	 */
+	public void restore(GameController gc) {
+		gc.setDifficulty(difficulty);
+		try {
+			readWorld(gc, new DataInput(new ByteArrayInputStream(data)));
+		} catch (IOException | RuntimeException e) {
+			throw new IllegalStateException("Keyframe at tick " + tick + " is corrupt", e);
+		}
+	}
+
+	private static void writeWorld(GameController gc, DataOutput out) throws IOException {
+		gc.writeState(out);
+
+		// ids are written by age, so the ids to give out again are the oldest age
+		PhysicsObjectList list = gc.entities;
+		int idAge = 0;
+		for (int i = 0; i < list.size(); i++) {
+			idAge = Math.max(idAge, list.get(i).getPhysicsIdAge());
+		}
+		out.writeInt(idAge, true);
+
+		// groups are updated in order, so they must be put back in the same order
+		out.writeInt(list.getGroupCount(), true);
+		for (int g = 0; g < list.getGroupCount(); g++) {
+			out.writeByte(typeOf(list.getGroupType(g)));
+		}
+
+		ObjectIntMap<PhysicsObject> indices = new ObjectIntMap<>(list.size());
+		out.writeInt(list.size(), true);
+		for (int i = 0; i < list.size(); i++) {
+			PhysicsObject obj = list.get(i);
+			indices.put(obj, i);
+			out.writeByte(typeOf(obj.getClass()));
+			writeSpawn(obj, out);
+			obj.writeState(out);
+		}
+
+		// references between objects are written as indices, offset by one so
+		// null can be written as 0
+		out.writeInt(indices.get(gc.bossCollege, -1) + 1, true);
+		out.writeInt(gc.colleges.size(), true);
+		for (int i = 0; i < gc.colleges.size(); i++) {
+			out.writeInt(indices.get(gc.colleges.get(i), -1) + 1, true);
+		}
+		for (int i = 0; i < list.size(); i++) {
+			if (!(list.get(i) instanceof AttackBoat)) continue;
+			Boat target = ((AttackBoat) list.get(i)).target;
+			out.writeInt(target == null ? 0 : indices.get(target, -1) + 1, true);
+		}
+
+		gc.collisionGrid.writeState(out, indices);
+		gc.staticGrid.writeState(out, indices);
+
+		// sorted, so the same world is always written the same way
+		Array<PhysicsObject> touching = gc.contacts.getTouching(new Array<>());
+		long[] pairs = new long[touching.size / 2];
+		for (int i = 0; i < pairs.length; i++) {
+			pairs[i] = (long) indices.get(touching.get(i * 2), -1) << 32
+					| indices.get(touching.get(i * 2 + 1), -1);
+		}
+		Arrays.sort(pairs);
+		out.writeInt(pairs.length, true);
+		for (long pair : pairs) {
+			out.writeInt((int) (pair >>> 32), true);
+			out.writeInt((int) pair, true);
+		}
+
+		// last, as the objects take random numbers when they are created again
+		gc.random.writeState(out);
+	}
+
+	private static void readWorld(GameController gc, DataInput in) throws IOException {
+		gc.readState(in);
+		// the objects are given new ids, later than any already given, in the same
+		// order as before
+		PhysicsObject.reservePhysicsIds(in.readInt(true));
+
+		PhysicsObjectList list = gc.entities;
+		int groups = in.readInt(true);
+		for (int g = 0; g < groups; g++) {
+			list.addGroup(typeAt(in.readByte()));
+		}
+
+		list.clear();
+		gc.colleges.clear();
+		gc.rays.clear();
+		gc.contacts.clear();
+		int count = in.readInt(true);
+		for (int i = 0; i < count; i++) {
+			PhysicsObject obj = readSpawn(gc, typeAt(in.readByte()), in);
+			obj.readState(in);
+			list.add(obj);
+		}
+
+		gc.bossCollege = (EnemyCollege) readReference(list, in);
+		int colleges = in.readInt(true);
+		for (int i = 0; i < colleges; i++) {
+			gc.colleges.add((College) readReference(list, in));
+		}
+		gc.invalidateNavigation();
+		for (int i = 0; i < list.size(); i++) {
+			if (!(list.get(i) instanceof AttackBoat)) continue;
+			((AttackBoat) list.get(i)).target = (Boat) readReference(list, in);
+		}
+
+		gc.collisionGrid.readState(in, list);
+		gc.staticGrid.readState(in, list);
+
+		int pairs = in.readInt(true);
+		for (int i = 0; i < pairs; i++) {
+			gc.contacts.setTouching(list.get(in.readInt(true)), list.get(in.readInt(true)));
+		}
+
+		gc.random.readState(in);
+	}
+
+	private static PhysicsObject readReference(PhysicsObjectList list, DataInput in)
+			throws IOException {
+		int index = in.readInt(true) - 1;
+		return index < 0 ? null : list.get(index);
+	}
+
+	/**
+	 * Write what is needed to create an object again, before its state is read
+	 * back into it
+	 */
+	private static void writeSpawn(PhysicsObject obj, DataOutput out) throws IOException {
+		out.writeFloat(obj.position.x);
+		out.writeFloat(obj.position.y);
+		if (obj instanceof College) {
+			College c = (College) obj;
+			out.writeString(c.aliveTextureFile);
+			out.writeString(c.islandTextureFile);
+		}
+
+		if (obj instanceof EnemyCollege) {
+			out.writeByte(((EnemyCollege) obj).projectileType.ordinal());
+		} else if (obj instanceof PlayerCollege) {
+			out.writeBoolean(((PlayerCollege) obj).splashText != null);
+		} else if (obj instanceof Powerup) {
+			out.writeByte(((Powerup) obj).getType().ordinal());
+		} else if (obj instanceof Weather) {
+			out.writeByte(((Weather) obj).getDirectionTrend());
+		} else if (obj instanceof Projectile) {
+			out.writeByte(((Projectile) obj).getData().ordinal());
+		}
+	}
+
+	/** Create an object written by {@link #writeSpawn(PhysicsObject, DataOutput)} */
+	private static PhysicsObject readSpawn(GameController gc, Class<?> type, DataInput in)
+			throws IOException {
+		Vector2 pos = new Vector2(in.readFloat(), in.readFloat());
+		if (type == PlayerBoat.class) return gc.playerBoat;
+		if (type == NeutralBoat.class) return new NeutralBoat(gc, pos);
+		if (type == EnemyBoat.class) return new EnemyBoat(gc, pos);
+		if (type == FriendlyBoat.class) return new FriendlyBoat(gc, pos);
+		if (type == Mine.class) return new Mine(gc, pos);
+		if (type == Kraken.class) return new Kraken(gc, pos);
+		if (type == Powerup.class) return new Powerup(PowerupType.values()[in.readByte()], pos);
+		if (type == Weather.class) return new Weather(gc, pos, in.readByte());
+		if (type == Projectile.class) {
+			ProjectileData data = ProjectileData.values()[in.readByte()];
+			return ProjectilePool.obtain(pos.x, pos.y, 0, data, false, false, 1, 1);
+		}
+
+		String alive = in.readString();
+		String island = in.readString();
+		if (type == PlayerCollege.class) {
+			return new PlayerCollege(pos, alive, island, gc, in.readBoolean());
+		}
+		// the health is read back with the rest of the state
+		ProjectileData data = ProjectileData.values()[in.readByte()];
+		return new EnemyCollege(pos, alive, island, gc, data, 0);
+	}
+
+	private static int typeOf(Class<?> type) {
+		for (int i = 0; i < TYPES.length; i++) {
+			if (TYPES[i] == type) return i;
+		}
+		throw new IllegalStateException("Can't save a " + type.getSimpleName());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<? extends PhysicsObject> typeAt(int index) {
+		return (Class<? extends PhysicsObject>) TYPES[index];
+	}
+
+	/**
+	 * @param out the stream to write the keyframe to
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void write(DataOutput out) throws IOException {
+		out.writeInt(tick, true);
+		out.writeLong(seed);
+		out.writeByte(difficulty.ordinal());
+		out.writeInt(data.length, true);
+		out.write(data);
+	}
+
+	/**
+	 * @param in the stream to read from
+	 * @return the keyframe written by {@link #write(DataOutput)}
+	 * @throws IOException if the stream can't be read from
+	 */
+	public static Keyframe read(DataInput in) throws IOException {
+		int tick = in.readInt(true);
+		long seed = in.readLong();
+		Difficulty difficulty = Difficulty.values()[in.readByte()];
+		byte[] data = new byte[in.readInt(true)];
+		in.readFully(data);
+		return new Keyframe(tick, seed, difficulty, data);
+	}
+
+	/** @return the tick the keyframe was taken at */
+	public int getTick() {
+		return tick;
+	}
+
+	/** @return the seed of the game the keyframe was taken from */
+	public long getSeed() {
+		return seed;
+	}
+
+	/** @return the difficulty of the game the keyframe was taken from */
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+
+	/** @return the state of the world, as written */
+	public byte[] getData() {
+		return data;
+	}
+}
@@ -0,0 +1,222 @@
+package io.github.annabeths.Replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+import io.github.annabeths.GeneralControl.Difficulty;
+
+/**
+ * A recording of a game: the seed and difficulty it was started with, the
+ * input of every tick and {@link Keyframe keyframes} taken along the way. The
+ * seed and input are enough to play the whole game again, and the keyframes
+ * let it be started part way through.
+ * <p>
+ * Files start with a short header, then the rest is compressed. Ticks with the
+ * same input as the tick before are written as a count, so a game only takes a
+ * few bytes for each change of input.
+ *
+ * @since Assessment 2
+ */
+public class Replay {
+
+	/** Written at the start of every file, "RPLY" */
+	private static final int MAGIC = 0x52504c59;
+	/** Changed whenever the format is */
+	private static final int VERSION = 2;
+
+	private final long seed;
+	private final Difficulty difficulty;
+	private final int tickRate;
+	private final Array<InputFrame> frames = new Array<>(false, 1024);
+	private final Array<Keyframe> keyframes = new Array<>();
+
+	/**
+	 * @param seed the seed the game was started with
+	 * @param difficulty the difficulty of the game
+	 * @param tickRate the number of ticks a second the game was run at
+	 */
+	public Replay(long seed, Difficulty difficulty, int tickRate) {
+		this.seed = seed;
+		this.difficulty = difficulty;
+		this.tickRate = tickRate;
+	}
+
+	/**
+	 * Add the input of the next tick
+	 * @param frame the input, which is kept, so must not be changed after
+	 */
+	public void addFrame(InputFrame frame) {
+		frames.add(frame);
+	}
+
+	/**
+	 * Add a keyframe. Keyframes must be added in the order they were taken.
+	 * @param keyframe the keyframe
+	 */
+	public void addKeyframe(Keyframe keyframe) {
+		keyframes.add(keyframe);
+	}
+
+	/**
+	 * @param tick the tick
+	 * @return the input of the tick
+	 */
+	public InputFrame getFrame(int tick) {
+		return frames.get(tick);
+	}
+
+	/** @return the number of ticks recorded */
+	public int getLength() {
+		return frames.size;
+	}
+
+	/**
+	 * Find the latest keyframe to start playing from to reach a tick
+	 * @param tick the tick to reach
+	 * @return the latest keyframe taken at or before the tick, or {@code null} if
+	 *         there is none, and the game must be played from the start
+	 */
+	public Keyframe getKeyframeBefore(int tick) {
+		Keyframe best = null;
+		for (Keyframe k : keyframes) {
+			if (k.getTick() > tick) break;
+			best = k;
+		}
+		return best;
+	}
+
+	/** @return every keyframe, in the order they were taken */
+	public Array<Keyframe> getKeyframes() {
+		return keyframes;
+	}
+
+	/** @return the seed the game was started with */
+	public long getSeed() {
+		return seed;
+	}
+
+	/** @return the difficulty of the game */
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+
+	/** @return the number of ticks a second the game was run at */
+	public int getTickRate() {
+		return tickRate;
+	}
+
+	/**
+	 * @param stream the stream to write to. It is not closed.
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void write(OutputStream stream) throws IOException {
+		DataOutput header = new DataOutput(stream);
+		header.writeInt(MAGIC);
+		header.writeByte(VERSION);
+		header.flush();
+
+		DeflaterOutputStream deflater = new DeflaterOutputStream(stream);
+		DataOutput out = new DataOutput(deflater);
+		out.writeLong(seed);
+		out.writeByte(difficulty.ordinal());
+		out.writeInt(tickRate, true);
+
+		out.writeInt(frames.size, true);
+		InputFrame previous = new InputFrame();
+		for (int i = 0; i < frames.size;) {
+			InputFrame frame = frames.get(i);
+			int run = 1;
+			while (i + run < frames.size && frames.get(i + run).sameAs(frame)) {
+				run++;
+			}
+			frame.write(out, previous);
+			out.writeInt(run, true);
+			previous = frame;
+			i += run;
+		}
+
+		out.writeInt(keyframes.size, true);
+		for (Keyframe k : keyframes) {
+			k.write(out);
+		}
+		out.flush();
+		deflater.finish();
+	}
+
+	/**
+	 * @param stream the stream to read from. It is not closed.
+	 * @return the replay written by {@link #write(OutputStream)}
+	 * @throws IOException if the stream can't be read from, or is not a replay
+	 */
+	public static Replay read(InputStream stream) throws IOException {
+		DataInput header = new DataInput(stream);
+		if (header.readInt() != MAGIC) throw new IOException("Not a replay file");
+		int version = header.readByte();
+		if (version != VERSION) throw new IOException("Unknown replay version " + version);
+
+		DataInput in = new DataInput(new InflaterInputStream(stream));
+		Replay replay = new Replay(in.readLong(), Difficulty.values()[in.readByte()],
+				in.readInt(true));
+
+		int length = in.readInt(true);
+		InputFrame previous = new InputFrame();
+		while (replay.frames.size < length) {
+			InputFrame frame = new InputFrame().read(in, previous);
+			int run = in.readInt(true);
+			// repeated ticks can share a frame, as frames are never changed
+			for (int i = 0; i < run; i++) {
+				replay.frames.add(frame);
+			}
+			previous = frame;
+		}
+
+		int keyframes = in.readInt(true);
+		for (int i = 0; i < keyframes; i++) {
+			replay.keyframes.add(Keyframe.read(in));
+		}
+		return replay;
+	}
+
+	/**
+	 * Write the replay to a file
+	 * @param file the file
+	 * @throws GdxRuntimeException if the file can't be written
+	 */
+	public void save(FileHandle file) {
+		OutputStream stream = file.write(false, 8192);
+		try {
+			write(stream);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Could not write replay " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(stream);
+		}
+	}
+
+	/**
+	 * Read a replay from a file
+	 * @param file the file
+	 * @return the replay
+	 * @throws GdxRuntimeException if the file can't be read
+	 */
+	public static Replay load(FileHandle file) {
+		InputStream stream = file.read(8192);
+		try {
+			return read(stream);
+		} catch (IOException | RuntimeException e) {
+			throw new GdxRuntimeException("Could not read replay " + file, e);
+		} finally {
+			StreamUtils.closeQuietly(stream);
+		}
+	}
+}
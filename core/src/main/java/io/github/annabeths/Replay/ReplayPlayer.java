@@ -0,0 +1,80 @@
+package io.github.annabeths.Replay;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.eng1game;
+
+/**
+ * Plays a {@link Replay} back, giving the player boat the recorded input each
+ * tick. Once the recording runs out, the player is given control.
+ *
+ * @since Assessment 2
+ */
+public class ReplayPlayer {
+
+	private final Replay replay;
+	private int tick = 0;
+
+	/**
+	 * @param replay the replay to play
+	 */
+	public ReplayPlayer(Replay replay) {
+		this.replay = replay;
+	}
+
+	/**
+	 * Create the game being replayed, as it was at a tick. The latest keyframe
+	 * before the tick is restored, or the game is started from its seed if there
+	 * is none, then the ticks in between are run.
+	 * @param game reference to eng1game
+	 * @param tick the tick to start at
+	 * @return the game, with this set as its {@link GameController#replay}
+	 */
+	public GameController start(eng1game game, int tick) {
+		Keyframe keyframe = replay.getKeyframeBefore(tick);
+		GameController gc;
+		if (keyframe == null) {
+			gc = new GameController(game, replay.getDifficulty(), replay.getSeed());
+			this.tick = 0;
+		} else {
+			gc = new GameController(game, keyframe);
+			this.tick = keyframe.getTick();
+		}
+		gc.timestep.setTickRate(replay.getTickRate());
+		gc.replay = this;
+
+		float step = gc.timestep.getStep();
+		while (this.tick < tick && !isFinished() && !gc.isEnded()) {
+			gc.tick(step);
+		}
+		return gc;
+	}
+
+	/**
+	 * Give the player the input recorded for the next tick, and make anything
+	 * they bought before it. Called at the start of every tick.
+	 * @param gc the game
+	 */
+	public void feed(GameController gc) {
+		if (isFinished()) return;
+		InputFrame frame = replay.getFrame(tick++);
+		for (ShopPurchase p : frame.purchases) {
+			p.apply(gc);
+		}
+		gc.playerBoat.replayInput(frame);
+	}
+
+	/** @return {@code true} once every recorded tick has been played */
+	public boolean isFinished() {
+		return tick >= replay.getLength();
+	}
+
+	/** @return the number of ticks played */
+	public int getTick() {
+		return tick;
+	}
+
+	/** @return the replay being played */
+	public Replay getReplay() {
+		return replay;
+	}
+}
@@ -0,0 +1,96 @@
+package io.github.annabeths.Replay;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.GameScreens.GameController;
+
+/**
+ * Records the input of the player each tick of a game into a {@link Replay},
+ * with a {@link Keyframe} taken every so often. Set it as the
+ * {@link GameController#recorder} of a new game before its first tick, as the
+ * replay starts from the game's seed.
+ *
+ * @since Assessment 2
+ */
+public class ReplayRecorder {
+
+	/** The default time between keyframes, in seconds */
+	public static final float KEYFRAME_INTERVAL = 60;
+
+	private final Replay replay;
+	/** The number of ticks between keyframes */
+	private final int keyframeTicks;
+	/** Where the replay is saved when the game is closed, may be {@code null} */
+	private final FileHandle file;
+	/** What the player bought since the last tick */
+	private final Array<ShopPurchase> purchases = new Array<>(0);
+	private int tick = 0;
+
+	/**
+	 * Record a game, taking a keyframe every {@link #KEYFRAME_INTERVAL} seconds
+	 * @param gc the game, which must not have run any ticks
+	 * @param file where to save the replay, or {@code null} to only keep it in
+	 *        memory
+	 */
+	public ReplayRecorder(GameController gc, FileHandle file) {
+		this(gc, file, KEYFRAME_INTERVAL);
+	}
+
+	/**
+	 * @param gc the game, which must not have run any ticks
+	 * @param file where to save the replay, or {@code null} to only keep it in
+	 *        memory
+	 * @param keyframeInterval the time between keyframes, in seconds
+	 */
+	public ReplayRecorder(GameController gc, FileHandle file, float keyframeInterval) {
+		if (keyframeInterval <= 0)
+			throw new IllegalArgumentException("Keyframe interval must be positive");
+		int tickRate = gc.timestep.getTickRate();
+		this.replay = new Replay(gc.random.getSeed(), gc.getGameDifficulty(), tickRate);
+		this.keyframeTicks = Math.max(1, Math.round(keyframeInterval * tickRate));
+		this.file = file;
+	}
+
+	/**
+	 * Remember something the player bought, to be recorded with the next tick
+	 * @param purchase what was bought
+	 */
+	public void purchase(ShopPurchase purchase) {
+		purchases.add(purchase);
+	}
+
+	/**
+	 * Record the input the player gave in the tick that just ran, then take a
+	 * keyframe if one is due. Called at the end of every tick.
+	 * @param gc the game
+	 */
+	public void record(GameController gc) {
+		InputFrame frame = new InputFrame().set(gc.playerBoat.getLastInput());
+		frame.purchases.clear();
+		frame.purchases.addAll(purchases);
+		purchases.clear();
+		replay.addFrame(frame);
+
+		tick++;
+		if (tick % keyframeTicks == 0) replay.addKeyframe(Keyframe.capture(gc, tick));
+	}
+
+	/** @return the number of ticks recorded */
+	public int getTick() {
+		return tick;
+	}
+
+	/** @return the replay being recorded */
+	public Replay getReplay() {
+		return replay;
+	}
+
+	/** Save the replay to its file, if it has one */
+	public void save() {
+		if (file == null) return;
+		replay.save(file);
+		Gdx.app.log("Replay", "Saved " + tick + " ticks to " + file);
+	}
+}
@@ -0,0 +1,104 @@
+package io.github.annabeths.Replay;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+import io.github.annabeths.GameGenerics.Upgrades;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.Projectiles.ProjectileData;
+
+/**
+ * Something bought from the shop. The upgrades offered by the shop are picked
+ * without the game's seed, so the upgrade, amount and price are all kept, and
+ * buying it again does not need the shop.
+ *
+ * @since Assessment 2
+ */
+public class ShopPurchase {
+
+	/** The upgrade bought, or {@code null} if bullets were bought */
+	public final Upgrades upgrade;
+	/** The type of bullets bought, or {@code null} if an upgrade was bought */
+	public final ProjectileData bullets;
+	/** How much the upgrade adds */
+	public final float amount;
+	/** The price, in plunder or XP levels */
+	public final int cost;
+	/** If the price is in plunder rather than XP levels */
+	public final boolean plunder;
+
+	/**
+	 * @param upgrade the upgrade bought
+	 * @param amount how much the upgrade adds
+	 * @param cost the price, in plunder or XP levels
+	 * @param plunder if the price is in plunder rather than XP levels
+	 */
+	public ShopPurchase(Upgrades upgrade, float amount, int cost, boolean plunder) {
+		this(upgrade, null, amount, cost, plunder);
+	}
+
+	private ShopPurchase(Upgrades upgrade, ProjectileData bullets, float amount, int cost,
+			boolean plunder) {
+		this.upgrade = upgrade;
+		this.bullets = bullets;
+		this.amount = amount;
+		this.cost = cost;
+		this.plunder = plunder;
+	}
+
+	/**
+	 * @param bullets the type of bullets
+	 * @param cost the price in plunder
+	 * @return a purchase of bullets, which the player fires from then on
+	 */
+	public static ShopPurchase bullets(ProjectileData bullets, int cost) {
+		return new ShopPurchase(null, bullets, 0, cost, true);
+	}
+
+	/**
+	 * Take the price from the player and give them what was bought. Whether the
+	 * player can afford it is checked by the shop, not here.
+	 * @param gc the game to buy it in
+	 */
+	public void apply(GameController gc) {
+		if (plunder) {
+			gc.subtractPlunder(cost);
+		} else {
+			gc.subtractXpLevels(cost);
+		}
+
+		if (bullets != null) {
+			gc.playerBoat.activeProjectileType = bullets;
+		} else {
+			gc.playerBoat.Upgrade(upgrade, amount);
+		}
+	}
+
+	/**
+	 * @param out the stream to write to
+	 * @throws IOException if the stream can't be written to
+	 */
+	public void write(DataOutput out) throws IOException {
+		out.writeByte(upgrade == null ? -1 : upgrade.ordinal());
+		out.writeByte(bullets == null ? -1 : bullets.ordinal());
+		out.writeFloat(amount);
+		out.writeInt(cost, true);
+		out.writeBoolean(plunder);
+	}
+
+	/**
+	 * @param in the stream to read from
+	 * @return the purchase written by {@link #write(DataOutput)}
+	 * @throws IOException if the stream can't be read from
+	 */
+	public static ShopPurchase read(DataInput in) throws IOException {
+		int upgrade = in.readByte();
+		int bullets = in.readByte();
+		return new ShopPurchase(upgrade < 0 ? null : Upgrades.values()[upgrade],
+				bullets < 0 ? null : ProjectileData.values()[bullets], in.readFloat(),
+				in.readInt(true), in.readBoolean());
+	}
+
+}
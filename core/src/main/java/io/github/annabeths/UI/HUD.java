@@ -1,6 +1,7 @@
 package io.github.annabeths.UI;
 
 import static io.github.annabeths.GeneralControl.ResourceManager.font;
+import static io.github.annabeths.GeneralControl.ResourceManager.getRegion;
 import static io.github.annabeths.GeneralControl.ResourceManager.getTexture;
 
 import java.util.Arrays;
@@ -43,6 +44,7 @@ import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.DebugUtils;
 import io.github.annabeths.GeneralControl.SaveManager;
 import io.github.annabeths.Projectiles.ProjectileData;
+import io.github.annabeths.Replay.ShopPurchase;
 
 /**
  * @author James Burnell
@@ -188,7 +190,7 @@ public class HUD extends GameObject {
 		List<PowerupType> powerups = Arrays.asList(PowerupType.values());
 		// initialize icon images
 		powerupIcons = powerups.stream().collect(
-				Collectors.toMap(Function.identity(), p -> new Image(getTexture(p.getTexture()))));
+				Collectors.toMap(Function.identity(), p -> new Image(getRegion(p.getTexture()))));
 		powerupQuantityLabels = powerups.stream()
 				.collect(Collectors.toMap(Function.identity(), p -> new Label("", lblStyleBlk)));
 		powerupTimeLabels = powerups.stream()
@@ -629,13 +631,11 @@ public class HUD extends GameObject {
 				if (usePlunderShop) {
 					if (gc.getPlunder() >= 500
 							&& gc.playerBoat.activeProjectileType != ProjectileData.RAY) {
-						gc.subtractPlunder(500);
-						gc.playerBoat.activeProjectileType = ProjectileData.RAY;
+						gc.purchase(ShopPurchase.bullets(ProjectileData.RAY, 500));
 						updateShopMenu();
 					}
 				} else {
 					if (gc.getXpLevel() >= upgrade1cost) {
-						gc.subtractXpLevels(upgrade1cost);
 						BuyUpgrade(1);
 						RandomiseUpgrades();
 					}
@@ -664,13 +664,11 @@ public class HUD extends GameObject {
 			public boolean touchDown(InputEvent event, float x, float y, int pointer, int button) {
 				if (usePlunderShop) {
 					if (gc.getPlunder() > upgrade2cost * 10) {
-						gc.subtractPlunder(upgrade2cost * 10);
 						BuyUpgrade(2);
 						RandomiseUpgrades();
 					}
 				} else {
 					if (gc.getXpLevel() >= upgrade2cost) {
-						gc.subtractXpLevels(upgrade2cost);
 						BuyUpgrade(2);
 						RandomiseUpgrades();
 					}
@@ -743,21 +741,36 @@ public class HUD extends GameObject {
 	}
 
 	/**
-	 * Purchases an upgrade
+	 * Purchases an upgrade, paying for it with plunder if the plunder shop is
+	 * open, or XP levels otherwise. Whether the player can afford it is checked
+	 * by the buttons.
 	 * 
 	 * @param upgrade the upgrade to be purchased
+	 * @tt.updated Assessment 2
 	 */
 	void BuyUpgrade(int upgrade) {
 		switch (upgrade) {
 		case 1:
-			gc.playerBoat.Upgrade(upgrade1, upgrade1amount);
+			gc.purchase(new ShopPurchase(upgrade1, upgrade1amount, getPrice(upgrade1cost),
+					usePlunderShop));
 			break;
 		case 2:
-			gc.playerBoat.Upgrade(upgrade2, upgrade2amount);
+			gc.purchase(new ShopPurchase(upgrade2, upgrade2amount, getPrice(upgrade2cost),
+					usePlunderShop));
 			break;
 		}
 	}
 
+	/**
+	 * @param cost the cost of an upgrade in XP levels
+	 * @return the price in the shop that is open. The plunder shop charges 10
+	 *         plunder for each level.
+	 * @since Assessment 2
+	 */
+	private int getPrice(int cost) {
+		return usePlunderShop ? cost * 10 : cost;
+	}
+
 	/**
 	 * Randomises upgrades after one is bought.
 	 */
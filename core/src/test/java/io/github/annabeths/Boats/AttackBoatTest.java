@@ -10,6 +10,7 @@ import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -44,6 +45,7 @@ public class AttackBoatTest {
 		gc.physicsObjects = new ArrayList<>();
 		gc.rays = new ArrayList<>();
 		doCallRealMethod().when(gc).NewPhysicsObject(any(PhysicsObject.class));
+		doCallRealMethod().when(gc).getNavigation();
 		gc.playerBoat = new PlayerBoat(gc, new Vector2(0, 0));
 
 		b = mock(AttackBoat.class, withSettings().defaultAnswer(CALLS_REAL_METHODS)
@@ -125,6 +127,26 @@ public class AttackBoatTest {
 		verify(b, times(1)).MoveToDestination(anyFloat());
 	}
 
+	@Test
+	public void testThinkBeforeUpdate() {
+		b.target = mock(Boat.class);
+		when(b.target.getCenter()).thenReturn(new Vector2(0, 0));
+		doNothing().when(b).updateAIState();
+		doReturn(true).when(b).isDestValid(any(Vector2.class));
+		b.state = AIBoat.AIState.APPROACH;
+
+		b.think();
+		b.Update(1);
+		// the update uses what was decided when thinking, instead of deciding again
+		verify(b, times(1)).updateAIState();
+		verify(b, times(1)).isDestValid(any(Vector2.class));
+		assertNotNull(b.destination);
+
+		// the next update thinks for itself
+		b.Update(1);
+		verify(b, times(2)).updateAIState();
+	}
+
 	@Test
 	public void testApproach() {
 		b.target = mock(Boat.class);
@@ -145,17 +167,18 @@ public class AttackBoatTest {
 	public void testUpdateAIStateFoundTarget() {
 		Boat boat = mock(Boat.class);
 		when(b.getNearestTarget()).thenReturn(boat);
-		when(boat.getCenter()).thenReturn(mock(Vector2.class));
+		float x = b.getCenterX(), y = b.getCenterY();
+		when(boat.getCenterY()).thenReturn(y);
 
-		when(boat.getCenter().dst(any())).thenReturn(b.attackRange - 1);
+		when(boat.getCenterX()).thenReturn(x + b.attackRange - 1);
 		b.updateAIState();
 		assertEquals(AIBoat.AIState.ATTACK, b.state);
 
-		when(boat.getCenter().dst(any())).thenReturn(b.approachRange - 1);
+		when(boat.getCenterX()).thenReturn(x + b.approachRange - 1);
 		b.updateAIState();
 		assertEquals(AIBoat.AIState.APPROACH, b.state);
 
-		when(boat.getCenter().dst(any())).thenReturn(b.approachRange + 1);
+		when(boat.getCenterX()).thenReturn(x + b.approachRange + 1);
 		b.updateAIState();
 		assertEquals(AIBoat.AIState.IDLE, b.state);
 	}
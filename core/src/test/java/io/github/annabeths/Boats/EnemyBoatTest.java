@@ -3,10 +3,12 @@ package io.github.annabeths.Boats;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -119,4 +121,27 @@ public class EnemyBoatTest {
 		}
 	}
 
+	@Test
+	public void testApproachFollowsPlayerFlow() {
+		EnemyBoat e = mock(EnemyBoat.class, withSettings()
+				.useConstructor(gc, new Vector2(2500, 2500)).defaultAnswer(CALLS_REAL_METHODS));
+		gc.playerFlow.update(gc.getNavigation(), gc.playerBoat);
+		doReturn(false).when(e).isDestValid(any(Vector2.class));
+		e.target = gc.playerBoat;
+		e.approach(1);
+
+		Vector2 expected = new Vector2();
+		assertTrue(gc.playerFlow.getNextPoint(e.getCenterX(), e.getCenterY(), expected));
+		assertEquals(expected, e.destination);
+	}
+
+	@Test
+	public void testPursuitField() {
+		assertNull(b.getPursuitField());
+		b.target = gc.playerBoat;
+		assertSame(gc.playerFlow, b.getPursuitField());
+		b.target = new FriendlyBoat(gc, new Vector2(0, 0));
+		assertSame(gc.friendlyFlow, b.getPursuitField());
+	}
+
 }
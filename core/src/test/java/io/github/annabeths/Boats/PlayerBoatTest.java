@@ -533,6 +533,22 @@ public class PlayerBoatTest {
 		verify(b, times(1)).activatePowerup(eq(powerups[4]));
 	}
 
+	@Test
+	public void testQueuedInputHandledOnce() {
+		when(Gdx.input.isKeyJustPressed(Input.Keys.SPACE)).thenReturn(true);
+		when(input.isKeyJustPressed(Keys.NUM_1)).thenReturn(true);
+		b.queueInput();
+		b.timeSinceLastShot = 10;
+		b.processInput(1f);
+		assertEquals(0, b.timeSinceLastShot);
+
+		// a second update in the same frame does not see the press again
+		b.timeSinceLastShot = 10;
+		b.processInput(1f);
+		assertEquals(10, b.timeSinceLastShot);
+		verify(b, times(1)).activatePowerup(eq(PowerupType.values()[0]));
+	}
+
 	@Test
 	public void testReceivePowerupLimit() {
 		assertTrue(gc.playerBoat.receivePower(PowerupType.DAMAGE));
@@ -2,6 +2,7 @@ package io.github.annabeths.GameGenerics;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +47,35 @@ public class GameObjectTest {
 		assertEquals(new Vector2(150, 150), go.getCenter());
 	}
 
+	@Test
+	public void testCenterOut() {
+		GameObject go = new GameObject() {
+		};
+		go.position = new Vector2(100, 100);
+		go.sprite = new Sprite();
+		go.sprite.setSize(100, 50);
+		Vector2 out = new Vector2();
+		assertSame(out, go.getCenter(out));
+		assertEquals(new Vector2(150, 125), out);
+	}
+
+	@Test
+	public void testDst2To() {
+		GameObject a = new GameObject() {
+		};
+		a.position = new Vector2(0, 0);
+		a.sprite = new Sprite();
+		a.sprite.setSize(10, 10);
+		GameObject b = new GameObject() {
+		};
+		b.position = new Vector2(30, 40);
+		b.sprite = new Sprite();
+		b.sprite.setSize(10, 10);
+		assertEquals(2500, a.dst2To(b));
+		assertEquals(2500, b.dst2To(a));
+		assertEquals(a.getCenter().dst2(b.getCenter()), a.dst2To(b));
+	}
+
 	@Test
 	public void testSetCenter() {
 		GameObject go = new GameObject() {
@@ -0,0 +1,121 @@
+package io.github.annabeths.GameGenerics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Iterator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.Boats.AIBoat;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
+
+public class PhysicsObjectListTest {
+
+	GameController gc;
+	PhysicsObjectList list;
+	NeutralBoat neutral;
+	EnemyBoat enemy;
+	Mine mine;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+		list = new PhysicsObjectList();
+		neutral = new NeutralBoat(gc, new Vector2(0, 0));
+		enemy = new EnemyBoat(gc, new Vector2(0, 0));
+		mine = new Mine(gc, new Vector2(0, 0));
+		list.add(neutral);
+		list.add(enemy);
+		list.add(mine);
+	}
+
+	@Test
+	public void testGroups() {
+		assertEquals(3, list.getGroupCount());
+		assertTrue(list.getGroup(Mine.class).contains(mine, true));
+		assertEquals(1, list.getGroup(EnemyBoat.class).size);
+		// groups are in the order their type was first added
+		assertEquals(neutral, list.getGroup(0).first());
+		assertEquals(mine, list.getGroup(2).first());
+	}
+
+	@Test
+	public void testGetAllIncludesSubclasses() {
+		Array<AIBoat> boats = new Array<>();
+		list.getAll(AIBoat.class, boats);
+		assertEquals(2, boats.size);
+		assertTrue(boats.contains(neutral, true));
+		assertTrue(boats.contains(enemy, true));
+		assertEquals(3, list.count(PhysicsObject.class));
+	}
+
+	@Test
+	public void testRemove() {
+		list.remove(enemy);
+		assertTrue(list.getGroup(EnemyBoat.class).isEmpty());
+
+		list.remove(0);
+		assertTrue(list.getGroup(NeutralBoat.class).isEmpty());
+		assertEquals(1, list.count(PhysicsObject.class));
+	}
+
+	@Test
+	public void testRemoveIf() {
+		list.add(new Mine(gc, new Vector2(100, 100)));
+		list.removeIf(p -> p == mine || p == neutral);
+		assertEquals(1, list.getGroup(Mine.class).size);
+		assertFalse(list.getGroup(Mine.class).contains(mine, true));
+		assertTrue(list.getGroup(NeutralBoat.class).isEmpty());
+	}
+
+	@Test
+	public void testIteratorRemove() {
+		for (Iterator<PhysicsObject> it = list.iterator(); it.hasNext();) {
+			if (it.next() instanceof Mine) it.remove();
+		}
+		assertTrue(list.getGroup(Mine.class).isEmpty());
+	}
+
+	@Test
+	public void testUntrackedChangeRebuilds() {
+		list.subList(0, 2).clear();
+		assertTrue(list.getGroup(NeutralBoat.class).isEmpty());
+		assertTrue(list.getGroup(EnemyBoat.class).isEmpty());
+		assertEquals(1, list.getGroup(Mine.class).size);
+	}
+
+	@Test
+	public void testSetAndClear() {
+		Mine other = new Mine(gc, new Vector2(100, 100));
+		list.set(0, other);
+		assertTrue(list.getGroup(NeutralBoat.class).isEmpty());
+		assertEquals(2, list.getGroup(Mine.class).size);
+
+		list.clear();
+		assertEquals(0, list.count(PhysicsObject.class));
+	}
+
+}
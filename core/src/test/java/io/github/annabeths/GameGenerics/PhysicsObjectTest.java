@@ -1,6 +1,8 @@
 package io.github.annabeths.GameGenerics;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.Boats.NeutralBoat;
@@ -44,4 +47,52 @@ public class PhysicsObjectTest {
 		assertFalse(nb.CheckCollisionWith(nb2));
 	}
 
+	@Test
+	public void testCollisionRotated() {
+		NeutralBoat nb = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat nb2 = new NeutralBoat(gc, new Vector2(100, 100));
+		nb2.collisionPolygon.setRotation(90);
+
+		assertTrue(nb.CheckCollisionWith(nb2));
+		assertTrue(nb2.CheckCollisionWith(nb));
+	}
+
+	@Test
+	public void testBoundsMatchPolygon() {
+		NeutralBoat nb = new NeutralBoat(gc, new Vector2(100, 100));
+		assertEquals(nb.collisionPolygon.getBoundingRectangle(), nb.getBounds());
+	}
+
+	@Test
+	public void testBoundsCached() {
+		NeutralBoat nb = new NeutralBoat(gc, new Vector2(100, 100));
+		Rectangle bounds = nb.getBounds();
+		Rectangle copy = new Rectangle(bounds);
+
+		// the same instance is returned and not recalculated if nothing changed
+		assertSame(bounds, nb.getBounds());
+		assertEquals(copy, nb.getBounds());
+	}
+
+	@Test
+	public void testBoundsUpdateOnMove() {
+		NeutralBoat nb = new NeutralBoat(gc, new Vector2(100, 100));
+		float x = nb.getBounds().x;
+
+		nb.collisionPolygon.translate(50, 0);
+		assertEquals(x + 50, nb.getBounds().x, 0.001f);
+		assertEquals(nb.collisionPolygon.getBoundingRectangle(), nb.getBounds());
+	}
+
+	@Test
+	public void testBoundsUpdateOnRotate() {
+		NeutralBoat nb = new NeutralBoat(gc, new Vector2(100, 100));
+		nb.getBounds();
+
+		nb.collisionPolygon.setRotation(45);
+		assertEquals(nb.collisionPolygon.getBoundingRectangle(), nb.getBounds());
+		nb.collisionPolygon.setOrigin(0, 0);
+		assertEquals(nb.collisionPolygon.getBoundingRectangle(), nb.getBounds());
+	}
+
 }
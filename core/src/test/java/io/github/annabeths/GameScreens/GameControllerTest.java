@@ -12,6 +12,7 @@ import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockingDetails;
@@ -46,6 +47,7 @@ import io.github.annabeths.GeneralControl.DebugUtils;
 import io.github.annabeths.GeneralControl.TestHelper;
 import io.github.annabeths.GeneralControl.eng1game;
 import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
 import io.github.annabeths.Obstacles.Weather;
 import io.github.annabeths.Projectiles.ProjectileData;
 import io.github.annabeths.Projectiles.ProjectileRay;
@@ -93,6 +95,19 @@ public class GameControllerTest {
 		verify(gc, times(1)).gameOver();
 	}
 
+	@Test
+	public void testTickWithoutShow() {
+		// nothing used to show the game is needed to simulate it
+		gc.hud = null;
+		gc.map = null;
+		gc.batch = null;
+		gc.sr = null;
+		float time = gc.timer;
+		assertDoesNotThrow(() -> gc.logic(1));
+		assertDoesNotThrow(() -> gc.tick(1));
+		assertEquals(time - 2, gc.timer);
+	}
+
 	@Test
 	public void testGameOver() {
 		gc.gameOver();
@@ -257,6 +272,77 @@ public class GameControllerTest {
 		verify(nb, times(1)).OnCollision(any(PlayerBoat.class));
 	}
 
+	@Test
+	public void testUpdateObjectsCollisionBruteForce() {
+		DebugUtils.BRUTE_FORCE_COLLISIONS = true;
+		NeutralBoat nb = mock(NeutralBoat.class, withSettings()
+				.useConstructor(gc, gc.playerBoat.position).defaultAnswer(CALLS_REAL_METHODS));
+		gc.physicsObjects.add(nb);
+
+		gc.UpdateObjects(1);
+		DebugUtils.BRUTE_FORCE_COLLISIONS = false;
+		verify(nb, times(1)).OnCollision(any(PlayerBoat.class));
+	}
+
+	@Test
+	public void testUpdateObjectsCollisionOncePerContact() {
+		NeutralBoat nb = mock(NeutralBoat.class, withSettings()
+				.useConstructor(gc, gc.playerBoat.position).defaultAnswer(CALLS_REAL_METHODS));
+		doNothing().when(nb).OnCollision(any());
+		gc.physicsObjects.add(nb);
+
+		gc.UpdateObjects(1);
+		gc.UpdateObjects(1);
+		verify(nb, times(1)).OnCollision(any(PlayerBoat.class));
+		verify(nb, times(1)).OnCollisionStay(any(PlayerBoat.class), anyFloat());
+		assertTrue(gc.contacts.isTouching(nb, gc.playerBoat));
+	}
+
+	@Test
+	public void testUpdateObjectsRemovedNotCollided() {
+		NeutralBoat nb = mock(NeutralBoat.class, withSettings()
+				.useConstructor(gc, gc.playerBoat.position).defaultAnswer(CALLS_REAL_METHODS));
+		gc.physicsObjects.add(nb);
+		gc.UpdateObjects(1);
+
+		// an object taken out of the world should leave the broadphase too
+		gc.physicsObjects.remove(nb);
+		gc.UpdateObjects(1);
+		assertFalse(gc.collisionGrid.contains(nb));
+		assertTrue(gc.collisionGrid.contains(gc.playerBoat));
+	}
+
+	@Test
+	public void testStaticIndexBuilt() {
+		gc.physicsObjects.forEach(p -> assertEquals(p.getCollisionLayer().isStatic,
+				gc.staticGrid.contains(p)));
+		assertTrue(gc.staticGrid.contains(gc.bossCollege));
+		assertFalse(gc.staticGrid.contains(gc.playerBoat));
+	}
+
+	@Test
+	public void testStaticIndexPatched() {
+		Mine m = new Mine(gc, new Vector2(2000, 2000));
+		gc.NewPhysicsObject(m);
+		assertTrue(gc.staticGrid.contains(m));
+
+		m.kill();
+		gc.ClearKilledObjects();
+		assertFalse(gc.staticGrid.contains(m));
+	}
+
+	@Test
+	public void testUpdateObjectsStaticCollision() {
+		Mine m = mock(Mine.class, withSettings().useConstructor(gc, gc.playerBoat.getCenter())
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.NewPhysicsObject(m);
+
+		gc.UpdateObjects(1);
+		verify(m, times(1)).OnCollision(gc.playerBoat);
+		// static objects are never moved into the moving object broadphase
+		assertFalse(gc.collisionGrid.contains(m));
+	}
+
 	@Test
 	public void testAddXP() {
 		gc.addXp(10);
@@ -0,0 +1,85 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Collectables.Powerup;
+import io.github.annabeths.Collectables.PowerupType;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.Level.GameMap;
+
+public class CommandBufferTest {
+
+	GameController gc;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+	}
+
+	@Test
+	public void testHeldWhileRecording() {
+		PhysicsObject p = new Powerup(PowerupType.SPEED, new Vector2(100, 100));
+		float xp = gc.getXp();
+		int plunder = gc.getPlunder();
+
+		gc.commands.begin();
+		gc.NewPhysicsObject(p);
+		gc.addXp(10);
+		gc.addPlunder(10);
+		assertFalse(gc.physicsObjects.contains(p));
+		assertEquals(xp, gc.getXp());
+		assertEquals(plunder, gc.getPlunder());
+		assertEquals(3, gc.commands.size());
+
+		gc.commands.flush(gc);
+		assertFalse(gc.commands.isRecording());
+		assertEquals(0, gc.commands.size());
+		assertTrue(gc.physicsObjects.contains(p));
+		assertTrue(gc.staticGrid.contains(p));
+		assertTrue(gc.getXp() > xp);
+		assertTrue(gc.getPlunder() > plunder);
+	}
+
+	@Test
+	public void testAppliedInOrder() {
+		PhysicsObject a = new Powerup(PowerupType.SPEED, new Vector2(100, 100));
+		PhysicsObject b = new Powerup(PowerupType.DAMAGE, new Vector2(200, 100));
+		int size = gc.physicsObjects.size();
+
+		gc.commands.begin();
+		gc.NewPhysicsObject(a);
+		gc.NewPhysicsObject(b);
+		gc.commands.flush(gc);
+
+		assertEquals(a, gc.physicsObjects.get(size));
+		assertEquals(b, gc.physicsObjects.get(size + 1));
+	}
+
+	@Test
+	public void testNotHeldWhenNotRecording() {
+		PhysicsObject p = new Powerup(PowerupType.SPEED, new Vector2(100, 100));
+		gc.NewPhysicsObject(p);
+		assertTrue(gc.physicsObjects.contains(p));
+		assertEquals(0, gc.commands.size());
+	}
+
+}
@@ -15,6 +15,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,8 +30,9 @@ import com.badlogic.gdx.math.Vector2;
 import io.github.annabeths.Boats.AIBoat;
 import io.github.annabeths.Boats.PlayerBoat;
 import io.github.annabeths.Colleges.College;
-import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameGenerics.PhysicsObjectList;
 import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.FrameProfiler.Phase;
 import io.github.annabeths.Level.GameMap;
 import io.github.annabeths.Projectiles.ProjectileRay;
 
@@ -44,7 +46,9 @@ public class DebugUtilsTest {
 		gc = mock(GameController.class);
 		gc.map = mock(GameMap.class);
 		gc.colleges = new ArrayList<College>();
-		gc.physicsObjects = new ArrayList<PhysicsObject>();
+		gc.entities = new PhysicsObjectList();
+		gc.physicsObjects = gc.entities;
+		gc.lod = new SimulationLOD();
 		gc.rays = new ArrayList<ProjectileRay>();
 		gc.playerBoat = new PlayerBoat(gc, new Vector2(0, 0));
 	}
@@ -60,6 +64,28 @@ public class DebugUtilsTest {
 		assertNotNull(m.invoke(null, gc));
 	}
 
+	@Test
+	public void testGenerateDebugTextProfiled() throws Exception {
+		Method m = DebugUtils.class.getDeclaredMethod("generateDebugText", GameController.class);
+		m.setAccessible(true);
+		gc.physicsObjects.add(gc.playerBoat);
+
+		@SuppressWarnings("unchecked")
+		List<String> plain = (List<String>) m.invoke(null, gc);
+		DebugUtils.PROFILE_FRAMES = true;
+		try {
+			@SuppressWarnings("unchecked")
+			List<String> profiled = (List<String>) m.invoke(null, gc);
+			assertTrue(profiled.size() > plain.size());
+			assertTrue(profiled.contains("PlayerBoat: 1"));
+			for (Phase phase : Phase.values()) {
+				assertTrue(profiled.stream().anyMatch(s -> s.startsWith(phase.getLabel())));
+			}
+		} finally {
+			DebugUtils.PROFILE_FRAMES = false;
+		}
+	}
+
 //	@Test
 //	public void testTimeCodeMs() {
 //		long time = DebugUtils.timeCodeMs(() -> {
@@ -99,6 +125,7 @@ public class DebugUtilsTest {
 		assertFalse(DebugUtils.DRAW_DEBUG_TEXT);
 		assertTrue(DebugUtils.ENEMY_COLLEGE_FIRE);
 		assertFalse(DebugUtils.FORCE_POWERUP);
+		assertFalse(DebugUtils.PROFILE_FRAMES);
 
 		// ensure the debug field in eng1game is false by default
 		Field f = eng1game.class.getDeclaredField("debug");
@@ -0,0 +1,42 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class FixedTimestepTest {
+
+	@Test
+	public void testAdvance() {
+		FixedTimestep t = new FixedTimestep(10, 5);
+		assertEquals(0.1f, t.getStep(), 0.0001f);
+		assertEquals(0, t.advance(0.05f));
+		assertEquals(0.5f, t.getAlpha(), 0.001f);
+		// the time left over is carried into the next frame
+		assertEquals(1, t.advance(0.07f));
+		assertEquals(0.2f, t.getAlpha(), 0.001f);
+		assertEquals(3, t.advance(0.3f));
+	}
+
+	@Test
+	public void testCatchUpCapped() {
+		FixedTimestep t = new FixedTimestep(60, 4);
+		assertEquals(4, t.advance(2));
+		// the time that could not be caught up on is dropped
+		assertEquals(0, t.getAlpha(), 0.001f);
+		assertEquals(1, t.advance(1 / 60f));
+	}
+
+	@Test
+	public void testTickRate() {
+		FixedTimestep t = new FixedTimestep(60, 5);
+		t.setTickRate(30);
+		assertEquals(30, t.getTickRate());
+		t.setMaxTicks(100);
+		assertEquals(30, t.advance(1.01f));
+		assertThrows(IllegalArgumentException.class, () -> t.setTickRate(0));
+		assertThrows(IllegalArgumentException.class, () -> t.setMaxTicks(0));
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.GeneralControl.FrameProfiler.Phase;
+import io.github.annabeths.Obstacles.Mine;
+
+public class FrameProfilerTest {
+
+	private static final long MS = 1000000;
+
+	@BeforeEach
+	public void setup() {
+		DebugUtils.PROFILE_FRAMES = true;
+		FrameProfiler.reset();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		DebugUtils.PROFILE_FRAMES = false;
+		FrameProfiler.reset();
+	}
+
+	/** Pretend a phase took a number of milliseconds */
+	private static void spend(Phase phase, long ms) {
+		FrameProfiler.stop(phase, System.nanoTime() - ms * MS);
+	}
+
+	@Test
+	public void testDisabled() {
+		DebugUtils.PROFILE_FRAMES = false;
+		assertEquals(0, FrameProfiler.start());
+		spend(Phase.COLLISION, 5);
+		FrameProfiler.endFrame();
+		assertEquals(0, FrameProfiler.getFrameCount());
+		assertEquals(0, FrameProfiler.getAverageMs(Phase.COLLISION));
+	}
+
+	@Test
+	public void testSpriteDrawCalls() {
+		FrameProfiler.setSpriteDrawCalls(3);
+		assertEquals(3, FrameProfiler.getSpriteDrawCalls());
+		DebugUtils.PROFILE_FRAMES = false;
+		FrameProfiler.setSpriteDrawCalls(40);
+		assertEquals(3, FrameProfiler.getSpriteDrawCalls());
+		FrameProfiler.reset();
+		assertEquals(0, FrameProfiler.getSpriteDrawCalls());
+	}
+
+	@Test
+	public void testTurnedOnDuringPhase() {
+		DebugUtils.PROFILE_FRAMES = false;
+		long t = FrameProfiler.start();
+		DebugUtils.PROFILE_FRAMES = true;
+		FrameProfiler.stop(Phase.COLLISION, t);
+		FrameProfiler.endFrame();
+		assertEquals(0, FrameProfiler.getAverageMs(Phase.COLLISION), 0.001f);
+	}
+
+	@Test
+	public void testPhasesAddUpOverFrame() {
+		// a frame that runs two ticks
+		spend(Phase.ENTITY_UPDATE, 2);
+		spend(Phase.ENTITY_UPDATE, 3);
+		FrameProfiler.endFrame();
+		assertEquals(1, FrameProfiler.getFrameCount());
+		assertEquals(5, FrameProfiler.getAverageMs(Phase.ENTITY_UPDATE), 0.5f);
+		assertEquals(0, FrameProfiler.getAverageMs(Phase.HUD_DRAW), 0.001f);
+	}
+
+	@Test
+	public void testAverageAndP99() {
+		for (int i = 0; i < 99; i++) {
+			spend(Phase.SPRITE_DRAW, 1);
+			FrameProfiler.endFrame();
+		}
+		spend(Phase.SPRITE_DRAW, 50);
+		FrameProfiler.endFrame();
+		assertEquals(1.49f, FrameProfiler.getAverageMs(Phase.SPRITE_DRAW), 0.1f);
+		// the single slow frame is the slowest 1%, so is not the 99th percentile
+		assertEquals(1, FrameProfiler.getP99Ms(Phase.SPRITE_DRAW), 0.1f);
+
+		spend(Phase.SPRITE_DRAW, 50);
+		FrameProfiler.endFrame();
+		assertEquals(50, FrameProfiler.getP99Ms(Phase.SPRITE_DRAW), 0.5f);
+	}
+
+	@Test
+	public void testWindow() {
+		spend(Phase.COLLISION, 20);
+		FrameProfiler.endFrame();
+		for (int i = 0; i < FrameProfiler.WINDOW; i++) {
+			spend(Phase.COLLISION, 1);
+			FrameProfiler.endFrame();
+		}
+		// the slow frame has been pushed out of the window
+		assertEquals(FrameProfiler.WINDOW, FrameProfiler.getFrameCount());
+		assertEquals(1, FrameProfiler.getAverageMs(Phase.COLLISION), 0.1f);
+		assertEquals(1, FrameProfiler.getP99Ms(Phase.COLLISION), 0.1f);
+	}
+
+	@Test
+	public void testPairCounts() {
+		EnemyBoat boat = mock(EnemyBoat.class);
+		Mine mine = mock(Mine.class);
+		FrameProfiler.countPair(boat, mine);
+		FrameProfiler.countPair(mine, boat);
+		FrameProfiler.countPair(boat, boat);
+		// counts are shown once the frame is finished
+		assertEquals(0, FrameProfiler.getPairCount(boat.getClass(), mine.getClass()));
+		FrameProfiler.endFrame();
+		assertEquals(2, FrameProfiler.getPairCount(boat.getClass(), mine.getClass()));
+		assertEquals(2, FrameProfiler.getPairCount(mine.getClass(), boat.getClass()));
+		assertEquals(1, FrameProfiler.getPairCount(boat.getClass(), boat.getClass()));
+
+		List<String> lines = new ArrayList<>();
+		FrameProfiler.describePairs(lines);
+		assertEquals(2, lines.size());
+		assertTrue(lines.stream().anyMatch(s -> s.endsWith(": 2")));
+
+		// and forgotten after the next frame
+		FrameProfiler.endFrame();
+		assertEquals(0, FrameProfiler.getPairCount(boat.getClass(), mine.getClass()));
+	}
+
+}
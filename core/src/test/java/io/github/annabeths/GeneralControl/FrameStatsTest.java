@@ -0,0 +1,90 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+import io.github.annabeths.GameScreens.GameController;
+
+public class FrameStatsTest {
+
+	GameController gc;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = new GameController(mock(eng1game.class), Difficulty.EASY, 5);
+	}
+
+	@Test
+	public void testRecordTicks() {
+		gc.frameStats = new FrameStats(null);
+		for (int i = 0; i < 60; i++) {
+			gc.tick(gc.timestep.getStep());
+		}
+		assertEquals(60, gc.frameStats.getTickTimes().getCount());
+		assertEquals(0, gc.frameStats.getFrameTimes().getCount());
+		assertTrue(gc.frameStats.getPeakEntities() >= gc.physicsObjects.size());
+	}
+
+	@Test
+	public void testJson() {
+		FrameStats stats = new FrameStats(null);
+		stats.recordFrame(1 / 60f);
+		stats.recordFrame(1 / 30f);
+		stats.recordTick(2_000_000, 40);
+		stats.recordTick(1_000_000, 25);
+
+		JsonValue json = new JsonReader().parse(stats.toJson(gc, "win"));
+		assertEquals("win", json.getString("result"));
+		assertEquals("EASY", json.getString("difficulty"));
+		assertEquals(5, json.getLong("seed"));
+		assertEquals(40, json.getInt("peakEntities"));
+		JsonValue frames = json.get("frames");
+		assertEquals(2, frames.getLong("count"));
+		assertEquals(2, frames.get("buckets").size);
+		JsonValue ticks = json.get("ticks");
+		assertEquals(2000, ticks.getLong("max"));
+		long[] bucket = ticks.get("buckets").get(0).asLongArray();
+		assertEquals(3, bucket.length);
+		assertTrue(bucket[0] <= 1000 && bucket[1] >= 1000);
+		assertEquals(1, bucket[2]);
+	}
+
+	@Test
+	public void testSavedOnceWhenGameEnds() throws IOException {
+		File tmp = File.createTempFile("framestats", ".json");
+		tmp.deleteOnExit();
+		FileHandle file = Gdx.files.absolute(tmp.getAbsolutePath());
+		file.writeString("", false);
+
+		gc.frameStats = new FrameStats(file);
+		gc.tick(gc.timestep.getStep());
+		gc.gameOver();
+		JsonValue json = new JsonReader().parse(file);
+		assertEquals("died", json.getString("result"));
+		assertEquals(1, json.get("ticks").getLong("count"));
+
+		// later endings do not replace the stats
+		gc.frameStats.save(gc, "win");
+		assertFalse(file.readString().contains("\"win\""));
+	}
+
+}
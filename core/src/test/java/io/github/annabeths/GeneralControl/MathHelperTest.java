@@ -0,0 +1,29 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+public class MathHelperTest {
+
+	@Test
+	public void testNormalizeAngle() {
+		assertEquals(10, MathHelper.normalizeAngle(370));
+		assertEquals(350, MathHelper.normalizeAngle(-10));
+	}
+
+	@Test
+	public void testAngleDegMatchesVector() {
+		RandomStream r = new RandomStream(1);
+		for (int i = 0; i < 1000; i++) {
+			float x = r.random(-500f, 500f), y = r.random(-500f, 500f);
+			assertEquals(new Vector2(x, y).angleDeg(), MathHelper.angleDeg(x, y));
+		}
+		assertEquals(0, MathHelper.angleDeg(1, 0));
+		assertEquals(90, MathHelper.angleDeg(0, 1));
+		assertEquals(270, MathHelper.angleDeg(0, -1));
+	}
+
+}
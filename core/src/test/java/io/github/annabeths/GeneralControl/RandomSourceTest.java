@@ -0,0 +1,78 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomSource.Stream;
+
+public class RandomSourceTest {
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@Test
+	public void testSameSeedSameNumbers() {
+		RandomSource a = new RandomSource(42);
+		RandomSource b = new RandomSource(42);
+		for (Stream s : Stream.values()) {
+			for (int i = 0; i < 10; i++) {
+				assertEquals(a.get(s).nextLong(), b.get(s).nextLong());
+			}
+		}
+	}
+
+	@Test
+	public void testStreamsIndependent() {
+		RandomSource a = new RandomSource(42);
+		RandomSource b = new RandomSource(42);
+		// taking numbers from one stream does not move any of the others
+		for (int i = 0; i < 100; i++) {
+			a.get(Stream.WEATHER).nextInt();
+		}
+		assertEquals(a.get(Stream.AI).nextLong(), b.get(Stream.AI).nextLong());
+		assertNotEquals(a.get(Stream.AI).nextLong(), a.get(Stream.LOOT).nextLong());
+	}
+
+	@Test
+	public void testRanges() {
+		RandomStream r = new RandomSource(1).get(Stream.WORLD);
+		for (int i = 0; i < 1000; i++) {
+			int n = r.random(5, 10);
+			assertTrue(n >= 5 && n <= 10);
+			float f = r.random(-1.5f, 1f);
+			assertTrue(f >= -1.5f && f < 1f);
+			assertEquals(1, Math.abs(r.randomSign()));
+		}
+	}
+
+	@Test
+	public void testFallbackWithoutGame() {
+		GameController gc = mock(GameController.class);
+		assertSame(RandomSource.of(null, Stream.AI), RandomSource.of(gc, Stream.AI));
+	}
+
+	@Test
+	public void testSameSeedSameWorld() {
+		GameController a = new GameController(mock(eng1game.class), Difficulty.HARD, 7);
+		GameController b = new GameController(mock(eng1game.class), Difficulty.HARD, 7);
+
+		assertEquals(a.physicsObjects.size(), b.physicsObjects.size());
+		for (int i = 0; i < a.physicsObjects.size(); i++) {
+			PhysicsObject objA = a.physicsObjects.get(i);
+			PhysicsObject objB = b.physicsObjects.get(i);
+			assertEquals(objA.getClass(), objB.getClass());
+			assertEquals(objA.position, objB.position);
+		}
+	}
+
+}
@@ -1,18 +1,47 @@
 package io.github.annabeths.GeneralControl;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class ResourceManagerTest {
 
+	AssetManager assets;
+
 	@BeforeEach
 	public void setup() {
 		TestHelper.setupEnv();
+		assets = mock(AssetManager.class);
+		ResourceManager.init(assets);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		ResourceManager.atlas = null;
+	}
+
+	/** Pack a single image into an atlas, as the build would */
+	private TextureRegion packMine() {
+		TextureAtlas atlas = new TextureAtlas();
+		atlas.addRegion("entity/mine", ResourceManager.nullTex, 0, 0, 1, 1);
+		ResourceManager.atlas = atlas;
+		return atlas.findRegion("entity/mine");
 	}
 
 	@Test
@@ -20,4 +49,41 @@ public class ResourceManagerTest {
 		assertDoesNotThrow(() -> ResourceManager.init(mock(AssetManager.class)));
 	}
 
+	@Test
+	public void testGetRegionMissing() {
+		TextureRegion region = ResourceManager.getRegion(null);
+		assertNotNull(region);
+		assertSame(ResourceManager.nullTex, region.getTexture());
+		assertSame(ResourceManager.nullTex,
+				ResourceManager.getRegion("img/entity/nothing.png").getTexture());
+	}
+
+	@Test
+	public void testGetRegionNoTextures() {
+		Texture nullTex = ResourceManager.nullTex;
+		ResourceManager.nullTex = null;
+		try {
+			assertNull(ResourceManager.getRegion("img/entity/mine.png"));
+		} finally {
+			ResourceManager.nullTex = nullTex;
+		}
+	}
+
+	@Test
+	public void testGetRegionFromAtlas() {
+		TextureRegion mine = packMine();
+		assertSame(mine, ResourceManager.getRegion("img/entity/mine.png"));
+		// only images in img/ are packed
+		assertSame(ResourceManager.nullTex,
+				ResourceManager.getRegion("ui/entity/mine.png").getTexture());
+	}
+
+	@Test
+	public void testPackedTexturesNotLoaded() {
+		packMine();
+		clearInvocations(assets);
+		ResourceManager.loadEntityTexture("mine.png");
+		verify(assets, never()).load(eq("img/entity/mine.png"), any());
+	}
+
 }
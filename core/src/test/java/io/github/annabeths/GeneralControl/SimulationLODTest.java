@@ -0,0 +1,146 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.AIBoat.AIState;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+
+public class SimulationLODTest {
+
+	GameController gc;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = new GameController(mock(eng1game.class), Difficulty.MEDIUM, 9);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		SimulationLOD.ENABLED = true;
+	}
+
+	/** A point far enough from the player to be far */
+	private Vector2 farPoint() {
+		return gc.playerBoat.getCenter().add(SimulationLOD.NEAR_HALF_WIDTH + 200, 0);
+	}
+
+	@Test
+	public void testIsFar() {
+		SimulationLOD lod = new SimulationLOD();
+		lod.begin(gc);
+		NeutralBoat near = new NeutralBoat(gc, gc.playerBoat.getCenter().add(300, 300));
+		NeutralBoat far = new NeutralBoat(gc, farPoint());
+		assertFalse(lod.isFar(near));
+		assertTrue(lod.isFar(far));
+
+		SimulationLOD.ENABLED = false;
+		assertFalse(lod.isFar(far));
+	}
+
+	@Test
+	public void testSchedule() {
+		CountingObject obj = new CountingObject();
+		float step = 0.1f;
+		int updates = 0;
+		for (int i = 0; i < 8; i++) {
+			if (obj.updateAtDetail(step, true, 4, 1)) updates++;
+		}
+		// skips one tick to stagger, then is updated every fourth tick
+		assertEquals(2, updates);
+		assertEquals(2, obj.coarse);
+		assertEquals(0, obj.full);
+		assertEquals(0.6f, obj.time, 0.0001f);
+
+		// the time still owed is given back once near again
+		assertTrue(obj.updateAtDetail(step, false, 4, 1));
+		assertEquals(1, obj.full);
+		assertEquals(0.9f, obj.time, 0.0001f);
+	}
+
+	@Test
+	public void testNotCoarseUnlessAllowed() {
+		CountingObject obj = new CountingObject();
+		obj.coarsely = false;
+		SimulationLOD lod = new SimulationLOD();
+		lod.begin(gc);
+		// with no sprite its center is unknown, so it is never far
+		assertTrue(lod.update(obj, 0.1f, 0));
+		assertEquals(1, obj.full);
+		assertEquals(1, lod.getFullUpdates());
+	}
+
+	@Test
+	public void testFarBoatSailsStraight() {
+		NeutralBoat boat = new NeutralBoat(gc, farPoint());
+		boat.UpdateCoarse(0.5f);
+		Vector2 dest = boat.GetDestination();
+		assertEquals(dest.cpy().sub(boat.getCenter()).angleDeg(), boat.rotation, 0.5f);
+	}
+
+	@Test
+	public void testFarAttackBoatForgetsTarget() {
+		EnemyBoat boat = new EnemyBoat(gc, farPoint());
+		boat.target = gc.playerBoat;
+		boat.state = AIState.ATTACK;
+		boat.UpdateCoarse(0.5f);
+		assertNull(boat.target);
+		assertEquals(AIState.IDLE, boat.state);
+		assertTrue(boat.GetDestination() != null);
+	}
+
+	@Test
+	public void testGameSkipsFarObjects() {
+		for (int i = 0; i < 20; i++) {
+			gc.NewPhysicsObject(new NeutralBoat(gc, farPoint().add(0, i * 60)));
+		}
+		gc.tick(gc.timestep.getStep());
+		assertTrue(gc.lod.getSkippedUpdates() > 0);
+		assertTrue(gc.lod.getCoarseUpdates() > 0);
+		// the player is always updated every tick
+		assertTrue(gc.lod.getFullUpdates() > 0);
+	}
+
+	/** Counts how it is updated */
+	static class CountingObject extends PhysicsObject {
+		int full, coarse;
+		float time;
+		boolean coarsely = true;
+
+		@Override
+		public boolean canUpdateCoarsely() {
+			return coarsely;
+		}
+
+		@Override
+		public void Update(float delta) {
+			full++;
+			time += delta;
+		}
+
+		@Override
+		public void UpdateCoarse(float delta) {
+			coarse++;
+			time += delta;
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.FriendlyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Obstacles.Weather;
+import io.github.annabeths.Projectiles.Projectile;
+
+public class StressScenarioTest {
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	private static GameController newGame() {
+		return new GameController(mock(eng1game.class), Difficulty.MEDIUM, 3);
+	}
+
+	@Test
+	public void testPopulate() {
+		GameController gc = newGame();
+		int before = gc.physicsObjects.size();
+		int mines = gc.entities.count(Mine.class);
+		new StressScenario().neutralBoats(3).enemyBoats(4).friendlyBoats(5).mines(6).weather(7)
+				.projectiles(8).populate(gc);
+
+		assertEquals(before + 33, gc.physicsObjects.size());
+		assertEquals(3 + 3, gc.entities.count(NeutralBoat.class));
+		assertEquals(4 + 1, gc.entities.count(EnemyBoat.class));
+		assertEquals(5, gc.entities.count(FriendlyBoat.class));
+		assertEquals(mines + 6, gc.entities.count(Mine.class));
+		assertEquals(7, gc.entities.count(Weather.class));
+		assertEquals(8, gc.entities.count(Projectile.class));
+
+		// the world can be ticked
+		gc.tick(gc.timestep.getStep());
+	}
+
+	@Test
+	public void testMixed() {
+		for (int total : new int[] { 0, 1, 99, 1000 }) {
+			assertEquals(total, StressScenario.mixed(total).getTotal());
+		}
+		GameController gc = newGame();
+		int before = gc.physicsObjects.size();
+		StressScenario.mixed(500).populate(gc);
+		assertEquals(before + 500, gc.physicsObjects.size());
+		assertEquals(100, gc.entities.count(Projectile.class));
+		assertEquals(50, gc.entities.count(Weather.class));
+	}
+
+	@Test
+	public void testSameSeedSameWorld() {
+		GameController a = newGame();
+		GameController b = newGame();
+		StressScenario.mixed(200).populate(a);
+		StressScenario.mixed(200).populate(b);
+		for (int i = 0; i < a.physicsObjects.size(); i++) {
+			PhysicsObject pa = a.physicsObjects.get(i);
+			PhysicsObject pb = b.physicsObjects.get(i);
+			assertEquals(pa.getClass(), pb.getClass());
+			assertTrue(pa.position.epsilonEquals(pb.position));
+		}
+	}
+
+	@Test
+	public void testNegativeCount() {
+		assertThrows(IllegalArgumentException.class, () -> new StressScenario().mines(-1));
+		assertThrows(IllegalArgumentException.class, () -> StressScenario.mixed(-5));
+	}
+
+}
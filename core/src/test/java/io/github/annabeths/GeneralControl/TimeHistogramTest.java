@@ -0,0 +1,62 @@
+package io.github.annabeths.GeneralControl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TimeHistogramTest {
+
+	@Test
+	public void testBuckets() {
+		// every duration falls in the bucket that starts at or before it
+		for (long us = 0; us < 1 << 20; us += 1 + us / 7) {
+			int b = TimeHistogram.bucketOf(us);
+			assertTrue(TimeHistogram.getBucketStart(b) <= us, "start of " + us);
+			assertTrue(TimeHistogram.getBucketEnd(b) >= us, "end of " + us);
+		}
+		// short durations are exact
+		assertEquals(5, TimeHistogram.getBucketStart(TimeHistogram.bucketOf(5)));
+		// buckets are no wider than an eighth of their start
+		int b = TimeHistogram.bucketOf(16667);
+		long width = TimeHistogram.getBucketEnd(b) - TimeHistogram.getBucketStart(b) + 1;
+		assertTrue(width * 16 <= TimeHistogram.getBucketStart(b) * 2);
+		// too long durations are kept in the last bucket
+		assertEquals(TimeHistogram.BUCKETS - 1, TimeHistogram.bucketOf(Long.MAX_VALUE / 1000));
+	}
+
+	@Test
+	public void testPercentiles() {
+		TimeHistogram h = new TimeHistogram();
+		assertEquals(0, h.getValueAtPercentile(99));
+		for (int i = 0; i < 990; i++) {
+			h.record(16_000_000); // 16ms
+		}
+		for (int i = 0; i < 10; i++) {
+			h.record(100_000_000); // 100ms
+		}
+		assertEquals(1000, h.getCount());
+		assertEquals(16000, h.getMin());
+		assertEquals(100000, h.getMax());
+		assertEquals(16840, h.getMean(), 0.001);
+		// within a bucket's width of the true value, and never below it
+		long p50 = h.getValueAtPercentile(50);
+		assertTrue(p50 >= 16000 && p50 < 16000 * 1.07, "p50 " + p50);
+		long p99 = h.getValueAtPercentile(99);
+		assertTrue(p99 >= 16000 && p99 < 16000 * 1.07, "p99 " + p99);
+		assertEquals(100000, h.getValueAtPercentile(99.9));
+		assertEquals(100000, h.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testReset() {
+		TimeHistogram h = new TimeHistogram();
+		h.record(5000);
+		h.reset();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getMin());
+		assertEquals(0, h.getMax());
+		assertEquals(0, h.getBucketCount(TimeHistogram.bucketOf(5)));
+	}
+
+}
@@ -0,0 +1,163 @@
+package io.github.annabeths.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.Colleges.College;
+import io.github.annabeths.Colleges.EnemyCollege;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Projectiles.ProjectileData;
+
+public class FlowFieldTest {
+
+	GameController gc;
+	List<College> colleges;
+	FlowField field;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		colleges = new ArrayList<>();
+		field = new FlowField();
+	}
+
+	private void addCollege(float x, float y) {
+		colleges.add(mock(EnemyCollege.class,
+				withSettings().useConstructor(new Vector2(x, y), "", "", gc, ProjectileData.ENEMY,
+						100f).defaultAnswer(CALLS_REAL_METHODS)));
+	}
+
+	private PhysicsObject targetAt(float x, float y) {
+		PhysicsObject target = mock(PhysicsObject.class);
+		when(target.getCenterX()).thenReturn(x);
+		when(target.getCenterY()).thenReturn(y);
+		return target;
+	}
+
+	/**
+	 * Follow the field from a point, checking every cell on the way is free
+	 * @return the number of cells passed through before reaching a target's cell
+	 */
+	private int follow(NavigationGrid nav, float x, float y) {
+		Vector2 p = new Vector2(x, y);
+		int steps = 0;
+		while (field.getNextPoint(p.x, p.y, p)) {
+			assertTrue(nav.isCellFree(p.x, p.y), "Path goes through " + p);
+			steps++;
+			assertTrue(steps <= nav.getCellCount(), "Path does not end");
+		}
+		assertEquals(0, field.getDistance(p.x, p.y));
+		return steps;
+	}
+
+	@Test
+	public void testNoTarget() {
+		Vector2 out = new Vector2();
+		assertFalse(field.getNextPoint(100, 100, out));
+		field.update(new NavigationGrid(3000, 3000, colleges), (PhysicsObject) null);
+		assertFalse(field.getNextPoint(100, 100, out));
+		assertEquals(-1, field.getDistance(100, 100));
+	}
+
+	@Test
+	public void testOpenWater() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		field.update(nav, targetAt(2950, 2950));
+		assertEquals(29, field.getDistance(50, 50));
+		assertEquals(29, follow(nav, 50, 50));
+
+		Vector2 out = new Vector2();
+		assertTrue(field.getNextPoint(50, 50, out));
+		assertEquals(new Vector2(150, 150), out);
+	}
+
+	@Test
+	public void testRoutesAroundColleges() {
+		// a wall of colleges across the map, with a gap at the right hand side
+		for (int x = 0; x < 2600; x += 100) {
+			addCollege(x, 1450);
+		}
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		field.update(nav, targetAt(150, 2850));
+		int steps = follow(nav, 150, 150);
+		assertEquals(field.getDistance(150, 150), steps);
+		assertTrue(steps > 27, "Path should go around the wall, took " + steps);
+	}
+
+	@Test
+	public void testUnreachable() {
+		// a wall of colleges right across the map
+		for (int x = 0; x < 3000; x += 100) {
+			addCollege(x, 1450);
+		}
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		field.update(nav, targetAt(150, 2850));
+		assertEquals(-1, field.getDistance(150, 150));
+		assertFalse(field.getNextPoint(150, 150, new Vector2()));
+	}
+
+	@Test
+	public void testLeavesCollegeCell() {
+		addCollege(1000, 1000);
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		field.update(nav, targetAt(2950, 2950));
+		// just below the college, in a cell it overlaps
+		assertFalse(nav.isCellFree(1050, 950));
+		assertEquals(-1, field.getDistance(1050, 950));
+
+		Vector2 out = new Vector2();
+		assertTrue(field.getNextPoint(1050, 950, out));
+		assertTrue(nav.isCellFree(out.x, out.y));
+	}
+
+	@Test
+	public void testNearestOfSeveralTargets() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		Array<PhysicsObject> targets = new Array<>();
+		targets.add(targetAt(2950, 50));
+		targets.add(targetAt(50, 550));
+		field.update(nav, targets);
+		assertEquals(5, field.getDistance(50, 50));
+		assertEquals(0, field.getDistance(2950, 50));
+	}
+
+	@Test
+	public void testOnlyRebuildsWhenTargetChangesCell() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		assertTrue(field.update(nav, targetAt(150, 150)));
+		assertFalse(field.update(nav, targetAt(150, 150)));
+		// still in the same cell
+		assertFalse(field.update(nav, targetAt(190, 110)));
+		assertEquals(1, field.getRebuilds());
+
+		assertTrue(field.update(nav, targetAt(250, 150)));
+		// a new grid, as the colleges changed
+		assertTrue(field.update(new NavigationGrid(3000, 3000, colleges), targetAt(250, 150)));
+		assertEquals(3, field.getRebuilds());
+	}
+
+}
@@ -0,0 +1,179 @@
+package io.github.annabeths.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Colleges.College;
+import io.github.annabeths.Colleges.EnemyCollege;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.RandomStream;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Projectiles.ProjectileData;
+
+public class NavigationGridTest {
+
+	GameController gc;
+	List<College> colleges;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		colleges = new ArrayList<>();
+		colleges.add(newCollege(500, 500));
+		colleges.add(newCollege(2000, 1200));
+		colleges.add(newCollege(1000, 2500));
+	}
+
+	private EnemyCollege newCollege(float x, float y) {
+		return mock(EnemyCollege.class,
+				withSettings().useConstructor(new Vector2(x, y), "", "", gc, ProjectileData.ENEMY,
+						100f).defaultAnswer(CALLS_REAL_METHODS));
+	}
+
+	private boolean exactlyVisible(Vector2 from, Vector2 to) {
+		for (College c : colleges) {
+			if (Intersector.intersectSegmentPolygon(from, to, c.collisionPolygon)) return false;
+		}
+		return true;
+	}
+
+	@Test
+	public void testCellsUnderCollegesNotFree() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		assertEquals(900, nav.getCellCount());
+		assertTrue(nav.getFreeCellCount() < nav.getCellCount());
+		for (College c : colleges) {
+			assertFalse(nav.isCellFree(c.getCenterX(), c.getCenterY()));
+		}
+		assertTrue(nav.isCellFree(2900, 100));
+	}
+
+	@Test
+	public void testNoCollegesAllFree() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, Collections.emptyList());
+		assertEquals(nav.getCellCount(), nav.getFreeCellCount());
+		assertTrue(nav.isVisible(new Vector2(0, 0), new Vector2(3000, 3000)));
+	}
+
+	@Test
+	public void testIsVisible() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		assertFalse(nav.isVisible(new Vector2(0, 0), new Vector2(550, 550)));
+		assertTrue(nav.isVisible(new Vector2(0, 0), new Vector2(10, 0)));
+	}
+
+	@Test
+	public void testIsVisibleMatchesExactTest() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		RandomStream r = new RandomStream(42);
+		for (int i = 0; i < 2000; i++) {
+			Vector2 from = new Vector2(r.random(3000f), r.random(3000f));
+			Vector2 to = new Vector2(r.random(3000f), r.random(3000f));
+			assertEquals(exactlyVisible(from, to), nav.isVisible(from, to),
+					"Path from " + from + " to " + to);
+		}
+	}
+
+	@Test
+	public void testIsVisibleAxisAligned() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		Vector2 c = colleges.get(0).getCenter();
+		assertFalse(nav.isVisible(new Vector2(0, c.y), new Vector2(3000, c.y)));
+		assertFalse(nav.isVisible(new Vector2(c.x, 3000), new Vector2(c.x, 0)));
+		assertTrue(nav.isVisible(new Vector2(c.x, c.y + 300), new Vector2(c.x, c.y + 300)));
+	}
+
+	@Test
+	public void testRandomReachablePoint() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		RandomStream r = new RandomStream(7);
+		for (int i = 0; i < 500; i++) {
+			Vector2 from = nav.getRandomFreePoint(r);
+			Vector2 to = nav.getRandomReachablePoint(from, r);
+			assertTrue(exactlyVisible(from, to), "Path from " + from + " to " + to);
+			assertTrue(GameMap.isPointInBounds(to));
+		}
+	}
+
+	@Test
+	public void testRandomReachablePointBoxedIn() {
+		// surround a point with colleges, so most random points can't be reached
+		colleges.clear();
+		for (int x = 0; x < 3; x++) {
+			for (int y = 0; y < 3; y++) {
+				if (x != 1 || y != 1) colleges.add(newCollege(1000 + x * 200, 1000 + y * 200));
+			}
+		}
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		Vector2 from = colleges.get(0).getCenter().add(200, 200);
+		RandomStream r = new RandomStream(3);
+		for (int i = 0; i < 100; i++) {
+			assertTrue(exactlyVisible(from, nav.getRandomReachablePoint(from, r)));
+		}
+	}
+
+	@Test
+	public void testRandomFreePoint() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		RandomStream r = new RandomStream(1);
+		for (int i = 0; i < 500; i++) {
+			Vector2 p = nav.getRandomFreePoint(r);
+			assertTrue(nav.isCellFree(p.x, p.y));
+			assertTrue(GameMap.isPointInBounds(p));
+		}
+	}
+
+	@Test
+	public void testSameSeedSamePoints() {
+		NavigationGrid nav = new NavigationGrid(3000, 3000, colleges);
+		RandomStream a = new RandomStream(5), b = new RandomStream(5);
+		Vector2 from = new Vector2(100, 100);
+		for (int i = 0; i < 20; i++) {
+			assertEquals(nav.getRandomReachablePoint(from, a),
+					nav.getRandomReachablePoint(from, b));
+		}
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new NavigationGrid(0, 3000, colleges));
+		List<College> many = new ArrayList<>(Collections.nCopies(65, colleges.get(0)));
+		assertThrows(IllegalArgumentException.class,
+				() -> new NavigationGrid(3000, 3000, many));
+	}
+
+	@Test
+	public void testGameControllerNavigation() {
+		NavigationGrid nav = gc.getNavigation();
+		assertSame(nav, gc.getNavigation());
+		gc.invalidateNavigation();
+		assertNotSame(nav, gc.getNavigation());
+	}
+
+}
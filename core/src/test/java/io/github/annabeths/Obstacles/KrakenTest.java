@@ -2,6 +2,7 @@ package io.github.annabeths.Obstacles;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.math.Vector2;
 
 import io.github.annabeths.Boats.PlayerBoat;
@@ -59,8 +61,11 @@ public class KrakenTest {
 	@Test
 	public void testOnCollisionBoat() {
 		PlayerBoat pb = mock(PlayerBoat.class);
+		// the first tick of contact does damage too
 		k.OnCollision(pb);
-		verify(pb, times(1)).damage(anyFloat());
+		verify(pb, times(1)).damage(5 * gc.timestep.getStep());
+		k.OnCollisionStay(pb, 1);
+		verify(pb, times(1)).damage(5f);
 	}
 
 	@Test
@@ -94,8 +99,11 @@ public class KrakenTest {
 	public void testMove() {
 		k.timeOnCurrentDirection = 10;
 		Vector2 pos = k.position.cpy();
+		Sprite sprite = k.sprite;
 		k.Move(1f);
 		assertNotEquals(pos, k.position);
+		// the next frame is swapped on the existing sprite
+		assertSame(sprite, k.sprite);
 	}
 
 	@Test
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyFloat;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
@@ -61,6 +62,8 @@ public class WeatherTest {
 		w.timeUntilNextLightningStrike = -1;
 		w.timeSinceLastStrike = -1;
 		w.timeSinceStrikeStarted = -1;
+		// the frame is swapped on the existing sprite
+		Sprite sprite = w.sprite;
 
 		w.toggleLightning();
 		assertTrue(w.damageActive);
@@ -70,22 +73,32 @@ public class WeatherTest {
 		w.toggleLightning();
 		assertFalse(w.damageActive);
 		assertEquals(0, w.timeSinceStrikeStarted);
+		assertSame(sprite, w.sprite);
 	}
 
 	@Test
 	public void testOnCollisionDamage() {
 		w.damageActive = true;
 		PlayerBoat pb = mock(PlayerBoat.class);
-		assertDoesNotThrow(() -> w.OnCollision(pb));
+		assertDoesNotThrow(() -> w.OnCollisionStay(pb, 1));
 		verify(gc, times(1)).addXp(anyFloat());
 		verify(pb, times(1)).damage(anyFloat());
 	}
 
+	@Test
+	public void testOnCollisionDamagesOnFirstContact() {
+		w.damageActive = true;
+		PlayerBoat pb = mock(PlayerBoat.class);
+		w.OnCollision(pb);
+		verify(gc, times(1)).addXp(gc.timestep.getStep());
+		verify(pb, times(1)).damage(anyFloat());
+	}
+
 	@Test
 	public void testOnCollisionNoDamage() {
 		w.damageActive = false;
 		PlayerBoat pb = mock(PlayerBoat.class);
-		assertDoesNotThrow(() -> w.OnCollision(pb));
+		assertDoesNotThrow(() -> w.OnCollisionStay(pb, 1));
 		verify(gc, times(1)).addXp(anyFloat());
 		verify(pb, never()).damage(anyFloat());
 	}
@@ -94,7 +107,7 @@ public class WeatherTest {
 	public void testOnCollisionInvincible() {
 		w.damageActive = false;
 		gc.playerBoat.activePowerups.put(PowerupType.INVINCIBILITY, 2f);
-		w.OnCollision(gc.playerBoat);
+		w.OnCollisionStay(gc.playerBoat, 1);
 		assertEquals(gc.playerBoat.getMaxHealth(), gc.playerBoat.getHealth());
 	}
 
@@ -102,7 +115,7 @@ public class WeatherTest {
 	public void testOnCollisionNonBoat() {
 		w.damageActive = true;
 		Kraken kraken = mock(Kraken.class);
-		assertDoesNotThrow(() -> w.OnCollision(kraken));
+		assertDoesNotThrow(() -> w.OnCollisionStay(kraken, 1));
 		verify(gc, never()).addXp(anyFloat());
 		verify(kraken, never()).damage(anyFloat());
 	}
@@ -0,0 +1,109 @@
+package io.github.annabeths.Physics;
+
+import static io.github.annabeths.Physics.CollisionLayer.BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.ENEMY_BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.ENEMY_COLLEGE;
+import static io.github.annabeths.Physics.CollisionLayer.KRAKEN;
+import static io.github.annabeths.Physics.CollisionLayer.MINE;
+import static io.github.annabeths.Physics.CollisionLayer.NEUTRAL_BOAT;
+import static io.github.annabeths.Physics.CollisionLayer.OTHER;
+import static io.github.annabeths.Physics.CollisionLayer.PLAYER;
+import static io.github.annabeths.Physics.CollisionLayer.PLAYER_COLLEGE;
+import static io.github.annabeths.Physics.CollisionLayer.POWERUP;
+import static io.github.annabeths.Physics.CollisionLayer.PROJECTILE;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.annabeths.Boats.AIBoat;
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.Boats.PlayerBoat;
+import io.github.annabeths.Colleges.College;
+import io.github.annabeths.Colleges.PlayerCollege;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.Obstacles.Mine;
+import io.github.annabeths.Projectiles.Projectile;
+import io.github.annabeths.Projectiles.ProjectileRay;
+
+public class CollisionTableTest {
+
+	@Test
+	public void testLayerOf() {
+		assertEquals(PLAYER, CollisionLayer.of(PlayerBoat.class));
+		assertEquals(ENEMY_BOAT, CollisionLayer.of(EnemyBoat.class));
+		assertEquals(PROJECTILE, CollisionLayer.of(ProjectileRay.class));
+		assertEquals(BOAT, CollisionLayer.of(AIBoat.class));
+		assertEquals(OTHER, CollisionLayer.of(College.class));
+		// mocks are subclasses, so should be found from their superclass
+		assertEquals(NEUTRAL_BOAT, mock(NeutralBoat.class).getCollisionLayer());
+	}
+
+	@Test
+	public void testNonInteractingPairsDropped() {
+		assertFalse(CollisionTable.canCollide(MINE, MINE));
+		assertFalse(CollisionTable.canCollide(ENEMY_COLLEGE, ENEMY_COLLEGE));
+		assertFalse(CollisionTable.canCollide(ENEMY_COLLEGE, PLAYER_COLLEGE));
+		assertFalse(CollisionTable.canCollide(POWERUP, PROJECTILE));
+		assertFalse(CollisionTable.canCollide(PLAYER_COLLEGE, PLAYER));
+	}
+
+	@Test
+	public void testInteractingPairs() {
+		assertTrue(CollisionTable.canCollide(PLAYER, PROJECTILE));
+		assertTrue(CollisionTable.canCollide(PLAYER, ENEMY_COLLEGE));
+		assertTrue(CollisionTable.canCollide(PROJECTILE, PROJECTILE));
+		assertTrue(CollisionTable.canCollide(BOAT, KRAKEN));
+	}
+
+	@Test
+	public void testMatrixSymmetric() {
+		for (CollisionLayer a : CollisionLayer.values()) {
+			for (CollisionLayer b : CollisionLayer.values()) {
+				assertEquals(CollisionTable.canCollide(a, b), CollisionTable.canCollide(b, a));
+			}
+		}
+	}
+
+	@Test
+	public void testOtherCollidesWithEverything() {
+		for (CollisionLayer layer : CollisionLayer.values()) {
+			assertTrue(CollisionTable.canCollide(OTHER, layer));
+		}
+	}
+
+	@Test
+	public void testHandlers() {
+		assertNotNull(CollisionTable.getHandler(PLAYER, PROJECTILE));
+		assertNotNull(CollisionTable.getHandler(MINE, PLAYER));
+		// the player crashing into a mine is handled by the mine
+		assertNull(CollisionTable.getHandler(PLAYER, MINE));
+	}
+
+	@Test
+	public void testDispatch() {
+		Mine m = mock(Mine.class);
+		PlayerBoat b = mock(PlayerBoat.class);
+		CollisionTable.dispatch(m, b);
+		verify(m).onBoatContact(b);
+
+		Projectile p = mock(Projectile.class);
+		CollisionTable.dispatch(b, p);
+		verify(b).onProjectileHit(p);
+	}
+
+	@Test
+	public void testDispatchNoHandler() {
+		PhysicsObject c = mock(PlayerCollege.class);
+		assertDoesNotThrow(() -> CollisionTable.dispatch(c, mock(PlayerBoat.class)));
+		assertDoesNotThrow(() -> CollisionTable.dispatch(c, null));
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.github.annabeths.Physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
+
+public class ContactCacheTest {
+
+	GameController gc;
+	ContactCache cache;
+	Mine mine;
+	NeutralBoat boat;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+		cache = new ContactCache();
+
+		mine = mock(Mine.class, withSettings().useConstructor(gc, new Vector2(100, 100))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		boat = mock(NeutralBoat.class, withSettings().useConstructor(gc, new Vector2(100, 100))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		// only interested in which callbacks are called
+		doNothing().when(mine).OnCollision(any());
+		doNothing().when(boat).OnCollision(any());
+	}
+
+	private void step(PhysicsObject a, PhysicsObject b) {
+		cache.beginFrame();
+		cache.test(a, b, 1);
+		cache.endFrame();
+	}
+
+	private void moveBoatAway() {
+		boat.collisionPolygon.translate(1000, 1000);
+	}
+
+	@Test
+	public void testEnter() {
+		step(mine, boat);
+		verify(mine, times(1)).OnCollision(boat);
+		verify(boat, times(1)).OnCollision(mine);
+		verify(mine, never()).OnCollisionStay(any(), anyFloat());
+		assertTrue(cache.isTouching(boat, mine));
+	}
+
+	@Test
+	public void testStay() {
+		step(mine, boat);
+		step(boat, mine);
+		step(mine, boat);
+		// the start of the contact is only reported once
+		verify(mine, times(1)).OnCollision(boat);
+		verify(mine, times(2)).OnCollisionStay(boat, 1);
+		verify(boat, times(2)).OnCollisionStay(mine, 1);
+	}
+
+	@Test
+	public void testExit() {
+		step(mine, boat);
+		moveBoatAway();
+		step(mine, boat);
+		verify(mine, times(1)).OnCollisionExit(boat);
+		verify(boat, times(1)).OnCollisionExit(mine);
+		assertFalse(cache.isTouching(mine, boat));
+	}
+
+	@Test
+	public void testExitWhenNotTested() {
+		step(mine, boat);
+		// the pair was not a candidate this frame, e.g. the boat was removed
+		cache.beginFrame();
+		cache.endFrame();
+		verify(mine, times(1)).OnCollisionExit(boat);
+		assertEquals(0, cache.getPairCount());
+	}
+
+	@Test
+	public void testUnmovedPairNotRetested() {
+		step(mine, boat);
+		assertEquals(1, cache.getNarrowphaseTests());
+		step(mine, boat);
+		assertEquals(0, cache.getNarrowphaseTests());
+		verify(mine, times(1)).CheckCollisionWith(boat);
+
+		moveBoatAway();
+		step(mine, boat);
+		assertEquals(1, cache.getNarrowphaseTests());
+	}
+
+	@Test
+	public void testNonInteractingSkipped() {
+		NeutralBoat other = new NeutralBoat(gc, new Vector2(100, 100));
+		step(boat, other);
+		assertEquals(0, cache.getPairCount());
+	}
+
+	@Test
+	public void testRemovedSkipped() {
+		boat.kill();
+		step(mine, boat);
+		verify(mine, never()).OnCollision(any());
+		assertEquals(0, cache.getContactCount());
+	}
+
+}
@@ -0,0 +1,236 @@
+package io.github.annabeths.Physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+
+public class SpatialGridTest {
+
+	GameController gc;
+	SpatialGrid grid;
+	Array<PhysicsObject> out;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+		grid = SpatialGrid.forMap();
+		out = new Array<>();
+	}
+
+	@Test
+	public void testQueryNearby() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(110, 110));
+		NeutralBoat far = new NeutralBoat(gc, new Vector2(2000, 2000));
+		grid.update(a);
+		grid.update(b);
+		grid.update(far);
+
+		grid.query(a, out);
+		assertTrue(out.contains(b, true));
+		assertFalse(out.contains(far, true));
+		// an object is never its own neighbour
+		assertFalse(out.contains(a, true));
+	}
+
+	@Test
+	public void testNoDuplicates() {
+		// large enough to span several cells
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(120, 120));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(125, 125));
+		grid.update(a);
+		grid.update(b);
+
+		grid.query(a, out);
+		assertEquals(1, out.size);
+	}
+
+	@Test
+	public void testMove() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(2000, 2000));
+		grid.update(a);
+		grid.update(b);
+
+		b.setCenter(a.getCenter());
+		b.collisionPolygon.setPosition(a.collisionPolygon.getX(), a.collisionPolygon.getY());
+		grid.update(b);
+
+		grid.query(a, out);
+		assertTrue(out.contains(b, true));
+	}
+
+	@Test
+	public void testSyncRemovesMissing() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(110, 110));
+		List<PhysicsObject> objs = new ArrayList<>();
+		objs.add(a);
+		objs.add(b);
+
+		grid.sync(objs);
+		assertEquals(2, grid.size());
+
+		objs.remove(b);
+		grid.sync(objs);
+		assertEquals(1, grid.size());
+		assertFalse(grid.contains(b));
+		assertTrue(grid.query(a, out).isEmpty());
+	}
+
+	@Test
+	public void testOutOfBoundsClamped() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(-500, -500));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(-900, -900));
+		grid.update(a);
+		grid.update(b);
+
+		// both clamp into the corner cell
+		grid.query(a, out);
+		assertTrue(out.contains(b, true));
+	}
+
+	@Test
+	public void testAreaQuery() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(100, 100));
+		grid.update(a);
+
+		assertTrue(grid.query(new Rectangle(50, 50, 10, 10), out).contains(a, true));
+		out.clear();
+		assertFalse(grid.query(new Rectangle(1500, 1500, 10, 10), out).contains(a, true));
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(110, 110));
+		grid.update(a);
+		grid.update(b);
+
+		grid.remove(a);
+		assertFalse(grid.contains(a));
+		assertTrue(grid.contains(b));
+
+		grid.clear();
+		assertEquals(0, grid.size());
+	}
+
+	/** Records what a ray cast tested and hit, stopping after a number of hits */
+	private static class RecordingCallback implements RayCallback {
+		final float x1, y1, x2, y2;
+		final int limit;
+		final Array<PhysicsObject> tested = new Array<>();
+		final Array<PhysicsObject> hits = new Array<>();
+
+		RecordingCallback(float x1, float y1, float x2, float y2, int limit) {
+			this.x1 = x1;
+			this.y1 = y1;
+			this.x2 = x2;
+			this.y2 = y2;
+			this.limit = limit;
+		}
+
+		@Override
+		public float intersect(PhysicsObject obj) {
+			tested.add(obj);
+			return Sweep.rayCast(x1, y1, x2 - x1, y2 - y1,
+					obj.collisionPolygon.getTransformedVertices());
+		}
+
+		@Override
+		public boolean hit(PhysicsObject obj, float fraction) {
+			hits.add(obj);
+			return hits.size < limit;
+		}
+	}
+
+	@Test
+	public void testRaycastOrder() {
+		NeutralBoat[] line = new NeutralBoat[5];
+		// insert out of order, spread over several cells
+		for (int i = line.length - 1; i >= 0; i--) {
+			line[i] = new NeutralBoat(gc, new Vector2(100 + i * 150, 100));
+			grid.update(line[i]);
+		}
+		NeutralBoat off = new NeutralBoat(gc, new Vector2(2000, 2000));
+		grid.update(off);
+
+		RecordingCallback cb = new RecordingCallback(0, 125, 1000, 125, Integer.MAX_VALUE);
+		assertEquals(line.length, grid.raycast(cb.x1, cb.y1, cb.x2, cb.y2, cb));
+		for (int i = 0; i < line.length; i++) {
+			assertEquals(line[i], cb.hits.get(i));
+		}
+		// objects away from the ray are never looked at
+		assertFalse(cb.tested.contains(off, true));
+	}
+
+	@Test
+	public void testRaycastStopsEarly() {
+		NeutralBoat near = new NeutralBoat(gc, new Vector2(100, 100));
+		NeutralBoat far = new NeutralBoat(gc, new Vector2(1500, 100));
+		grid.update(far);
+		grid.update(near);
+
+		RecordingCallback cb = new RecordingCallback(0, 125, 2000, 125, 1);
+		assertEquals(1, grid.raycast(cb.x1, cb.y1, cb.x2, cb.y2, cb));
+		assertEquals(near, cb.hits.first());
+		// the cells the far boat is in are never reached
+		assertFalse(cb.tested.contains(far, true));
+	}
+
+	@Test
+	public void testRaycastBackwards() {
+		NeutralBoat near = new NeutralBoat(gc, new Vector2(100, 600));
+		NeutralBoat far = new NeutralBoat(gc, new Vector2(100, 100));
+		grid.update(near);
+		grid.update(far);
+
+		RecordingCallback cb = new RecordingCallback(125, 1000, 125, 0, Integer.MAX_VALUE);
+		assertEquals(2, grid.raycast(cb.x1, cb.y1, cb.x2, cb.y2, cb));
+		assertEquals(near, cb.hits.get(0));
+		assertEquals(far, cb.hits.get(1));
+	}
+
+	@Test
+	public void testRaycastSeveralGrids() {
+		SpatialGrid other = SpatialGrid.forMap();
+		NeutralBoat a = new NeutralBoat(gc, new Vector2(500, 100));
+		NeutralBoat b = new NeutralBoat(gc, new Vector2(100, 100));
+		grid.update(a);
+		other.update(b);
+
+		RecordingCallback cb = new RecordingCallback(0, 125, 1000, 125, Integer.MAX_VALUE);
+		assertEquals(2, SpatialGrid.raycast(cb.x1, cb.y1, cb.x2, cb.y2, cb, grid, other));
+		assertEquals(b, cb.hits.get(0));
+		assertEquals(a, cb.hits.get(1));
+	}
+
+}
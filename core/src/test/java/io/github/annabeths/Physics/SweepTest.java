@@ -0,0 +1,48 @@
+package io.github.annabeths.Physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class SweepTest {
+
+	/** A 10x10 square with its corner at 100, 0, wound anticlockwise */
+	float[] square = { 100, 0, 110, 0, 110, 10, 100, 10 };
+	/** The same square wound clockwise */
+	float[] squareCw = { 100, 0, 100, 10, 110, 10, 110, 0 };
+
+	@Test
+	public void testHitFlatSide() {
+		// the circle's edge reaches x = 100 after moving 98 units
+		assertEquals(98 / 200f, Sweep.circleCast(0, 5, 200, 0, 2, square), 0.0001f);
+		assertEquals(98 / 200f, Sweep.circleCast(0, 5, 200, 0, 2, squareCw), 0.0001f);
+	}
+
+	@Test
+	public void testHitCorner() {
+		// passes just above the top left corner, touching it with its edge
+		float t = Sweep.circleCast(0, 11, 200, 0, 2, square);
+		assertEquals(100 - (float) Math.sqrt(3), t * 200, 0.001f);
+	}
+
+	@Test
+	public void testMiss() {
+		assertEquals(-1, Sweep.circleCast(0, 20, 200, 0, 2, square));
+		// stops short
+		assertEquals(-1, Sweep.circleCast(0, 5, 50, 0, 2, square));
+		// moving away
+		assertEquals(-1, Sweep.circleCast(90, 5, -50, 0, 2, square));
+	}
+
+	@Test
+	public void testStartsTouching() {
+		assertEquals(0, Sweep.circleCast(105, 5, 200, 0, 2, square));
+		assertEquals(0, Sweep.circleCast(99, 5, -200, 0, 2, square));
+	}
+
+	@Test
+	public void testNotMoving() {
+		assertEquals(-1, Sweep.circleCast(0, 5, 0, 0, 2, square));
+	}
+
+}
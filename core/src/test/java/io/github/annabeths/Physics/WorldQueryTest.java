@@ -0,0 +1,152 @@
+package io.github.annabeths.Physics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.Boats.EnemyBoat;
+import io.github.annabeths.Boats.NeutralBoat;
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GameGenerics.PhysicsObjectList;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Obstacles.Mine;
+
+public class WorldQueryTest {
+
+	GameController gc;
+	PhysicsObjectList objects;
+	WorldQuery world;
+	Array<PhysicsObject> out;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		gc = mock(GameController.class, withSettings().useConstructor(mock(eng1game.class))
+				.defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+		objects = new PhysicsObjectList();
+		world = new WorldQuery(objects, SpatialGrid.forMap(), SpatialGrid.forMap());
+		out = new Array<>();
+	}
+
+	private EnemyBoat enemyAt(float x, float y) {
+		EnemyBoat b = new EnemyBoat(gc, new Vector2(x, y));
+		objects.add(b);
+		return b;
+	}
+
+	@Test
+	public void testWithin() {
+		EnemyBoat near = enemyAt(100, 100);
+		EnemyBoat far = enemyAt(1000, 100);
+		NeutralBoat other = new NeutralBoat(gc, new Vector2(100, 100));
+		objects.add(other);
+
+		world.within(near.getCenterX(), near.getCenterY(), 300, EnemyBoat.class, out);
+		assertTrue(out.contains(near, true));
+		assertFalse(out.contains(far, true));
+		// only objects of the requested type are returned
+		assertFalse(out.contains(other, true));
+	}
+
+	@Test
+	public void testAny() {
+		EnemyBoat b = enemyAt(100, 100);
+		Mine m = new Mine(gc, new Vector2(2000, 2000));
+		objects.add(m);
+
+		assertTrue(world.any(b.getCenterX(), b.getCenterY(), 50, EnemyBoat.class));
+		assertFalse(world.any(b.getCenterX(), b.getCenterY(), 50, Mine.class));
+		// static objects are searched too
+		assertTrue(world.any(m.getCenterX(), m.getCenterY(), 10, Mine.class));
+	}
+
+	@Test
+	public void testNearest() {
+		enemyAt(600, 100);
+		EnemyBoat closest = enemyAt(300, 100);
+		enemyAt(100, 900);
+
+		assertEquals(closest, world.nearest(0, 100, 1000, EnemyBoat.class));
+		assertNull(world.nearest(0, 100, 200, EnemyBoat.class));
+	}
+
+	@Test
+	public void testKNearest() {
+		EnemyBoat[] line = new EnemyBoat[5];
+		for (int i = line.length - 1; i >= 0; i--) {
+			line[i] = enemyAt(100 + i * 150, 100);
+		}
+
+		world.nearest(0, 100, 3, 2000, EnemyBoat.class, out);
+		assertEquals(3, out.size);
+		for (int i = 0; i < out.size; i++) {
+			assertEquals(line[i], out.get(i));
+		}
+	}
+
+	@Test
+	public void testSkipsRemoved() {
+		EnemyBoat b = enemyAt(100, 100);
+		b.Destroy();
+		assertNull(world.nearest(100, 100, 1000, EnemyBoat.class));
+	}
+
+	@Test
+	public void testFollowsListChanges() {
+		EnemyBoat a = enemyAt(100, 100);
+		assertEquals(a, world.nearest(0, 0, 1000, EnemyBoat.class));
+
+		objects.remove(a);
+		assertNull(world.nearest(0, 0, 1000, EnemyBoat.class));
+	}
+
+	@Test
+	public void testConcurrentQueries() {
+		EnemyBoat[] boats = new EnemyBoat[200];
+		for (int i = 0; i < boats.length; i++) {
+			boats[i] = enemyAt(100 + (i % 20) * 90, 100 + (i / 20) * 90);
+		}
+		world.prepare();
+
+		// every boat's nearest neighbour, found on one thread and then on many
+		EnemyBoat[] serial = new EnemyBoat[boats.length];
+		for (int i = 0; i < boats.length; i++) {
+			serial[i] = nearestOther(boats[i]);
+		}
+		EnemyBoat[] parallel = new EnemyBoat[boats.length];
+		IntStream.range(0, boats.length).parallel()
+				.forEach(i -> parallel[i] = nearestOther(boats[i]));
+
+		for (int i = 0; i < boats.length; i++) {
+			assertEquals(serial[i], parallel[i]);
+		}
+	}
+
+	private EnemyBoat nearestOther(EnemyBoat b) {
+		Array<EnemyBoat> found = new Array<>();
+		world.nearest(b.getCenterX(), b.getCenterY(), 2, 1000, EnemyBoat.class, found);
+		return found.get(1);
+	}
+
+}
@@ -0,0 +1,99 @@
+package io.github.annabeths.Projectiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.math.Vector2;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Level.GameMap;
+
+public class ProjectilePoolTest {
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		ProjectilePool.clear();
+	}
+
+	@Test
+	public void testReuse() {
+		Projectile p = ProjectilePool.obtain(0, 0, 0, ProjectileData.STOCK, true, true, 2, 1);
+		int id = p.getPhysicsId();
+		p.Update(1);
+		p.kill();
+		ProjectilePool.free(p);
+		assertEquals(1, ProjectilePool.getFree(ProjectileData.STOCK));
+
+		Projectile q = ProjectilePool.obtain(100, 50, 90, ProjectileData.STOCK, false, false, 1,
+				1);
+		assertSame(p, q);
+		assertEquals(0, ProjectilePool.getFree(ProjectileData.STOCK));
+		// all of the state from the last use is replaced
+		assertFalse(q.removeOnNextTick());
+		assertEquals(new Vector2(100, 50), q.position);
+		assertEquals(new Vector2(100, 50), q.getPreviousPosition());
+		assertFalse(q.isPlayerProjectile());
+		assertFalse(q.isFriendlyProjectile());
+		assertEquals(ProjectileData.STOCK.damage, q.getDamage());
+		assertEquals(90, q.rotation);
+		assertNotEquals(id, q.getPhysicsId());
+	}
+
+	@Test
+	public void testSeparatePools() {
+		Projectile p = ProjectilePool.obtain(0, 0, 0, ProjectileData.KRAKEN, false, false, 1, 1);
+		ProjectilePool.free(p);
+		assertEquals(0, ProjectilePool.getFree(ProjectileData.STOCK));
+		assertEquals(1, ProjectilePool.getFree(ProjectileData.KRAKEN));
+	}
+
+	@Test
+	public void testFreeTwiceIgnored() {
+		Projectile p = ProjectilePool.obtain(0, 0, 0, ProjectileData.STOCK, false, false, 1, 1);
+		ProjectilePool.free(p);
+		ProjectilePool.free(p);
+		assertEquals(1, ProjectilePool.getFree(ProjectileData.STOCK));
+	}
+
+	@Test
+	public void testUnpooledIgnored() {
+		ProjectilePool.free(new Projectile(new Vector2(0, 0), 0, ProjectileData.STOCK, false));
+		assertEquals(0, ProjectilePool.getFree(ProjectileData.STOCK));
+	}
+
+	@Test
+	public void testFreedWhenCleared() {
+		GameController gc = mock(GameController.class, withSettings()
+				.useConstructor(mock(eng1game.class)).defaultAnswer(CALLS_REAL_METHODS));
+		gc.map = mock(GameMap.class);
+
+		Projectile p = ProjectilePool.obtain(0, 0, 0, ProjectileData.STOCK, false, false, 1, 1);
+		gc.NewPhysicsObject(p);
+		gc.ClearKilledObjects();
+		assertEquals(0, ProjectilePool.getFree(ProjectileData.STOCK));
+
+		p.kill();
+		gc.ClearKilledObjects();
+		assertFalse(gc.physicsObjects.contains(p));
+		assertEquals(1, ProjectilePool.getFree(ProjectileData.STOCK));
+		assertTrue(p.removeOnNextTick());
+	}
+
+}
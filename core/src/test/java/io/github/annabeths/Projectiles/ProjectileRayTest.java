@@ -27,6 +27,7 @@ import io.github.annabeths.GameScreens.GameController;
 import io.github.annabeths.GeneralControl.TestHelper;
 import io.github.annabeths.GeneralControl.eng1game;
 import io.github.annabeths.Level.GameMap;
+import io.github.annabeths.Physics.SpatialGrid;
 
 public class ProjectileRayTest {
 
@@ -182,6 +183,37 @@ public class ProjectileRayTest {
 		assertEquals(expectedHit, hit);
 	}
 
+	@Test
+	public void testFireThroughGrid() {
+		SpatialGrid grid = SpatialGrid.forMap();
+		grid.sync(objects);
+
+		ProjectileRay ray = new ProjectileRay(new Vector2(0, 25), 0, pd, true);
+		ray.fireRay(2, grid);
+
+		// only the two closest boats are hit
+		for (int i = 0; i < sortedObjects.length; i++) {
+			NeutralBoat gb = (NeutralBoat) sortedObjects[i];
+			float expected = i < 2 ? gb.getMaxHealth() - pd.damage : gb.getMaxHealth();
+			assertEquals(expected, gb.getHealth());
+		}
+
+		Vector2 expectedHit = new Vector2();
+		Intersector.nearestSegmentPoint(ray.getOrigin(), ray.getEndPoint(),
+				sortedObjects[1].getCenter(), expectedHit);
+		assertEquals(expectedHit, ray.getFarthestHitPoint());
+	}
+
+	@Test
+	public void testEntryFraction() {
+		ProjectileRay ray = new ProjectileRay(new Vector2(0, 25), 0, pd, true);
+		PhysicsObject first = sortedObjects[0];
+		float t = ray.getEntryFraction(first);
+		// the ray enters the boat at its left edge
+		assertEquals(first.collisionPolygon.getBoundingRectangle().x / 500f, t, 0.001f);
+		assertEquals(-1, ray.getEntryFraction(sortedObjects[sortedObjects.length - 1]));
+	}
+
 	/**
 	 * Test how the {@link ProjectileRay#getIntersectingObjects(List)} method
 	 * handles playerboats when the ray does/doesn't belong to the player
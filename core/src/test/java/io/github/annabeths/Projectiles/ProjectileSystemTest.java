@@ -0,0 +1,167 @@
+package io.github.annabeths.Projectiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Polygon;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+
+import io.github.annabeths.GameGenerics.PhysicsObject;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.Physics.ContactCache;
+import io.github.annabeths.Physics.SpatialGrid;
+
+public class ProjectileSystemTest {
+
+	ProjectileSystem system;
+	Array<Projectile> world;
+	SpatialGrid dynamicGrid;
+	SpatialGrid staticGrid;
+	ContactCache contacts;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		ProjectilePool.clear();
+		system = new ProjectileSystem();
+		world = new Array<>();
+		dynamicGrid = SpatialGrid.forMap();
+		staticGrid = SpatialGrid.forMap();
+		contacts = new ContactCache();
+	}
+
+	private Projectile fire(float x, float y, float rot, boolean isPlayer) {
+		Projectile p = ProjectilePool.obtain(x, y, rot, ProjectileData.STOCK, isPlayer, isPlayer,
+				1, 1);
+		world.add(p);
+		return p;
+	}
+
+	private void collide() {
+		contacts.beginFrame();
+		system.collide(world, dynamicGrid, staticGrid, contacts, 0.1f);
+		contacts.endFrame();
+	}
+
+	@Test
+	public void testUpdateMovesProjectiles() {
+		Projectile p = fire(100, 100, 0, true);
+		system.update(world, 0.1f);
+
+		assertEquals(1, system.size());
+		assertEquals(new Vector2(125, 100), p.position);
+		assertEquals(new Vector2(100, 100), p.getPreviousPosition());
+		// the polygon is centered on the projectile, and the bounds cover its path
+		assertEquals(90, p.getBounds().x, 0.001f);
+		assertEquals(135, p.getBounds().x + p.getBounds().width, 0.001f);
+		assertEquals(ProjectileData.STOCK.damage, system.getDamage(system.indexOf(p)));
+	}
+
+	@Test
+	public void testUpdateKillsAfterRange() {
+		Projectile p = fire(0, 0, 0, true);
+		for (int i = 0; i <= 10; i++) {
+			system.update(world, 1f);
+		}
+		assertTrue(p.removeOnNextTick());
+	}
+
+	@Test
+	public void testFollowsWorld() {
+		Projectile a = fire(0, 0, 0, true);
+		Projectile b = fire(0, 100, 0, true);
+		system.update(world, 0.1f);
+
+		world.removeValue(a, true);
+		Projectile c = fire(0, 200, 90, true);
+		system.update(world, 0.1f);
+
+		assertEquals(2, system.size());
+		assertEquals(-1, system.indexOf(a));
+		assertEquals(0, system.indexOf(b));
+		assertEquals(new Vector2(50, 100), b.position);
+		assertEquals(0, c.position.x, 0.001f);
+		assertEquals(225, c.position.y, 0.001f);
+	}
+
+	@Test
+	public void testReusedProjectileReloaded() {
+		Projectile p = fire(0, 0, 0, true);
+		system.update(world, 0.1f);
+
+		// freed and fired again from somewhere else before the next update
+		world.clear();
+		p.kill();
+		ProjectilePool.free(p);
+		assertEquals(p, fire(500, 500, 0, true));
+		system.update(world, 0.1f);
+
+		assertEquals(new Vector2(525, 500), p.position);
+	}
+
+	@Test
+	public void testCollidesWithObjects() {
+		boolean[] hit = new boolean[1];
+		PhysicsObject wall = new PhysicsObject() {
+			@Override
+			public void OnCollision(PhysicsObject other) {
+				hit[0] = true;
+			}
+		};
+		wall.collisionPolygon = new Polygon(new float[] { 0, 0, 10, 0, 10, 200, 0, 200 });
+		wall.collisionPolygon.setPosition(120, 0);
+		dynamicGrid.update(wall);
+
+		fire(100, 100, 0, true);
+		system.update(world, 0.1f);
+		collide();
+		assertTrue(hit[0]);
+	}
+
+	@Test
+	public void testOpposingProjectilesCollide() {
+		Projectile a = fire(100, 100, 0, true);
+		Projectile b = fire(105, 100, 180, false);
+		Projectile c = fire(1000, 1000, 0, true);
+		Projectile d = fire(1005, 1000, 180, true);
+		system.update(world, 0.01f);
+		collide();
+
+		assertTrue(a.removeOnNextTick());
+		assertTrue(b.removeOnNextTick());
+		// projectiles on the same side pass through each other
+		assertFalse(c.removeOnNextTick());
+		assertFalse(d.removeOnNextTick());
+	}
+
+	@Test
+	public void testDrawOncePerProjectile() {
+		fire(0, 0, 0, true);
+		fire(100, 0, 0, true);
+		world.add(ProjectilePool.obtain(0, 100, 0, ProjectileData.KRAKEN, false, false, 1, 1));
+		system.update(world, 0.1f);
+
+		SpriteBatch batch = mock(SpriteBatch.class);
+		system.draw(batch, 1);
+		verify(batch, times(3)).draw(any(TextureRegion.class), anyFloat(), anyFloat(),
+				anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat(), anyFloat());
+	}
+
+}
@@ -13,8 +13,11 @@ import org.junit.jupiter.api.Test;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Vector2;
 
+import io.github.annabeths.GameGenerics.PhysicsObject;
+
 /**
  * Used to test {@link Projectile}s and {@link ProjectileData}
  * 
@@ -46,6 +49,48 @@ public class ProjectileTest {
 		assertTrue(p.removeOnNextTick());
 	}
 
+	/** A thin wall to fire projectiles through */
+	private PhysicsObject wall(float x) {
+		PhysicsObject wall = new PhysicsObject() {};
+		wall.collisionPolygon = new Polygon(new float[] { 0, 0, 10, 0, 10, 200, 0, 200 });
+		wall.collisionPolygon.setPosition(x, -100);
+		return wall;
+	}
+
+	@Test
+	@DisplayName("Test a fast projectile can't pass through an object in one update")
+	public void testNoTunneling() {
+		Projectile p = new Projectile(new Vector2(0, 0), 0f, projTestData, true);
+		PhysicsObject wall = wall(100);
+
+		// moves 250 units, from one side of the wall to the other
+		p.Update(1f);
+		assertFalse(p.overlapsPolygon(wall));
+		assertTrue(p.CheckCollisionWith(wall));
+		assertTrue(wall.CheckCollisionWith(p));
+		// the circle inside the 20x20 diamond has a radius of 5 * sqrt(2)
+		float radius = 5 * (float) Math.sqrt(2);
+		assertEquals((100 - radius) / 250f, p.getTimeOfImpact(wall), 0.001f);
+	}
+
+	@Test
+	public void testSweepMiss() {
+		Projectile p = new Projectile(new Vector2(0, 0), 0f, projTestData, true);
+		PhysicsObject wall = wall(300);
+
+		p.Update(1f);
+		assertFalse(p.CheckCollisionWith(wall));
+		assertEquals(-1, p.getTimeOfImpact(wall));
+	}
+
+	@Test
+	public void testSweptBounds() {
+		Projectile p = new Projectile(new Vector2(0, 0), 0f, projTestData, true);
+		p.Update(1f);
+		assertEquals(-10, p.getBounds().x, 0.01f);
+		assertEquals(270, p.getBounds().width, 0.01f);
+	}
+
 	@Test
 	@DisplayName("Test speed is the same after being converted to velocity (2d.p.)")
 	public void testSpeedIsEqual() {
@@ -0,0 +1,86 @@
+package io.github.annabeths.Replay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.utils.DataInput;
+import com.badlogic.gdx.utils.DataOutput;
+
+import io.github.annabeths.GameGenerics.Upgrades;
+import io.github.annabeths.Projectiles.ProjectileData;
+
+public class InputFrameTest {
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		InputFrame previous = new InputFrame();
+		previous.aim = 45;
+		InputFrame frame = new InputFrame();
+		frame.up = true;
+		frame.right = true;
+		frame.fire = true;
+		frame.powerups = 0b101;
+		frame.aim = 90;
+		frame.purchases.add(new ShopPurchase(Upgrades.turnspeed, 7.5f, 5, false));
+		frame.purchases.add(ShopPurchase.bullets(ProjectileData.RAY, 500));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		frame.write(new DataOutput(bytes), previous);
+		InputFrame read = new InputFrame().read(
+				new DataInput(new ByteArrayInputStream(bytes.toByteArray())), previous);
+
+		assertTrue(read.up && read.right && read.fire);
+		assertFalse(read.down || read.left);
+		assertEquals(0b101, read.powerups);
+		assertEquals(90, read.aim);
+		assertEquals(2, read.purchases.size);
+		assertEquals(Upgrades.turnspeed, read.purchases.get(0).upgrade);
+		assertEquals(7.5f, read.purchases.get(0).amount);
+		assertEquals(5, read.purchases.get(0).cost);
+		assertFalse(read.purchases.get(0).plunder);
+		assertNull(read.purchases.get(1).upgrade);
+		assertEquals(ProjectileData.RAY, read.purchases.get(1).bullets);
+		assertTrue(read.purchases.get(1).plunder);
+	}
+
+	@Test
+	public void testUnchangedAimNotWritten() throws IOException {
+		InputFrame previous = new InputFrame();
+		previous.aim = 30;
+		InputFrame frame = new InputFrame().set(previous);
+		frame.left = true;
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		frame.write(new DataOutput(bytes), previous);
+		// only the keys are written
+		assertEquals(1, bytes.size());
+
+		InputFrame read = new InputFrame().read(
+				new DataInput(new ByteArrayInputStream(bytes.toByteArray())), previous);
+		assertEquals(30, read.aim);
+		assertTrue(read.left);
+	}
+
+	@Test
+	public void testSameAs() {
+		InputFrame a = new InputFrame();
+		InputFrame b = new InputFrame();
+		assertTrue(a.sameAs(b));
+		b.fire = true;
+		assertFalse(a.sameAs(b));
+		b.set(a);
+		assertTrue(a.sameAs(b));
+		// purchases are only made once, so are never repeated
+		b.purchases.add(new ShopPurchase(Upgrades.speed, 1, 1, false));
+		assertFalse(a.sameAs(b));
+	}
+
+}
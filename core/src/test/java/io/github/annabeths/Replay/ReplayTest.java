@@ -0,0 +1,167 @@
+package io.github.annabeths.Replay;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.annabeths.GameGenerics.Upgrades;
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.TestHelper;
+import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.Projectiles.ProjectileData;
+
+public class ReplayTest {
+
+	static final int TICKS = 900;
+
+	GameController original;
+	Replay replay;
+	byte[] expected;
+
+	@BeforeAll
+	public static void init() {
+		TestHelper.setupEnv();
+	}
+
+	@BeforeEach
+	public void setup() {
+		original = new GameController(mock(eng1game.class), Difficulty.HARD, 11);
+		// a keyframe every 5 seconds, at ticks 300, 600 and 900
+		original.recorder = new ReplayRecorder(original, null, 5);
+		run(original, 0, TICKS);
+		replay = original.recorder.getReplay();
+		expected = Keyframe.capture(original, TICKS).getData();
+	}
+
+	/** The input given by the player at each tick */
+	static InputFrame script(int tick) {
+		InputFrame f = new InputFrame();
+		f.up = tick % 400 < 300;
+		f.left = tick % 250 < 60;
+		f.right = tick % 330 > 280;
+		f.fire = tick % 40 == 0;
+		f.aim = tick / 100 * 15f;
+		return f;
+	}
+
+	static void run(GameController gc, int from, int to) {
+		for (int t = from; t < to && !gc.isEnded(); t++) {
+			if (t == 100) gc.purchase(new ShopPurchase(Upgrades.speed, 10, 0, false));
+			if (t == 200) gc.purchase(ShopPurchase.bullets(ProjectileData.RAY, 0));
+			gc.playerBoat.replayInput(script(t));
+			gc.tick(gc.timestep.getStep());
+		}
+	}
+
+	static void play(GameController gc, int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			gc.tick(gc.timestep.getStep());
+		}
+	}
+
+	@Test
+	public void testRecording() {
+		assertEquals(TICKS, replay.getLength());
+		assertEquals(3, replay.getKeyframes().size);
+		assertEquals(11, replay.getSeed());
+		assertEquals(Difficulty.HARD, replay.getDifficulty());
+		assertEquals(1, replay.getFrame(100).purchases.size);
+		assertEquals(ProjectileData.RAY, replay.getFrame(200).purchases.first().bullets);
+		assertTrue(replay.getFrame(0).up);
+		assertTrue(replay.getFrame(40).fire);
+	}
+
+	@Test
+	public void testReplayFromSeed() {
+		ReplayPlayer player = new ReplayPlayer(replay);
+		GameController gc = player.start(mock(eng1game.class), 0);
+		assertEquals(0, player.getTick());
+		play(gc, TICKS);
+		assertTrue(player.isFinished());
+		assertArrayEquals(expected, Keyframe.capture(gc, TICKS).getData());
+	}
+
+	@Test
+	public void testSeekFromKeyframe() {
+		ReplayPlayer player = new ReplayPlayer(replay);
+		// restored from the keyframe at 600, then played to 800
+		GameController gc = player.start(mock(eng1game.class), 800);
+		assertEquals(800, player.getTick());
+		assertEquals(GameController.PLAY_TIME - 800 * gc.timestep.getStep(), gc.timer, 0.01f);
+		play(gc, TICKS - 800);
+		assertArrayEquals(expected, Keyframe.capture(gc, TICKS).getData());
+	}
+
+	@Test
+	public void testSeekPastEnd() {
+		ReplayPlayer player = new ReplayPlayer(replay);
+		GameController gc = player.start(mock(eng1game.class), TICKS * 2);
+		assertTrue(player.isFinished());
+		assertArrayEquals(expected, Keyframe.capture(gc, TICKS).getData());
+	}
+
+	@Test
+	public void testShopIgnoredWhileReplaying() {
+		ReplayPlayer player = new ReplayPlayer(replay);
+		GameController gc = player.start(mock(eng1game.class), 0);
+		gc.setPlunder(100);
+		gc.purchase(new ShopPurchase(Upgrades.speed, 10, 50, true));
+		assertEquals(100, gc.getPlunder());
+	}
+
+	@Test
+	public void testKeyframeBefore() {
+		assertNull(replay.getKeyframeBefore(299));
+		assertEquals(300, replay.getKeyframeBefore(300).getTick());
+		assertEquals(600, replay.getKeyframeBefore(899).getTick());
+	}
+
+	@Test
+	public void testFileRoundTrip() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		replay.write(bytes);
+		Replay read = Replay.read(new ByteArrayInputStream(bytes.toByteArray()));
+
+		assertEquals(replay.getSeed(), read.getSeed());
+		assertEquals(replay.getDifficulty(), read.getDifficulty());
+		assertEquals(replay.getTickRate(), read.getTickRate());
+		assertEquals(replay.getLength(), read.getLength());
+		for (int i = 0; i < replay.getLength(); i++) {
+			InputFrame a = replay.getFrame(i);
+			InputFrame b = read.getFrame(i);
+			assertEquals(a.purchases.size, b.purchases.size);
+			assertTrue(a.purchases.isEmpty() ? a.sameAs(b) : b.up == a.up);
+		}
+		assertEquals(replay.getKeyframes().size, read.getKeyframes().size);
+		for (int i = 0; i < replay.getKeyframes().size; i++) {
+			assertEquals(replay.getKeyframes().get(i).getTick(),
+					read.getKeyframes().get(i).getTick());
+			assertArrayEquals(replay.getKeyframes().get(i).getData(),
+					read.getKeyframes().get(i).getData());
+		}
+
+		// the read replay plays the same game
+		GameController gc = new ReplayPlayer(read).start(mock(eng1game.class), 700);
+		play(gc, TICKS - 700);
+		assertArrayEquals(expected, Keyframe.capture(gc, TICKS).getData());
+	}
+
+	@Test
+	public void testNotAReplay() {
+		assertThrows(IOException.class,
+				() -> Replay.read(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5 })));
+	}
+
+}
@@ -7,13 +7,23 @@ import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
 import io.github.annabeths.GeneralControl.DebugUtils;
+import io.github.annabeths.GeneralControl.FixedTimestep;
+import io.github.annabeths.GeneralControl.RandomSource;
 import io.github.annabeths.GeneralControl.eng1game;
+import io.github.annabeths.headless.HeadlessLauncher;
 
 public class DesktopLauncher {
 
 	public static void main(String[] arg) {
 		List<String> argList = Arrays.asList(arg);
 
+		// --bench [100,1000,...] times the simulation with more and more objects,
+		// without opening a window. See HeadlessLauncher for its other options.
+		if (argList.contains("--bench")) {
+			HeadlessLauncher.main(arg);
+			return;
+		}
+
 		boolean debug = argList.contains("--debug") || argList.contains("-d");
 
 		if (debug) {
@@ -24,13 +34,46 @@ public class DesktopLauncher {
 			DebugUtils.FORCE_POWERUP = true;
 		}
 
+		// a lower tick rate, like --tick-rate 30, is cheaper to run on slow machines
+		int tickRateArg = argList.indexOf("--tick-rate");
+		if (tickRateArg >= 0 && tickRateArg + 1 < argList.size()) {
+			FixedTimestep.TICK_RATE = Integer.parseInt(argList.get(tickRateArg + 1));
+		}
+
+		// every new game uses the same seed, like --seed 1234, to replay a game
+		int seedArg = argList.indexOf("--seed");
+		if (seedArg >= 0 && seedArg + 1 < argList.size()) {
+			RandomSource.SEED = Long.parseLong(argList.get(seedArg + 1));
+		}
+
+		eng1game game = new eng1game(debug);
+		// --record game.replay saves the input of each new game to the file, and
+		// --replay game.replay plays it back, from --seek <seconds> if given
+		int recordArg = argList.indexOf("--record");
+		if (recordArg >= 0 && recordArg + 1 < argList.size()) {
+			game.setRecordPath(argList.get(recordArg + 1));
+		}
+		int replayArg = argList.indexOf("--replay");
+		if (replayArg >= 0 && replayArg + 1 < argList.size()) {
+			int seekArg = argList.indexOf("--seek");
+			float seek = seekArg >= 0 && seekArg + 1 < argList.size()
+					? Float.parseFloat(argList.get(seekArg + 1))
+					: 0;
+			game.setReplay(argList.get(replayArg + 1), seek);
+		}
+		// --frame-stats stats.json saves a histogram of frame times when a game ends
+		int statsArg = argList.indexOf("--frame-stats");
+		if (statsArg >= 0 && statsArg + 1 < argList.size()) {
+			game.setFrameStatsPath(argList.get(statsArg + 1));
+		}
+
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.setResizable(false);
 		// config.setFullscreenMode(Lwjgl3ApplicationConfiguration.getDisplayMode());
 		config.setWindowedMode(1280, 720);
 		// config.setWindowedMode(1920, 1080);
 		config.setTitle("Mario Shardsoft - Pirate Game");
-		new Lwjgl3Application(new eng1game(debug), config);
+		new Lwjgl3Application(game, config);
 	}
 
 }
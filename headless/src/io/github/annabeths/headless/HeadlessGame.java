@@ -0,0 +1,102 @@
+package io.github.annabeths.headless;
+
+import com.badlogic.gdx.Gdx;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GameScreens.Screens;
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.eng1game;
+
+/**
+ * Runs the game without showing it. A {@link GameController} is created, but
+ * never shown, and is ticked as fast as possible until the game ends or the
+ * number of ticks asked for have been run.
+ * <p>
+ * No textures, fonts or screens are loaded, so this needs no GL context.
+ *
+ * @since Assessment 2
+ */
+public class HeadlessGame extends eng1game {
+
+	private final Difficulty difficulty;
+	private final int ticks;
+	private final int tickRate;
+	private final long seed;
+
+	private GameController controller;
+	/** The screen the game asked to go to when it ended, or null if it has not */
+	private Screens result = null;
+	private int ticksRun = 0;
+	private long elapsedNanos = 0;
+
+	/**
+	 * @param difficulty the difficulty of the game
+	 * @param ticks the most ticks to run
+	 * @param tickRate the number of ticks per simulated second
+	 * @param seed the seed of the game's random numbers, so the same run can be
+	 *        repeated
+	 */
+	public HeadlessGame(Difficulty difficulty, int ticks, int tickRate, long seed) {
+		this.difficulty = difficulty;
+		this.ticks = ticks;
+		this.tickRate = tickRate;
+		this.seed = seed;
+	}
+
+	@Override
+	public void create() {
+		controller = createGame(difficulty, seed);
+		// a replay is run at the rate it was recorded at
+		if (controller.replay == null) controller.timestep.setTickRate(tickRate);
+		float step = controller.timestep.getStep();
+
+		long start = System.nanoTime();
+		while (ticksRun < ticks && !controller.isEnded()) {
+			controller.tick(step);
+			ticksRun++;
+		}
+		elapsedNanos = System.nanoTime() - start;
+		// saved when the game ended, unless it ran out of ticks first
+		if (controller.frameStats != null) controller.frameStats.save(controller, "unfinished");
+
+		Gdx.app.log("HeadlessGame", String.format(
+				"Ran %d ticks (%.1fs of game time) in %.1fms, %.0f ticks per second", ticksRun,
+				ticksRun * step, elapsedNanos / 1e6, ticksRun / (elapsedNanos / 1e9)));
+		Gdx.app.log("HeadlessGame", String.format(
+				"Seed %d, %d objects in the world, score %.0f, result: %s",
+				controller.random.getSeed(), controller.physicsObjects.size(), controller.getGameScore(),
+				result == null ? "still playing" : result));
+		controller.dispose();
+		Gdx.app.exit();
+	}
+
+	/**
+	 * There are no screens to show, so only remember where the game wanted to go
+	 * @param s the screen the game asked for
+	 */
+	@Override
+	public void gotoScreen(Screens s) {
+		result = s;
+	}
+
+	/** @return the game being simulated */
+	public GameController getController() {
+		return controller;
+	}
+
+	/** @return the screen the game asked to go to when it ended, or null */
+	public Screens getResult() {
+		return result;
+	}
+
+	/** @return the number of ticks that were run */
+	public int getTicksRun() {
+		return ticksRun;
+	}
+
+	/** @return how long the ticks took to run in nanoseconds */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.github.annabeths.headless;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.FixedTimestep;
+
+/**
+ * Simulates the game with the headless backend, for soak tests and measuring
+ * how fast the simulation runs without drawing.
+ * <p>
+ * Options:
+ * <ul>
+ * <li>{@code --ticks <n>} the most ticks to run, 10 minutes of game time by
+ * default</li>
+ * <li>{@code --tick-rate <n>} the number of ticks per second of game time</li>
+ * <li>{@code --difficulty <EASY|MEDIUM|HARD>} the difficulty to play on</li>
+ * <li>{@code --seed <n>} the seed of the game's random numbers, 0 by default so
+ * that every run simulates the same game</li>
+ * <li>{@code --record <file>} save the game to a replay file</li>
+ * <li>{@code --replay <file>} play a replay file instead of a new game</li>
+ * <li>{@code --seek <seconds>} how far into the replay to start</li>
+ * <li>{@code --frame-stats <file>} save a histogram of tick times to a JSON
+ * file</li>
+ * <li>{@code --bench [counts]} instead of playing a game, run the
+ * {@link StressBench} for each number of objects in a comma separated list,
+ * like {@code 100,1000}. {@code --ticks} is then the number of ticks timed for
+ * each, {@value #BENCH_TICKS} by default.</li>
+ * <li>{@code --warmup <n>} the ticks run before timing each bench,
+ * {@value #BENCH_WARMUP} by default</li>
+ * </ul>
+ *
+ * @since Assessment 2
+ */
+public class HeadlessLauncher {
+
+	/** The numbers of objects benched if none are given */
+	public static final String BENCH_COUNTS = "0,100,250,500,1000,2000,4000";
+	/** The ticks timed for each bench if not given */
+	public static final int BENCH_TICKS = 240;
+	/** The ticks run before timing each bench if not given */
+	public static final int BENCH_WARMUP = 120;
+
+	public static void main(String[] arg) {
+		List<String> argList = Arrays.asList(arg);
+
+		int tickRate = Integer.parseInt(option(argList, "--tick-rate",
+				String.valueOf(FixedTimestep.TICK_RATE)));
+		if (argList.contains("--bench")) {
+			bench(argList, tickRate);
+			return;
+		}
+		int ticks = Integer.parseInt(option(argList, "--ticks", String.valueOf(tickRate * 600)));
+		Difficulty difficulty = Difficulty
+				.valueOf(option(argList, "--difficulty", Difficulty.MEDIUM.name()).toUpperCase());
+		long seed = Long.parseLong(option(argList, "--seed", "0"));
+		FixedTimestep.TICK_RATE = tickRate;
+
+		HeadlessGame game = new HeadlessGame(difficulty, ticks, tickRate, seed);
+		String record = option(argList, "--record", null);
+		if (record != null) game.setRecordPath(record);
+		String replay = option(argList, "--replay", null);
+		if (replay != null) {
+			game.setReplay(replay, Float.parseFloat(option(argList, "--seek", "0")));
+		}
+		String frameStats = option(argList, "--frame-stats", null);
+		if (frameStats != null) game.setFrameStatsPath(frameStats);
+
+		HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+		new HeadlessApplication(game, config);
+	}
+
+	/** Run the {@link StressBench} with the options given */
+	private static void bench(List<String> argList, int tickRate) {
+		String countList = option(argList, "--bench", BENCH_COUNTS);
+		// the counts can be left out, in which case the next option follows
+		if (countList.startsWith("--")) countList = BENCH_COUNTS;
+		int[] counts = Arrays.stream(countList.split(",")).map(String::trim)
+				.mapToInt(Integer::parseInt).toArray();
+		int ticks = Integer.parseInt(option(argList, "--ticks", String.valueOf(BENCH_TICKS)));
+		int warmup = Integer.parseInt(option(argList, "--warmup", String.valueOf(BENCH_WARMUP)));
+		long seed = Long.parseLong(option(argList, "--seed", "0"));
+
+		StressBench bench = new StressBench(counts, warmup, ticks, tickRate, seed);
+		new HeadlessApplication(bench, new HeadlessApplicationConfiguration());
+	}
+
+	/**
+	 * @return the value after {@code name} in the arguments, or {@code fallback}
+	 *         if it is not there
+	 */
+	private static String option(List<String> argList, String name, String fallback) {
+		int i = argList.indexOf(name);
+		return i >= 0 && i + 1 < argList.size() ? argList.get(i + 1) : fallback;
+	}
+
+}
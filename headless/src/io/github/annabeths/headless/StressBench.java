@@ -0,0 +1,121 @@
+package io.github.annabeths.headless;
+
+import com.badlogic.gdx.Gdx;
+
+import io.github.annabeths.GameScreens.GameController;
+import io.github.annabeths.GameScreens.Screens;
+import io.github.annabeths.GeneralControl.DebugUtils;
+import io.github.annabeths.GeneralControl.Difficulty;
+import io.github.annabeths.GeneralControl.FrameProfiler;
+import io.github.annabeths.GeneralControl.FrameProfiler.Phase;
+import io.github.annabeths.GeneralControl.StressScenario;
+import io.github.annabeths.GeneralControl.eng1game;
+
+/**
+ * Measures how the cost of a tick grows with the number of objects in the
+ * world. For each count, a new game is filled with a
+ * {@link StressScenario#mixed(int) mixed scenario} of that many objects, ticked
+ * for a while to warm up, then ticked again while timed. The ticks per second,
+ * and the average and 99th percentile time of each simulation phase, are
+ * printed as one row per count. The number of objects in the world when timing
+ * starts is printed too. It differs from the number added, as cannonballs land,
+ * mines explode and boats fire while warming up.
+ * <p>
+ * Ticks are run one after another with the same length, and the game is never
+ * shown, so only the simulation is measured. The games can't end part way
+ * through, so one where the player sinks keeps being ticked.
+ *
+ * @since Assessment 2
+ */
+public class StressBench extends eng1game {
+
+	/** The phases that are part of a tick, rather than drawing */
+	private static final Phase[] PHASES = { Phase.ENTITY_UPDATE, Phase.COLLISION,
+			Phase.CLEAR_KILLED };
+
+	private final int[] counts;
+	private final int warmupTicks;
+	private final int ticks;
+	private final int tickRate;
+	private final long seed;
+
+	/**
+	 * @param counts the numbers of objects to add to each game
+	 * @param warmupTicks the ticks to run before timing
+	 * @param ticks the ticks to time. Phase times are taken from the last
+	 *        {@link FrameProfiler#WINDOW} of them.
+	 * @param tickRate the number of ticks per simulated second
+	 * @param seed the seed of every game's random numbers
+	 */
+	public StressBench(int[] counts, int warmupTicks, int ticks, int tickRate, long seed) {
+		this.counts = counts;
+		this.warmupTicks = warmupTicks;
+		this.ticks = ticks;
+		this.tickRate = tickRate;
+		this.seed = seed;
+	}
+
+	@Override
+	public void create() {
+		boolean profiling = DebugUtils.PROFILE_FRAMES;
+		DebugUtils.PROFILE_FRAMES = true;
+
+		StringBuilder header = new StringBuilder(
+				String.format("%8s %8s %10s %9s", "added", "objects", "ticks/s", "ms/tick"));
+		for (Phase phase : PHASES) {
+			header.append(String.format(" %21s", phase.getLabel() + " avg/p99"));
+		}
+		Gdx.app.log("StressBench", header.toString());
+
+		for (int count : counts) {
+			Gdx.app.log("StressBench", run(count));
+		}
+
+		DebugUtils.PROFILE_FRAMES = profiling;
+		Gdx.app.exit();
+	}
+
+	/**
+	 * Fill a game with objects, and time it
+	 * @param count the number of objects to add
+	 * @return a row of the report
+	 */
+	private String run(int count) {
+		GameController gc = new GameController(this, Difficulty.MEDIUM, seed);
+		gc.timestep.setTickRate(tickRate);
+		StressScenario.mixed(count).populate(gc);
+		float step = gc.timestep.getStep();
+
+		for (int i = 0; i < warmupTicks; i++) {
+			gc.tick(step);
+		}
+		int objects = gc.physicsObjects.size();
+
+		FrameProfiler.reset();
+		long start = System.nanoTime();
+		for (int i = 0; i < ticks; i++) {
+			gc.tick(step);
+			// each tick is one frame, as nothing is drawn
+			FrameProfiler.endFrame();
+		}
+		long elapsed = System.nanoTime() - start;
+		gc.dispose();
+
+		StringBuilder row = new StringBuilder(String.format("%8d %8d %10.0f %9.3f", count,
+				objects, ticks / (elapsed / 1e9), elapsed / 1e6 / ticks));
+		for (Phase phase : PHASES) {
+			row.append(String.format(" %10.3f/%10.3f", FrameProfiler.getAverageMs(phase),
+					FrameProfiler.getP99Ms(phase)));
+		}
+		return row.toString();
+	}
+
+	/**
+	 * There are no screens to show, so the games can't end
+	 * @param s the screen the game asked for
+	 */
+	@Override
+	public void gotoScreen(Screens s) {
+	}
+
+}